@@ -0,0 +1,76 @@
+/*
+ * Filename:    ACOIterationEvent.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the ACOIterationEvent class. See class header for more
+ * information.
+ */
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * An ACOIterationEvent is a JDK Flight Recorder event covering one iteration
+ * of an Ant Colony Optimization solver whose options ask for metrics, with
+ * the figures SolverMetrics collected over it. Its fields are only filled in
+ * while a recording has the event enabled.
+ */
+@Name( "tsp.ACOIteration" )
+@Label( "ACO Iteration" )
+@Category( { "TSP", "Ant Colony Optimization" } )
+@Description( "One iteration of an Ant Colony Optimization solver" )
+class ACOIterationEvent extends Event
+{
+    @Label( "Iteration" )
+    int iteration;
+
+    @Label( "Iteration-Best Length" )
+    double iteration_best_length;
+
+    @Label( "Best Length" )
+    double best_length;
+
+    @Label( "Construction" )
+    @Timespan( Timespan.NANOSECONDS )
+    long construction;
+
+    @Label( "Local Search" )
+    @Description( "Total over every ant" )
+    @Timespan( Timespan.NANOSECONDS )
+    long local_search;
+
+    @Label( "Evaluation" )
+    @Timespan( Timespan.NANOSECONDS )
+    long evaluation;
+
+    @Label( "Evaporation" )
+    @Timespan( Timespan.NANOSECONDS )
+    long evaporation;
+
+    @Label( "Deposit" )
+    @Timespan( Timespan.NANOSECONDS )
+    long deposit;
+
+    @Label( "Refresh" )
+    @Timespan( Timespan.NANOSECONDS )
+    long refresh;
+
+    @Label( "Ant Steps" )
+    long ant_steps;
+
+    @Label( "Candidate Fallbacks" )
+    long candidate_fallbacks;
+
+    @Label( "Uniform Samples" )
+    long uniform_samples;
+
+    @Label( "Allocated" )
+    @DataAmount
+    long allocated_bytes;
+}
@@ -0,0 +1,42 @@
+/*
+ * Filename:    ACOListener.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the ACOListener interface. See interface header for more
+ * information.
+ */
+
+/**
+ * An ACOListener follows the progress of an Ant Colony Optimization solver. It
+ * is called once after every iteration, on the thread running the solver,
+ * and reads what it needs from the solver: the iteration number, the lengths
+ * of the iteration-best and best-so-far tours, the elapsed time, and the
+ * pheromone statistics, which are only computed if asked for. A listener may
+ * stop the run early with ACOSolver.stop().
+ *
+ * Listeners are added to the options of a run, or to a solver itself. A
+ * solver without listeners does no work for them beyond checking that there
+ * are none.
+ */
+interface ACOListener
+{
+    /**
+     * Called at the beginning of every run, after the initial pheromone has
+     * been set.
+     *
+     * @param solver the solver that is starting
+     */
+    default void runStarted ( ACOSolver solver )
+    {
+    }
+
+    /**
+     * Called after every iteration, once the pheromone and path weights have
+     * been updated.
+     *
+     * @param solver the solver, which must not be changed except by stop()
+     */
+    void iterationCompleted ( ACOSolver solver );
+}
@@ -0,0 +1,371 @@
+/*
+ * Filename:    ACOOptions.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the ACOOptions class. See class header for more
+ * information.
+ */
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * An ACOOptions holds the settings of a run of one of the Ant Colony
+ * Optimization solvers in TSPAlgorithms. A newly constructed set of options
+ * reproduces the default behaviour of the solvers.
+ */
+class ACOOptions
+{
+    /**
+     * Where a solver applies local search (2-opt and Or-opt) to its tours.
+     */
+    public enum LocalSearchMode
+    {
+        /* tours are not improved */
+        NONE,
+
+        /* only the final tour is improved, just before it is returned */
+        FINAL,
+
+        /* every ant's tour is improved as soon as it is constructed, before
+         * the tours are measured and lay down pheromone */
+        EACH_ANT
+    }
+
+    /**
+     * How a solver stores the pheromone and the path weights.
+     */
+    public enum PheromoneStorage
+    {
+        /* DENSE up to SPARSE_THRESHOLD locations, and SPARSE above it */
+        AUTO,
+
+        /* a value for every path, in n x n matrices */
+        DENSE,
+
+        /* a value only for the paths to the candidates of each location and
+         * the few other paths that receive pheromone, in O(n * k) memory;
+         * distances are computed when needed rather than stored */
+        SPARSE
+    }
+
+    /* the number of locations above which AUTO storage is sparse */
+    public static final int SPARSE_THRESHOLD = 2000;
+
+    /* the greatest number of locations dense storage can hold; the n x n
+     * matrices are arrays indexed by an int, so n^2 must fit in one */
+    public static final int MAX_DENSE_SIZE = 46340;
+
+    /* the default number of ants with sparse storage; one ant per location
+     * is too many once there are enough locations to need it */
+    public static final int DEFAULT_SPARSE_NUM_ANTS = 25;
+
+    /* the default number of candidates of each location */
+    public static final int DEFAULT_NUM_CANDIDATES = 20;
+
+    /* the default maximum number of iterations of a run */
+    public static final int DEFAULT_MAX_ITERATIONS = 1000;
+
+    /* the number of times the ACO algorithm has to produce the same tour for
+     * every ant in a row to declare that the algorithm has stagnated */
+    public static final int STAGNATION_THRESHHOLD = 10;
+
+    /* the pool to construct ant tours in, or null to construct them one after
+     * another on the calling thread */
+    private ForkJoinPool pool = null;
+
+    /* the number of candidates of each location the ants choose from, or 0
+     * to choose from every location */
+    private int num_candidates = DEFAULT_NUM_CANDIDATES;
+
+    /* the number of ants sent out in each iteration, or 0 for the default */
+    private int num_ants = 0;
+
+    /* how the pheromone and the path weights are stored */
+    private PheromoneStorage storage = PheromoneStorage.AUTO;
+
+    /* the distances between the locations, or null for the solver to
+     * provide its own */
+    private DistanceProvider distances = null;
+
+    /* the seed of the random number generators of the ants */
+    private long seed = System.nanoTime();
+
+    /* where local search is applied */
+    private LocalSearchMode local_search = LocalSearchMode.NONE;
+
+    /* decides when the solver stops, or null for the default */
+    private TerminationPolicy termination = null;
+
+    /* follow the progress of the solver */
+    private ACOListener[] listeners = new ACOListener[ 0 ];
+
+    /* does the solver collect metrics? */
+    private boolean metrics_enabled = false;
+
+    /**
+     * Sets the pool to construct the ant tours of each iteration in. The ants
+     * are split evenly over the parallelism of the pool, and every iteration
+     * waits for all of them before updating the pheromone.
+     *
+     * @param new_pool the pool to use, or null to construct the ant tours
+     * sequentially on the calling thread
+     */
+    public void setPool ( ForkJoinPool new_pool )
+    {
+        this.pool = new_pool;
+    }
+
+    /**
+     * Sets the seed of the random number generators of the ants. Two
+     * sequential runs with the same seed produce the same tour.
+     *
+     * @param new_seed the new seed
+     */
+    public void setSeed ( long new_seed )
+    {
+        this.seed = new_seed;
+    }
+
+    /**
+     * Sets the number of nearest locations of each location that the ants
+     * choose from. An ant only moves to a location outside this list once
+     * every location on it has been visited. Values between 10 and 30 work
+     * well; 0 makes the ants choose from every location at every step.
+     *
+     * @param new_num_candidates the new number of candidates of each location
+     */
+    public void setNumCandidates ( int new_num_candidates )
+    {
+        this.num_candidates = new_num_candidates;
+    }
+
+    /**
+     * Sets the number of ants sent out in each iteration. By default, there
+     * is one ant per location with dense storage, and DEFAULT_SPARSE_NUM_ANTS
+     * ants (or one per location, if there are fewer) with sparse storage.
+     *
+     * @param new_num_ants the new number of ants, or 0 for the default
+     */
+    public void setNumAnts ( int new_num_ants )
+    {
+        this.num_ants = new_num_ants;
+    }
+
+    /**
+     * Sets how the solver stores the pheromone and the path weights. Dense
+     * storage takes O(n^2) memory, which rules it out for instances much
+     * larger than SPARSE_THRESHOLD locations, and cannot hold more than
+     * MAX_DENSE_SIZE locations at all; sparse storage takes O(n * k)
+     * memory, but needs candidate lists (DEFAULT_NUM_CANDIDATES are used if
+     * the number of candidates is 0), and an ant that has visited every
+     * candidate of its location moves to the nearest unvisited location
+     * rather than the one with the greatest weight.
+     *
+     * @param new_storage the new storage
+     */
+    public void setPheromoneStorage ( PheromoneStorage new_storage )
+    {
+        this.storage = new_storage;
+    }
+
+    /**
+     * Sets the distances between the locations for the solver to use, such
+     * as an OffHeapDistanceMatrix shared by several runs over the same
+     * instance, which pays off when distances are costly to compute, as
+     * with GEO, or a RowCacheDistances with a fixed memory budget. By
+     * default, the solver computes a DistanceMatrix with dense storage, and
+     * computes each distance from the coordinates when it is needed with
+     * sparse storage.
+     *
+     * @param new_distances the distances between the locations, or null for
+     * the default
+     */
+    public void setDistances ( DistanceProvider new_distances )
+    {
+        this.distances = new_distances;
+    }
+
+    /**
+     * Sets the policy that decides when the solver stops. By default, the
+     * solver stops after DEFAULT_MAX_ITERATIONS iterations, or once every ant
+     * has constructed the same tour STAGNATION_THRESHHOLD iterations in a
+     * row, whichever comes first.
+     *
+     * @param new_termination the new termination policy, or null for the
+     * default
+     */
+    public void setTermination ( TerminationPolicy new_termination )
+    {
+        this.termination = new_termination;
+    }
+
+    /**
+     * Adds a listener that follows the progress of every solver constructed
+     * with these options; see ACOListener for more information.
+     *
+     * @param listener the listener to add
+     */
+    public void addListener ( ACOListener listener )
+    {
+        this.listeners = Arrays.copyOf( this.listeners,
+            this.listeners.length + 1 );
+        this.listeners[ this.listeners.length - 1 ] = listener;
+    }
+
+    /**
+     * Sets whether the solver collects metrics: the time spent in each phase
+     * of an iteration, counts of ant steps and fallbacks, and the bytes
+     * allocated, read with ACOSolver.getMetrics() and emitted as an
+     * ACOIterationEvent to JDK Flight Recorder after every iteration; see
+     * SolverMetrics for more information. A solver without metrics measures
+     * nothing.
+     *
+     * @param new_metrics_enabled should the solver collect metrics?
+     */
+    public void setMetricsEnabled ( boolean new_metrics_enabled )
+    {
+        this.metrics_enabled = new_metrics_enabled;
+    }
+
+    /**
+     * Sets where the solver applies local search to its tours. Improving
+     * every ant's tour costs more per iteration, but usually reaches a given
+     * tour quality in far fewer iterations.
+     *
+     * @param new_local_search the new local search mode
+     */
+    public void setLocalSearch ( LocalSearchMode new_local_search )
+    {
+        this.local_search = new_local_search;
+    }
+
+    /**
+     * Returns the pool to construct ant tours in.
+     *
+     * @return the pool to construct ant tours in, or null if they are
+     * constructed sequentially
+     */
+    public ForkJoinPool getPool ()
+    {
+        return this.pool;
+    }
+
+    /**
+     * Returns the seed of the random number generators of the ants.
+     *
+     * @return the seed of the random number generators of the ants
+     */
+    public long getSeed ()
+    {
+        return this.seed;
+    }
+
+    /**
+     * Returns the number of candidates of each location the ants choose from.
+     *
+     * @return the number of candidates of each location, or 0 if the ants
+     * choose from every location
+     */
+    public int getNumCandidates ()
+    {
+        return this.num_candidates;
+    }
+
+    /**
+     * Returns the number of ants sent out in each iteration.
+     *
+     * @return the number of ants, or 0 for the default
+     */
+    public int getNumAnts ()
+    {
+        return this.num_ants;
+    }
+
+    /**
+     * Returns how the solver stores the pheromone and the path weights.
+     *
+     * @return the pheromone storage
+     */
+    public PheromoneStorage getPheromoneStorage ()
+    {
+        return this.storage;
+    }
+
+    /**
+     * Returns the distances between the locations for the solver to use.
+     *
+     * @return the distances between the locations, or null if the solver
+     * provides its own
+     */
+    public DistanceProvider getDistances ()
+    {
+        return this.distances;
+    }
+
+    /**
+     * Returns whether a solver over a given number of locations stores the
+     * pheromone and the path weights sparsely.
+     *
+     * @param n the number of locations
+     *
+     * @return is the storage sparse?
+     */
+    public boolean isSparse ( int n )
+    {
+        return ( this.storage == PheromoneStorage.SPARSE )
+            || ( this.storage == PheromoneStorage.AUTO
+            && n > SPARSE_THRESHOLD );
+    }
+
+    /**
+     * Returns where the solver applies local search to its tours.
+     *
+     * @return the local search mode
+     */
+    public LocalSearchMode getLocalSearch ()
+    {
+        return this.local_search;
+    }
+
+    /**
+     * Returns the policy that decides when the solver stops. The default
+     * policy keeps state, so a new one is returned on every call, and runs
+     * sharing these options do not share it.
+     *
+     * @return the termination policy
+     */
+    public TerminationPolicy getTermination ()
+    {
+        if ( this.termination == null )
+        {
+            return TerminationPolicy.any(
+                TerminationPolicy.iterations( DEFAULT_MAX_ITERATIONS ),
+                TerminationPolicy.stagnation( STAGNATION_THRESHHOLD ) );
+        }
+
+        return this.termination;
+    }
+
+    /**
+     * Returns whether the solver collects metrics.
+     *
+     * @return does the solver collect metrics?
+     */
+    public boolean isMetricsEnabled ()
+    {
+        return this.metrics_enabled;
+    }
+
+    /**
+     * Returns the listeners that follow the progress of the solver, in the
+     * order they were added.
+     *
+     * @return a copy of the listeners
+     */
+    public ACOListener[] getListeners ()
+    {
+        return this.listeners.clone();
+    }
+}
@@ -0,0 +1,804 @@
+/*
+ * Filename:    ACOSolver.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the ACOSolver class. See class header for more
+ * information.
+ */
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * An ACOSolver runs the main loop shared by the Ant Colony Optimization
+ * solvers: in every iteration, the ants construct their tours from the current
+ * path weights, the tours are measured, and the pheromone is updated from
+ * them. Subclasses decide how the pheromone is initialized and updated.
+ */
+abstract class ACOSolver
+{
+    /* the first bytes of a checkpoint ("ACOC"), and the version of its
+     * format */
+    private static final int CHECKPOINT_MAGIC = 0x41434F43;
+    private static final int CHECKPOINT_VERSION = 1;
+
+    /* the locations to find a tour through */
+    protected final CoordinateSet coords;
+
+    /* the number of locations */
+    protected final int n;
+
+    /* the number of ants to send out in one iteration */
+    protected final int m;
+
+    /* the options of this run */
+    protected final ACOOptions options;
+
+    /* the distances between all of the locations; those of the options, a
+     * DistanceMatrix, or the coordinates themselves with sparse storage */
+    protected final DistanceProvider dists;
+
+    /* the pheromone along all of the paths between the locations */
+    protected final PheromoneStore pheromones;
+
+    /* the weight of each path, refreshed whenever the pheromone changes */
+    protected final ChoiceInfo choice_info;
+
+    /* the nearest locations of each location, which the ants choose from
+     * first, or null if they choose from every location */
+    protected final CandidateLists cands;
+
+    /* the candidate lists used by local search, or null if there is no local
+     * search */
+    protected final CandidateLists ls_cands;
+
+    /* the ants, which construct their tours in the pool of the options */
+    protected final AntColony colony;
+
+    /* the length of a tour constructed by the nearest neighbor solution */
+    protected final double C_nn;
+
+    /* the length of the tour of each ant in the current iteration */
+    protected final double[] ant_tour_lengths;
+
+    /* the index of the ant with the shortest tour in the current iteration */
+    protected int iter_best_ant = -1;
+
+    /* the shortest tour so far, and its length */
+    protected final Tour best_tour;
+    protected double best_tour_length = Double.POSITIVE_INFINITY;
+
+    /* the number of iterations completed so far */
+    protected int iteration = 0;
+
+    /* the number of iterations completed when the shortest tour so far was
+     * found */
+    protected int best_iteration = 0;
+
+    /* the time at which the current run started, in nanoseconds */
+    private long start_nanos;
+
+    /* follow the progress of the run; empty if there are none */
+    private ACOListener[] listeners;
+
+    /* the summary of the pheromone of the current iteration, or null if it
+     * has not been asked for since the iteration was completed */
+    private PheromoneStats pheromone_stats = null;
+
+    /* has the run been asked to stop? */
+    private volatile boolean stop_requested = false;
+
+    /* where the time and memory of each iteration go, or null if the options
+     * do not ask for metrics */
+    private final SolverMetrics metrics;
+
+    /* the time the current phase started, and the bytes the solver thread
+     * had allocated when the current iteration's tours were constructed,
+     * while there are metrics */
+    private long phase_start;
+    private long bytes_start;
+
+    /* the time the run restored from a checkpoint had taken, in nanoseconds,
+     * or -1 if the next run starts from the initial pheromone */
+    private long restored_nanos = -1;
+
+    /**
+     * Constructs a new solver over the specified locations.
+     *
+     * @param coords the locations to find a tour through
+     * @param options the options of this run
+     * @param alpha the exponential weight to give the pheromone value
+     * @param beta the exponential weight to give the length value
+     */
+    protected ACOSolver ( CoordinateSet coords, ACOOptions options,
+        double alpha, double beta )
+    {
+        this.coords = coords;
+        this.n = coords.getSize();
+        this.options = options;
+
+        /* is the pheromone stored sparsely? */
+        boolean sparse = options.isSparse( n );
+        if ( !sparse && n > ACOOptions.MAX_DENSE_SIZE )
+        {
+            throw new IllegalArgumentException( "dense storage holds at most "
+                + ACOOptions.MAX_DENSE_SIZE + " locations, " + n + " given" );
+        }
+
+        this.m = ( options.getNumAnts() > 0 ) ? options.getNumAnts()
+            : sparse ? Math.min( n, ACOOptions.DEFAULT_SPARSE_NUM_ANTS ) : n;
+
+        /* the tree over the locations, which builds the nearest neighbor tour
+         * and, with sparse storage, leads ants that have visited every
+         * candidate to the nearest unvisited location */
+        KDTree tree = new KDTree( coords );
+
+        /* a single nearest neighbor tour is enough to set the scale of the
+         * pheromone, so the best over every start is not needed */
+        this.C_nn = TSPAlgorithms.get_greedy_start( coords, 0, tree )
+            .getLength();
+
+        /* sparse storage keeps the paths to the candidates, so it needs
+         * candidate lists */
+        int num_cands = ( sparse && options.getNumCandidates() == 0 )
+            ? ACOOptions.DEFAULT_NUM_CANDIDATES : options.getNumCandidates();
+        this.cands = ( num_cands > 0 ) ? new CandidateLists( coords, num_cands )
+            : null;
+
+        /* the distances given by the options are used as they are */
+        DistanceProvider given = options.getDistances();
+        if ( given != null && given.getSize() != n )
+        {
+            throw new IllegalArgumentException( "distances between "
+                + given.getSize() + " locations given for " + n
+                + " locations" );
+        }
+
+        /* nothing of size n^2 is allocated on the heap with sparse
+         * storage */
+        if ( sparse )
+        {
+            this.dists = ( given != null ) ? given : coords;
+            this.pheromones = new SparsePheromones( cands, 0 );
+            this.choice_info = new SparseChoiceInfo( dists, cands, alpha,
+                beta );
+        }
+        else
+        {
+            this.dists = ( given != null ) ? given
+                : new DistanceMatrix( coords );
+            this.pheromones = new PheromoneMatrix( n, 0 );
+            this.choice_info = new ChoiceMatrix( dists, cands, alpha, beta );
+        }
+
+        this.ls_cands = ( options.getLocalSearch()
+            == ACOOptions.LocalSearchMode.NONE ) ? null
+            : ( cands != null ) ? cands
+            : new CandidateLists( coords, ACOOptions.DEFAULT_NUM_CANDIDATES );
+        this.colony = new AntColony( n, m, cands, dists, ls_cands,
+            sparse ? tree : null, options );
+
+        this.ant_tour_lengths = new double[ m ];
+        this.best_tour = new Tour( dists );
+        this.listeners = options.getListeners();
+
+        this.metrics = options.isMetricsEnabled()
+            ? new SolverMetrics( colony.getNumWorkers() ) : null;
+        this.colony.setMetrics( this.metrics );
+    }
+
+    /**
+     * Sets the initial pheromone along every path.
+     */
+    protected abstract void initPheromones ();
+
+    /**
+     * Updates the pheromone along the paths after the ants of the current
+     * iteration have constructed and measured their tours.
+     */
+    protected abstract void updatePheromones ();
+
+    /**
+     * Adds a listener that follows the progress of this solver, after those
+     * of its options.
+     *
+     * @param listener the listener to add
+     */
+    public void addListener ( ACOListener listener )
+    {
+        this.listeners = Arrays.copyOf( this.listeners,
+            this.listeners.length + 1 );
+        this.listeners[ this.listeners.length - 1 ] = listener;
+    }
+
+    /**
+     * Asks the solver to stop after the iteration in progress, as if its
+     * termination policy had been triggered. This may be called from any
+     * thread, and is forgotten when the next run starts.
+     */
+    public void stop ()
+    {
+        this.stop_requested = true;
+    }
+
+    /**
+     * Runs the solver until the termination policy of its options stops it,
+     * and returns the shortest tour found.
+     *
+     * @return the minimum-length Hamiltonian tour through the graph found by
+     * the ants, measured by the coordinate set of this solver
+     */
+    public Tour solve ()
+    {
+        return this.solve( this.options.getTermination() );
+    }
+
+    /**
+     * Runs the solver until a given termination policy stops it, and returns
+     * the shortest tour found.
+     *
+     * @param termination decides when to stop, in place of the termination
+     * policy of the options
+     *
+     * @return the minimum-length Hamiltonian tour through the graph found by
+     * the ants, measured by the coordinate set of this solver
+     */
+    public Tour solve ( TerminationPolicy termination )
+    {
+        /* has the termination policy been triggered? */
+        boolean terminated = false;
+
+        this.start();
+        termination.start( this );
+
+        /* continue sending ants until the termination policy is triggered or
+         * the solver is asked to stop */
+        while ( !terminated )
+        {
+            this.iterate();
+
+            terminated = termination.shouldTerminate( this )
+                || this.stop_requested;
+        }
+
+        /* polish the shortest tour */
+        if ( this.options.getLocalSearch()
+            == ACOOptions.LocalSearchMode.FINAL )
+        {
+            new LocalSearch( this.dists, this.ls_cands ).improve(
+                this.best_tour );
+            this.best_tour_length = this.best_tour.getLength();
+        }
+
+        /* return the ant's tour with minimum distance; it is measured by the
+         * coordinates, so that it does not keep the distance matrix alive */
+        return new Tour( this.coords, this.best_tour.toArray() );
+    }
+
+    /**
+     * Starts a run: sets the initial pheromone and path weights, and starts
+     * the clock. This is called by solve(); it is only needed separately to
+     * run iterations one at a time with iterate().
+     */
+    public void start ()
+    {
+        this.start_nanos = System.nanoTime()
+            - Math.max( this.restored_nanos, 0 );
+        this.stop_requested = false;
+        this.pheromone_stats = null;
+
+        /* set the initial pheromone, unless it was restored from a
+         * checkpoint, and the initial path weights */
+        if ( this.restored_nanos < 0 )
+        {
+            this.initPheromones();
+        }
+        this.restored_nanos = -1;
+        this.choice_info.refresh( this.pheromones );
+
+        for ( ACOListener listener : this.listeners )
+        {
+            listener.runStarted( this );
+        }
+    }
+
+    /**
+     * Runs one iteration: the ants construct their tours, the tours are
+     * measured, and the pheromone and path weights are updated from them.
+     */
+    public void iterate ()
+    {
+        if ( this.metrics != null )
+        {
+            this.metrics.iterationStarted();
+            this.phase_start = System.nanoTime();
+        }
+
+        /* send out each of the ants in an iteration; the pheromone is only
+         * updated once they have all returned */
+        this.colony.constructTours( this.choice_info );
+
+        /* the allocations of the construction are counted by the workers */
+        if ( this.metrics != null )
+        {
+            this.endPhase( SolverMetrics.Phase.CONSTRUCTION );
+            this.metrics.addAntSteps( ( long ) this.m * ( this.n - 1 ) );
+            this.bytes_start = SolverMetrics.getThreadAllocatedBytes();
+        }
+
+        /* measure the tours and remember the shortest */
+        this.evaluateTours();
+        this.endPhase( SolverMetrics.Phase.EVALUATION );
+
+        /* update the pheromone from the tours */
+        this.updatePheromones();
+
+        /* the pheromone has changed, so recompute the path weights */
+        this.choice_info.refresh( this.pheromones );
+        this.endPhase( SolverMetrics.Phase.REFRESH );
+
+        this.iteration++;
+        this.pheromone_stats = null;
+
+        if ( this.metrics != null )
+        {
+            this.metrics.addSolverBytes(
+                SolverMetrics.getThreadAllocatedBytes() - this.bytes_start );
+            this.metrics.iterationCompleted( this.iteration,
+                this.getIterationBestLength(), this.best_tour_length );
+        }
+
+        for ( ACOListener listener : this.listeners )
+        {
+            listener.iterationCompleted( this );
+        }
+    }
+
+    /**
+     * Copies the state of the current run for a checkpoint, from which a
+     * solver of the same kind over the same locations and options can resume
+     * it with readCheckpoint(). Only the raw state is copied here; it is
+     * encoded when the copy is written, which may be done from any thread
+     * while the run goes on. The checkpoint holds, in order:
+     *
+     * - a header: the magic number, the format version, the class of the
+     *   solver, the number of locations, a fingerprint of their coordinates,
+     *   the number of ants, and whether the pheromone is sparse;
+     * - the iteration counters and the time the run has taken;
+     * - the shortest tour so far and its length;
+     * - the state of the random number generator of every worker;
+     * - the state of the subclass, written by writeState();
+     * - the pheromone, copied by PheromoneStore.copyState().
+     *
+     * This must be called between iterations, such as from a listener.
+     *
+     * @return the copy of the state
+     *
+     * @throws IOException if the state of the subclass cannot be written
+     */
+    public StateCopy copyCheckpoint () throws IOException
+    {
+        final String kind = this.getClass().getName();
+        final CoordinateSet coords = this.coords;
+        final int size = this.n;
+        final int num_ants = this.m;
+        final boolean sparse = this.pheromones instanceof SparsePheromones;
+        final int iteration = this.iteration;
+        final int best_iteration = this.best_iteration;
+        final long elapsed_nanos = this.getElapsedNanos();
+
+        /* the shortest tour so far, if there is one */
+        final double best_length = this.best_tour_length;
+        final int[] best_order = ( best_length != Double.POSITIVE_INFINITY )
+            ? this.best_tour.getOrder().clone() : null;
+
+        final long[] rng_states = new long[ this.colony.getNumWorkers() ];
+        for ( int w = 0; w < rng_states.length; w++ )
+        {
+            rng_states[ w ] = this.colony.getRandom( w ).getState();
+        }
+
+        /* the state of a subclass is a few numbers, so it is written now */
+        ByteArrayOutputStream sub_bytes = new ByteArrayOutputStream();
+        this.writeState( new DataOutputStream( sub_bytes ) );
+        final byte[] sub_state = sub_bytes.toByteArray();
+
+        final StateCopy pheromone_state = this.pheromones.copyState();
+
+        return out -> {
+            out.writeInt( CHECKPOINT_MAGIC );
+            out.writeInt( CHECKPOINT_VERSION );
+            out.writeUTF( kind );
+            out.writeInt( size );
+            out.writeLong( coords.getFingerprint() );
+            out.writeInt( num_ants );
+            out.writeBoolean( sparse );
+
+            out.writeInt( iteration );
+            out.writeInt( best_iteration );
+            out.writeLong( elapsed_nanos );
+
+            out.writeDouble( best_length );
+            if ( best_order != null )
+            {
+                out.writeInts( best_order, 0, best_order.length );
+            }
+
+            out.writeInt( rng_states.length );
+            out.writeLongs( rng_states, 0, rng_states.length );
+
+            out.write( sub_state );
+            pheromone_state.write( out );
+        };
+    }
+
+    /**
+     * Restores the state of a run from a checkpoint copied by
+     * copyCheckpoint(), so that the next call to solve() or start()
+     * continues it rather than starting over. The iteration counter and
+     * elapsed time carry on from the checkpoint, but termination policies
+     * that keep state start afresh. The random number generators are only
+     * restored exactly if the colony has as many workers as when the
+     * checkpoint was written; otherwise as many as there are in both are
+     * restored.
+     *
+     * @param in where to read the checkpoint from
+     *
+     * @throws IOException if the checkpoint cannot be read, or was written
+     * by a different kind of solver or over different locations
+     */
+    public void readCheckpoint ( DataInput in ) throws IOException
+    {
+        if ( in.readInt() != CHECKPOINT_MAGIC )
+        {
+            throw new IOException( "not a checkpoint" );
+        }
+        int version = in.readInt();
+        if ( version != CHECKPOINT_VERSION )
+        {
+            throw new IOException( "checkpoint version " + version
+                + " is not supported" );
+        }
+        String kind = in.readUTF();
+        if ( !kind.equals( this.getClass().getName() ) )
+        {
+            throw new IOException( "checkpoint of a " + kind
+                + " cannot resume a " + this.getClass().getName() );
+        }
+        if ( in.readInt() != this.n
+            || in.readLong() != this.coords.getFingerprint() )
+        {
+            throw new IOException( "checkpoint is of different locations" );
+        }
+        if ( in.readInt() != this.m )
+        {
+            throw new IOException( "checkpoint has a different number of "
+                + "ants" );
+        }
+        if ( in.readBoolean()
+            != ( this.pheromones instanceof SparsePheromones ) )
+        {
+            throw new IOException( "checkpoint has a different pheromone "
+                + "storage" );
+        }
+
+        this.iteration = in.readInt();
+        this.best_iteration = in.readInt();
+        long elapsed_nanos = in.readLong();
+
+        /* the shortest tour so far, if there is one */
+        this.best_tour_length = in.readDouble();
+        if ( this.best_tour_length != Double.POSITIVE_INFINITY )
+        {
+            int[] order = this.best_tour.getOrder();
+            for ( int tour_i = 0; tour_i < this.n; tour_i++ )
+            {
+                order[ tour_i ] = in.readInt();
+            }
+            this.best_tour.rebuild();
+        }
+
+        /* restore the generators the colony has, and skip the others */
+        int num_workers = in.readInt();
+        for ( int w = 0; w < num_workers; w++ )
+        {
+            long state = in.readLong();
+            if ( w < this.colony.getNumWorkers() )
+            {
+                this.colony.getRandom( w ).setState( state );
+            }
+        }
+
+        this.readState( in );
+        this.pheromones.readState( in );
+
+        this.restored_nanos = elapsed_nanos;
+    }
+
+    /**
+     * Writes the state of a subclass that a checkpoint must hold beyond what
+     * copyCheckpoint() copies itself. This is called while the solver waits,
+     * so it should only write a few numbers. By default, nothing is written.
+     *
+     * @param out where to write the state
+     *
+     * @throws IOException if the state cannot be written
+     */
+    protected void writeState ( DataOutput out ) throws IOException
+    {
+    }
+
+    /**
+     * Restores the state of a subclass written by writeState(). By default,
+     * nothing is read.
+     *
+     * @param in where to read the state from
+     *
+     * @throws IOException if the state cannot be read
+     */
+    protected void readState ( DataInput in ) throws IOException
+    {
+    }
+
+    /**
+     * Adds the time since the end of the previous phase of the current
+     * iteration to a phase, if the options ask for metrics. Subclasses call
+     * this from updatePheromones() to split its time between phases.
+     *
+     * @param phase the phase that has just ended
+     */
+    protected final void endPhase ( SolverMetrics.Phase phase )
+    {
+        if ( this.metrics != null )
+        {
+            long now = System.nanoTime();
+            this.metrics.addNanos( phase, now - this.phase_start );
+            this.phase_start = now;
+        }
+    }
+
+    /**
+     * Returns the metrics of every iteration completed so far.
+     *
+     * @return a snapshot of the metrics, or null if the options do not ask
+     * for metrics
+     */
+    public MetricsSnapshot getMetrics ()
+    {
+        return ( this.metrics != null ) ? this.metrics.snapshot() : null;
+    }
+
+    /**
+     * Returns the number of iterations completed so far.
+     *
+     * @return the number of iterations completed so far
+     */
+    public int getIteration ()
+    {
+        return this.iteration;
+    }
+
+    /**
+     * Returns the time that has passed since the current run started.
+     *
+     * @return the time since the run started, in nanoseconds
+     */
+    public long getElapsedNanos ()
+    {
+        return System.nanoTime() - this.start_nanos;
+    }
+
+    /**
+     * Returns the length of the shortest tour found so far.
+     *
+     * @return the length of the shortest tour so far
+     */
+    public double getBestTourLength ()
+    {
+        return this.best_tour_length;
+    }
+
+    /**
+     * Returns a copy of the shortest tour found so far, measured by the
+     * coordinate set of this solver.
+     *
+     * @return the shortest tour so far, or null if no iteration has been
+     * completed
+     */
+    public Tour getBestTour ()
+    {
+        return ( this.best_tour_length == Double.POSITIVE_INFINITY ) ? null
+            : new Tour( this.coords, this.best_tour.toArray() );
+    }
+
+    /**
+     * Returns the length of the shortest tour of the last iteration.
+     *
+     * @return the length of the shortest tour of the last iteration, or
+     * infinity if no iteration has been completed
+     */
+    public double getIterationBestLength ()
+    {
+        return ( this.iter_best_ant < 0 ) ? Double.POSITIVE_INFINITY
+            : this.ant_tour_lengths[ this.iter_best_ant ];
+    }
+
+    /**
+     * Returns the number of iterations completed since the shortest tour so
+     * far was found.
+     *
+     * @return the number of iterations since the last improvement
+     */
+    public int getIterationsSinceImprovement ()
+    {
+        return this.iteration - this.best_iteration;
+    }
+
+    /**
+     * Returns the colony of this solver, holding the tours of the last
+     * iteration.
+     *
+     * @return the colony of this solver
+     */
+    public AntColony getColony ()
+    {
+        return this.colony;
+    }
+
+    /**
+     * Returns the average lambda-branching factor of the pheromone; see
+     * TerminationPolicy.branchingFactor(). Only the paths to candidates are
+     * considered when this solver uses candidate lists.
+     *
+     * @param lambda the proportion of the pheromone range to count above
+     *
+     * @return the average lambda-branching factor over all of the locations
+     */
+    public double getBranchingFactor ( double lambda )
+    {
+        /* the number of paths leaving each location that are considered */
+        int num_paths = ( this.cands != null ) ? this.cands.getNumCandidates()
+            : this.n - 1;
+
+        /* the total branching factor over all of the locations */
+        long total = 0;
+
+        /* go through each of the locations */
+        for ( int row = 0; row < this.n; row++ )
+        {
+            /* the least and greatest pheromone on the paths leaving it */
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for ( int i = 0; i < num_paths; i++ )
+            {
+                double tau = this.pheromones.getPheromone( row,
+                    this.getPathEnd( row, i ) );
+                min = Math.min( min, tau );
+                max = Math.max( max, tau );
+            }
+
+            /* the pheromone a path must carry to be counted */
+            double cutoff = min + lambda * ( max - min );
+
+            /* count the paths above the cutoff */
+            for ( int i = 0; i < num_paths; i++ )
+            {
+                if ( this.pheromones.getPheromone( row,
+                    this.getPathEnd( row, i ) ) >= cutoff )
+                {
+                    total++;
+                }
+            }
+        }
+
+        return ( double ) total / this.n;
+    }
+
+    /**
+     * Returns a summary of the pheromone of the current iteration. It is
+     * computed in O(n * k) time (O(n^2) without candidate lists) the first
+     * time it is asked for in an iteration, and kept until the next.
+     *
+     * @return the summary of the pheromone
+     */
+    public PheromoneStats getPheromoneStats ()
+    {
+        if ( this.pheromone_stats != null )
+        {
+            return this.pheromone_stats;
+        }
+
+        /* the number of paths leaving each location that are considered */
+        int num_paths = ( this.cands != null ) ? this.cands.getNumCandidates()
+            : this.n - 1;
+
+        /* the least, greatest and total pheromone on the paths considered */
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        double total = 0;
+
+        /* go through each of the paths considered */
+        for ( int row = 0; row < this.n; row++ )
+        {
+            for ( int i = 0; i < num_paths; i++ )
+            {
+                double tau = this.pheromones.getPheromone( row,
+                    this.getPathEnd( row, i ) );
+                min = Math.min( min, tau );
+                max = Math.max( max, tau );
+                total += tau;
+            }
+        }
+
+        this.pheromone_stats = new PheromoneStats( this.iteration, min, max,
+            total / Math.max( 1, ( long ) this.n * num_paths ),
+            this.getBranchingFactor( PheromoneStats.BRANCHING_LAMBDA ) );
+
+        return this.pheromone_stats;
+    }
+
+    /**
+     * Returns the end location of one of the paths leaving a location that
+     * are considered by getBranchingFactor().
+     *
+     * @param row the index of the start location
+     * @param i the index of the path, from 0 to the number of paths considered
+     *
+     * @return the index of the end location of the path
+     */
+    private int getPathEnd ( int row, int i )
+    {
+        /* use the candidates if there are any, and skip the path from the
+         * location to itself otherwise */
+        return ( this.cands != null ) ? this.cands.getCandidate( row, i )
+            : ( ( i < row ) ? i : i + 1 );
+    }
+
+    /**
+     * Measures the tour of every ant in the current iteration, and updates
+     * the iteration-best ant and the shortest tour so far.
+     *
+     * @return was a tour shorter than every previous tour found?
+     */
+    protected boolean evaluateTours ()
+    {
+        /* was the shortest tour so far improved upon? */
+        boolean improved = false;
+
+        this.iter_best_ant = -1;
+
+        /* go through all ants */
+        for ( int ant = 0; ant < this.m; ant++ )
+        {
+            /* the length of this ant's tour */
+            this.ant_tour_lengths[ ant ] = this.colony.getTour( ant )
+                .getLength();
+
+            /* this is the shortest tour in this iteration so far */
+            if ( this.iter_best_ant == -1 || this.ant_tour_lengths[ ant ]
+                < this.ant_tour_lengths[ this.iter_best_ant ] )
+            {
+                this.iter_best_ant = ant;
+            }
+        }
+
+        /* this distance is less than the minimum so far */
+        if ( this.ant_tour_lengths[ this.iter_best_ant ]
+            < this.best_tour_length )
+        {
+            /* reset the minimum and the solution */
+            this.best_tour_length = this.ant_tour_lengths[ this.iter_best_ant ];
+            this.best_tour.copyFrom( this.colony.getTour(
+                this.iter_best_ant ) );
+            this.best_iteration = this.iteration + 1;
+            improved = true;
+        }
+
+        return improved;
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Filename:    AntColony.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the AntColony class. See class header for more
+ * information.
+ */
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * An AntColony holds the tours of the ants of one iteration of an Ant Colony
+ * Optimization solver, and constructs them. The ants are split evenly over a
+ * fixed set of AntWorkers; when a pool is given, each worker constructs its
+ * share of the ants as its own task, and constructTours() returns only once
+ * every worker has finished, so that the pheromone update that follows sees
+ * every tour.
+ */
+class AntColony
+{
+    /* the number of ants */
+    private final int m;
+
+    /* the tour each ant has constructed */
+    private final Tour[] tours;
+
+    /* the candidate lists the ants choose from, or null if they choose from
+     * every location */
+    private final CandidateLists cands;
+
+    /* the workers that construct the tours */
+    private final AntWorker[] workers;
+
+    /* the pool to run the workers in, or null to run them on the calling
+     * thread */
+    private final ForkJoinPool pool;
+
+    /* the tasks running the workers in the current iteration */
+    private final ForkJoinTask<?>[] tasks;
+
+    /* the metrics the workers report to, or null if there are none */
+    private SolverMetrics metrics = null;
+
+    /* the bytes allocated by each worker in the current iteration, while
+     * there are metrics */
+    private final long[] worker_bytes;
+
+    /**
+     * Constructs a new colony of ants.
+     *
+     * @param n the number of locations
+     * @param m the number of ants
+     * @param cands the candidate lists the ants choose from, or null if they
+     * choose from every unvisited location at every step
+     * @param dists the distances between the locations, which measure the
+     * tours and are used to improve every tour when the options ask for local
+     * search of each ant's tour
+     * @param ls_cands the candidate lists used by local search
+     * @param tree a tree over the locations, which leads an ant that has
+     * visited every candidate of its location to the nearest unvisited
+     * location, or null to lead it to the location with the greatest weight
+     * @param options the options of the run, giving the pool, the seed and
+     * the local search mode
+     */
+    public AntColony ( int n, int m, CandidateLists cands,
+        DistanceProvider dists, CandidateLists ls_cands, KDTree tree,
+        ACOOptions options )
+    {
+        this.m = m;
+        this.cands = cands;
+        this.pool = options.getPool();
+
+        /* the tours are reused by every iteration */
+        this.tours = new Tour[ m ];
+        for ( int ant = 0; ant < m; ant++ )
+        {
+            this.tours[ ant ] = new Tour( dists );
+        }
+
+        /* the number of workers to split the ants over */
+        int num_workers = ( pool == null ) ? 1
+            : Math.max( 1, Math.min( pool.getParallelism(), m ) );
+
+        /* the generator every worker's generator is split from */
+        FastRandom seed_rand = new FastRandom( options.getSeed() );
+
+        /* create each of the workers */
+        this.workers = new AntWorker[ num_workers ];
+        for ( int w = 0; w < num_workers; w++ )
+        {
+            this.workers[ w ] = new AntWorker( n, seed_rand.split(),
+                ( options.getLocalSearch()
+                == ACOOptions.LocalSearchMode.EACH_ANT )
+                ? new LocalSearch( dists, ls_cands ) : null,
+                ( tree != null ) ? new KDTree( tree ) : null );
+        }
+
+        this.tasks = new ForkJoinTask<?>[ num_workers ];
+        this.worker_bytes = new long[ num_workers ];
+    }
+
+    /**
+     * Returns the number of workers the ants are split over.
+     *
+     * @return the number of workers
+     */
+    public int getNumWorkers ()
+    {
+        return this.workers.length;
+    }
+
+    /**
+     * Returns the random number generator of one of the workers.
+     *
+     * @param worker the index of the worker
+     *
+     * @return the random number generator of the worker
+     */
+    public FastRandom getRandom ( int worker )
+    {
+        return this.workers[ worker ].getRandom();
+    }
+
+    /**
+     * Sets the metrics the workers report to after every iteration.
+     *
+     * @param new_metrics the metrics, or null for the workers not to measure
+     * anything
+     */
+    public void setMetrics ( SolverMetrics new_metrics )
+    {
+        this.metrics = new_metrics;
+        for ( AntWorker worker : this.workers )
+        {
+            worker.setTimed( new_metrics != null );
+        }
+    }
+
+    /**
+     * Returns the number of ants in this colony.
+     *
+     * @return the number of ants in this colony
+     */
+    public int getNumAnts ()
+    {
+        return this.m;
+    }
+
+    /**
+     * Returns the tour the given ant has constructed.
+     *
+     * @param ant the index of the ant
+     *
+     * @return the ant's tour
+     */
+    public Tour getTour ( int ant )
+    {
+        return this.tours[ ant ];
+    }
+
+    /**
+     * Returns a hash of the set of paths in the tour the given ant has
+     * constructed. Two tours through the same paths have the same hash,
+     * regardless of where they start and in which direction they go.
+     *
+     * @param ant the index of the ant
+     *
+     * @return the hash of the ant's tour
+     */
+    public long getTourHash ( int ant )
+    {
+        /* the tour of the ant */
+        int[] tour_inds = this.tours[ ant ].getOrder();
+
+        /* the sum of the hashes of the paths, which does not depend on their
+         * order */
+        long hash = 0;
+
+        /* go through each path in the tour, including the closing one */
+        for ( int tour_i = 0; tour_i < tour_inds.length; tour_i++ )
+        {
+            /* the locations at either end of this path, smaller first */
+            int a = tour_inds[ tour_i ];
+            int b = tour_inds[ ( tour_i + 1 ) % tour_inds.length ];
+            long path = ( a < b ) ? ( ( long ) a << 32 ) | b
+                : ( ( long ) b << 32 ) | a;
+
+            /* scramble the path before adding it (SplitMix64 finalizer) */
+            path = ( path ^ ( path >>> 30 ) ) * 0xbf58476d1ce4e5b9L;
+            path = ( path ^ ( path >>> 27 ) ) * 0x94d049bb133111ebL;
+            hash += path ^ ( path >>> 31 );
+        }
+
+        return hash;
+    }
+
+    /**
+     * Sends out every ant of one iteration, replacing the tours of the
+     * previous iteration.
+     *
+     * @param choice_info the weights of the paths; must not change until
+     * this method returns
+     */
+    public void constructTours ( final ChoiceInfo choice_info )
+    {
+        /* the ants are constructed on the calling thread */
+        if ( this.pool == null )
+        {
+            this.constructShare( 0, choice_info );
+        }
+        else
+        {
+            /* start each worker on its share of the ants */
+            for ( int w = 0; w < this.workers.length; w++ )
+            {
+                final int worker = w;
+                this.tasks[ w ] = this.pool.submit(
+                    () -> this.constructShare( worker, choice_info ) );
+            }
+
+            /* wait for every worker to finish */
+            for ( int w = 0; w < this.tasks.length; w++ )
+            {
+                this.tasks[ w ].join();
+                this.tasks[ w ] = null;
+            }
+        }
+
+        /* every worker has returned, so their figures can be read */
+        if ( this.metrics != null )
+        {
+            for ( int w = 0; w < this.workers.length; w++ )
+            {
+                this.workers[ w ].takeMetrics( this.metrics, w,
+                    this.worker_bytes[ w ] );
+            }
+        }
+    }
+
+    /**
+     * Constructs the tours of the ants assigned to a given worker.
+     *
+     * @param worker the index of the worker
+     * @param choice_info the weights of the paths
+     */
+    private void constructShare ( int worker, ChoiceInfo choice_info )
+    {
+        /* the range of ants assigned to this worker */
+        int first_ant = ( int ) ( ( long ) worker * m / this.workers.length );
+        int last_ant = ( int ) ( ( long ) ( worker + 1 ) * m
+            / this.workers.length );
+
+        /* the bytes the thread had allocated before, if they are measured */
+        boolean measured = ( this.metrics != null );
+        long bytes_before = measured ? SolverMetrics.getThreadAllocatedBytes()
+            : 0;
+
+        /* go through each of the ants assigned to this worker */
+        for ( int ant = first_ant; ant < last_ant; ant++ )
+        {
+            this.workers[ worker ].constructTour( choice_info, this.cands,
+                this.tours[ ant ] );
+        }
+
+        if ( measured )
+        {
+            this.worker_bytes[ worker ]
+                = SolverMetrics.getThreadAllocatedBytes() - bytes_before;
+        }
+    }
+}
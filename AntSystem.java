@@ -0,0 +1,58 @@
+/*
+ * Filename:    AntSystem.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the AntSystem class. See class header for more
+ * information.
+ */
+
+/**
+ * An AntSystem is the basic Ant Colony Optimization solver (Ant System, "AS").
+ * The pheromone along every path starts at m / C_nn; after every iteration,
+ * the pheromone along every path evaporates, and every ant lays down pheromone
+ * inversely proportional to the length of its tour along each path in it.
+ */
+class AntSystem extends ACOSolver
+{
+    /* the weight to give pheromone */
+    private static final double ALPHA = 1;
+
+    /* the weight to give length */
+    private static final double BETA = 4;
+
+    /**
+     * Constructs a new Ant System over the specified locations.
+     *
+     * @param coords the locations to find a tour through
+     * @param options the options of this run
+     */
+    public AntSystem ( CoordinateSet coords, ACOOptions options )
+    {
+        super( coords, options, ALPHA, BETA );
+    }
+
+    @Override
+    protected void initPheromones ()
+    {
+        this.pheromones.setAll( this.m / this.C_nn );
+    }
+
+    @Override
+    protected void updatePheromones ()
+    {
+        /* evaporate the pheromone along every path */
+        this.pheromones.evaporate();
+        this.endPhase( SolverMetrics.Phase.EVAPORATION );
+
+        /* go through all ants */
+        for ( int ant = 0; ant < this.m; ant++ )
+        {
+            /* add pheromone to all paths in this ant's tour */
+            this.pheromones.depositTour( this.colony.getTour( ant ).getOrder(),
+                1 / this.ant_tour_lengths[ ant ] );
+        }
+        this.endPhase( SolverMetrics.Phase.DEPOSIT );
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * Filename:    AntWorker.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the AntWorker class. See class header for more
+ * information.
+ */
+import java.util.Arrays;
+
+/**
+ * An AntWorker constructs ant tours. It owns every buffer an ant needs while
+ * it walks (its visited flags, its roulette wheel and its random number
+ * generator), so that several workers can construct tours at the same time
+ * while only reading the shared choice info.
+ */
+class AntWorker
+{
+    /* the number of locations */
+    private final int n;
+
+    /* has the current ant visited the location at this index already? */
+    private final boolean[] visited;
+
+    /* the wheel used to choose the next location of the current ant */
+    private final RouletteWheel wheel;
+
+    /* the random number generator of this worker */
+    private final FastRandom rand;
+
+    /* the local search applied to every tour this worker constructs, or null
+     * if the tours are not improved */
+    private final LocalSearch local_search;
+
+    /* the locations the current ant has not visited, used to find the
+     * nearest of them once every candidate has been visited, or null to
+     * search every location for the one with the greatest weight instead */
+    private final KDTree unvisited;
+
+    /* are the ants timed? */
+    private boolean timed = false;
+
+    /* the number of steps at which every candidate had been visited, and the
+     * time spent improving tours, since they were last taken */
+    private long candidate_fallbacks = 0;
+    private long local_search_nanos = 0;
+
+    /**
+     * Constructs a new worker for tours over the given number of locations.
+     *
+     * @param n the number of locations
+     * @param rand the random number generator for this worker to use
+     * @param local_search the local search to apply to every tour this worker
+     * constructs, or null to leave the tours as constructed
+     * @param unvisited a tree over the locations, not shared with any other
+     * worker, used to find the nearest unvisited location once every
+     * candidate has been visited, or null to find the unvisited location with
+     * the greatest weight by searching every location
+     */
+    public AntWorker ( int n, FastRandom rand, LocalSearch local_search,
+        KDTree unvisited )
+    {
+        this.n = n;
+        this.visited = new boolean[ n ];
+        this.wheel = new RouletteWheel( n );
+        this.rand = rand;
+        this.local_search = local_search;
+        this.unvisited = unvisited;
+    }
+
+    /**
+     * Returns the random number generator of this worker.
+     *
+     * @return the random number generator of this worker
+     */
+    public FastRandom getRandom ()
+    {
+        return this.rand;
+    }
+
+    /**
+     * Sets whether the time spent improving each tour is measured.
+     *
+     * @param new_timed are the ants timed?
+     */
+    public void setTimed ( boolean new_timed )
+    {
+        this.timed = new_timed;
+    }
+
+    /**
+     * Adds the figures of this worker since they were last taken to the
+     * metrics of the iteration in progress, and sets them back to 0.
+     *
+     * @param metrics the metrics of the solver
+     * @param worker the index of this worker
+     * @param bytes the bytes allocated by this worker since the figures were
+     * last taken
+     */
+    public void takeMetrics ( SolverMetrics metrics, int worker, long bytes )
+    {
+        metrics.addWorker( worker, this.candidate_fallbacks,
+            this.wheel.takeNumUniform(), this.local_search_nanos, bytes );
+        this.candidate_fallbacks = 0;
+        this.local_search_nanos = 0;
+    }
+
+    /**
+     * Sends out one ant from a random location, which moves from location to
+     * location with probability proportional to the weight of each path until
+     * it has visited every location. If this worker has a local search, the
+     * tour is then improved with it.
+     *
+     * If candidate lists are given, the ant only chooses among the unvisited
+     * candidates of its current location; once every candidate has been
+     * visited, it moves to the unvisited location with the greatest weight
+     * instead, or to the nearest one if this worker has a tree of the
+     * unvisited locations.
+     *
+     * @param choice_info the weights of the paths
+     * @param cands the candidate lists of the locations, or null to choose
+     * among all of the unvisited locations at every step
+     * @param tour the tour to store the constructed tour in
+     */
+    public void constructTour ( ChoiceInfo choice_info, CandidateLists cands,
+        Tour tour )
+    {
+        /* the locations of the tour, written in order */
+        int[] tour_inds = tour.getOrder();
+
+        /* reset - has this ant visited this location already? */
+        Arrays.fill( this.visited, false );
+
+        /* the index of the starting location of this ant */
+        int curr_loc_ind = this.rand.nextInt( n );
+
+        /* add the start location to the tour */
+        tour_inds[ 0 ] = curr_loc_ind;
+        this.visited[ curr_loc_ind ] = true;
+        if ( this.unvisited != null )
+        {
+            this.unvisited.reset();
+            this.unvisited.remove( curr_loc_ind );
+        }
+
+        /* go through the remaining positions in the tour */
+        for ( int tour_ind = 1; tour_ind < n; tour_ind++ )
+        {
+            /* choose the next location */
+            curr_loc_ind = ( cands == null )
+                ? this.chooseAny( choice_info, curr_loc_ind )
+                : this.chooseCandidate( choice_info, cands, curr_loc_ind );
+
+            /* add the chosen location to the tour */
+            tour_inds[ tour_ind ] = curr_loc_ind;
+            this.visited[ curr_loc_ind ] = true;
+            if ( this.unvisited != null )
+            {
+                this.unvisited.remove( curr_loc_ind );
+            }
+        }
+
+        /* the locations of the tour have changed */
+        tour.rebuild();
+
+        /* polish the tour */
+        if ( this.local_search != null )
+        {
+            long start = this.timed ? System.nanoTime() : 0;
+            this.local_search.improve( tour );
+
+            if ( this.timed )
+            {
+                this.local_search_nanos += System.nanoTime() - start;
+            }
+        }
+    }
+
+    /**
+     * Chooses the next location of the current ant from among all of the
+     * unvisited locations, with probability proportional to the weight of the
+     * path to each.
+     *
+     * @param choice_info the weights of the paths
+     * @param curr_loc_ind the index of the current location of the ant
+     *
+     * @return the index of the chosen location
+     */
+    private int chooseAny ( ChoiceInfo choice_info, int curr_loc_ind )
+    {
+        /* clear the wheel of the previous step's paths */
+        this.wheel.reset();
+
+        /* go through each of the locations */
+        for ( int locs_i = 0; locs_i < n; locs_i++ )
+        {
+            /* the ant has not already visited this location */
+            if ( !this.visited[ locs_i ] )
+            {
+                /* add this path to the wheel with its weight */
+                this.wheel.add( locs_i, choice_info.getChoice(
+                    curr_loc_ind, locs_i ) );
+            }
+        }
+
+        /* choose a location to move to from the wheel */
+        return this.wheel.sample( this.rand.nextDouble() );
+    }
+
+    /**
+     * Chooses the next location of the current ant from among the unvisited
+     * candidates of its current location, with probability proportional to
+     * the weight of the path to each. If every candidate has been visited, the
+     * unvisited location with the greatest weight is chosen instead, or the
+     * nearest one if this worker has a tree of the unvisited locations.
+     *
+     * @param choice_info the weights of the paths
+     * @param cands the candidate lists of the locations
+     * @param curr_loc_ind the index of the current location of the ant
+     *
+     * @return the index of the chosen location
+     */
+    private int chooseCandidate ( ChoiceInfo choice_info, CandidateLists cands,
+        int curr_loc_ind )
+    {
+        /* clear the wheel of the previous step's paths */
+        this.wheel.reset();
+
+        /* go through each of the candidates of the current location */
+        for ( int rank = 0; rank < cands.getNumCandidates(); rank++ )
+        {
+            /* the index of this candidate */
+            int cand = cands.getCandidate( curr_loc_ind, rank );
+
+            /* the ant has not already visited this candidate */
+            if ( !this.visited[ cand ] )
+            {
+                /* add this path to the wheel with its weight */
+                this.wheel.add( cand, choice_info.getCandidateChoice( cands,
+                    curr_loc_ind, rank ) );
+            }
+        }
+
+        /* there is an unvisited candidate to choose */
+        if ( this.wheel.getSize() > 0 )
+        {
+            return this.wheel.sample( this.rand.nextDouble() );
+        }
+
+        /* every candidate has been visited */
+        this.candidate_fallbacks++;
+
+        /* the nearest unvisited location */
+        if ( this.unvisited != null )
+        {
+            return this.unvisited.nearest( curr_loc_ind );
+        }
+
+        /* the unvisited location with the greatest weight so far */
+        int best_loc_ind = -1;
+        double best_weight = -1;
+
+        /* go through each of the locations */
+        for ( int locs_i = 0; locs_i < n; locs_i++ )
+        {
+            /* the ant has not already visited this location */
+            if ( !this.visited[ locs_i ] )
+            {
+                /* the weight of the path to this location */
+                double weight = choice_info.getChoice( curr_loc_ind, locs_i );
+
+                /* this weight is greater than the greatest so far */
+                if ( weight > best_weight || best_loc_ind == -1 )
+                {
+                    best_weight = weight;
+                    best_loc_ind = locs_i;
+                }
+            }
+        }
+
+        return best_loc_ind;
+    }
+}
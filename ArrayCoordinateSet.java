@@ -0,0 +1,132 @@
+/*
+ * Filename:    ArrayCoordinateSet.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the ArrayCoordinateSet class. See class header for more
+ * information.
+ */
+
+/**
+ * An ArrayCoordinateSet is a CoordinateSet that keeps the coordinates of its
+ * locations in two parallel arrays, one of x-coordinates and one of
+ * y-coordinates, so that loops over the locations walk contiguous memory
+ * rather than following a reference to a Location object per location.
+ */
+class ArrayCoordinateSet implements CoordinateSet
+{
+    /* the x- and y-coordinates of each location */
+    private final double[] xs;
+    private final double[] ys;
+
+    /* the metric that measures the distances between the locations */
+    private final Metric metric;
+
+    /**
+     * Constructs a new coordinate set over the specified coordinates. The
+     * arrays are used as they are, not copied.
+     *
+     * @param xs the x-coordinate of each location
+     * @param ys the y-coordinate of each location
+     * @param metric the metric that measures the distances between the
+     * locations
+     */
+    public ArrayCoordinateSet ( double[] xs, double[] ys, Metric metric )
+    {
+        if ( xs.length != ys.length )
+        {
+            throw new IllegalArgumentException( "coordinate arrays differ in "
+                + "length: " + xs.length + " and " + ys.length );
+        }
+
+        this.xs = xs;
+        this.ys = ys;
+        this.metric = metric;
+    }
+
+    /**
+     * Constructs a new coordinate set holding the coordinates of the
+     * specified locations, with the exact Euclidean metric.
+     *
+     * @param locs the locations
+     */
+    public ArrayCoordinateSet ( Location[] locs )
+    {
+        this.xs = new double[ locs.length ];
+        this.ys = new double[ locs.length ];
+        this.metric = Metric.EUCLIDEAN;
+
+        /* copy out the coordinates of each location */
+        for ( int i = 0; i < locs.length; i++ )
+        {
+            this.xs[ i ] = locs[ i ].getX();
+            this.ys[ i ] = locs[ i ].getY();
+        }
+    }
+
+    /**
+     * Returns the number of locations in this set.
+     *
+     * @return the number of locations in this set
+     */
+    @Override
+    public int getSize ()
+    {
+        return this.xs.length;
+    }
+
+    /**
+     * Returns the x-coordinate of the location at a given index.
+     *
+     * @param i the index of the location
+     *
+     * @return the x-coordinate of the location
+     */
+    @Override
+    public double getX ( int i )
+    {
+        return this.xs[ i ];
+    }
+
+    /**
+     * Returns the y-coordinate of the location at a given index.
+     *
+     * @param i the index of the location
+     *
+     * @return the y-coordinate of the location
+     */
+    @Override
+    public double getY ( int i )
+    {
+        return this.ys[ i ];
+    }
+
+    /**
+     * Returns the metric that measures the distances between the locations.
+     *
+     * @return the metric of this set
+     */
+    @Override
+    public Metric getMetric ()
+    {
+        return this.metric;
+    }
+
+    /**
+     * Returns the distance between the locations at the given indices, under
+     * the metric of this set.
+     *
+     * @param i the index of the first location
+     * @param j the index of the second location
+     *
+     * @return the distance between the locations at indices i and j
+     */
+    @Override
+    public double getDistance ( int i, int j )
+    {
+        /* read the arrays directly rather than through getX() and getY() */
+        return this.metric.distance( this.xs[ i ], this.ys[ i ], this.xs[ j ],
+            this.ys[ j ] );
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Filename:    BatchResult.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the BatchResult class. See class header for more
+ * information.
+ */
+
+/**
+ * A BatchResult is the outcome of one instance solved by a BatchSolver: the
+ * tour found, or the exception the solver threw, with the time the instance
+ * waited for a slot and the time it took to solve.
+ */
+class BatchResult
+{
+    /* the position of the instance in the order it was submitted */
+    private final long index;
+
+    /* the instance */
+    private final CoordinateSet coords;
+
+    /* the tour found, or null if the solver threw */
+    private final Tour tour;
+
+    /* the exception the solver threw, or null if it found a tour */
+    private final Throwable error;
+
+    /* the time between the submission of the instance and the start of its
+     * solve, and the time the solve took, in nanoseconds */
+    private final long queue_nanos;
+    private final long solve_nanos;
+
+    /**
+     * Constructs a new result.
+     *
+     * @param index the position of the instance in the order it was submitted
+     * @param coords the instance
+     * @param tour the tour found, or null if the solver threw
+     * @param error the exception the solver threw, or null
+     * @param queue_nanos the time the instance waited for a slot
+     * @param solve_nanos the time the solve took
+     */
+    public BatchResult ( long index, CoordinateSet coords, Tour tour,
+        Throwable error, long queue_nanos, long solve_nanos )
+    {
+        this.index = index;
+        this.coords = coords;
+        this.tour = tour;
+        this.error = error;
+        this.queue_nanos = queue_nanos;
+        this.solve_nanos = solve_nanos;
+    }
+
+    /**
+     * Returns the position of the instance in the order it was submitted,
+     * starting at 0.
+     *
+     * @return the submission index of the instance
+     */
+    public long getIndex ()
+    {
+        return this.index;
+    }
+
+    /**
+     * Returns the instance that was solved.
+     *
+     * @return the instance
+     */
+    public CoordinateSet getCoords ()
+    {
+        return this.coords;
+    }
+
+    /**
+     * Returns whether the solver found a tour.
+     *
+     * @return did the solver find a tour?
+     */
+    public boolean isSuccess ()
+    {
+        return this.error == null;
+    }
+
+    /**
+     * Returns the tour found.
+     *
+     * @return the tour found, or null if the solver threw
+     */
+    public Tour getTour ()
+    {
+        return this.tour;
+    }
+
+    /**
+     * Returns the exception the solver threw.
+     *
+     * @return the exception, or null if the solver found a tour
+     */
+    public Throwable getError ()
+    {
+        return this.error;
+    }
+
+    /**
+     * Returns the time between the submission of the instance and the start
+     * of its solve, spent waiting for a slot.
+     *
+     * @return the queue latency, in nanoseconds
+     */
+    public long getQueueNanos ()
+    {
+        return this.queue_nanos;
+    }
+
+    /**
+     * Returns the time the solve took.
+     *
+     * @return the solve time, in nanoseconds
+     */
+    public long getSolveNanos ()
+    {
+        return this.solve_nanos;
+    }
+}
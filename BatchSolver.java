@@ -0,0 +1,347 @@
+/*
+ * Filename:    BatchSolver.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the BatchSolver class. See class header for more
+ * information.
+ */
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * A BatchSolver solves a stream of independent instances concurrently, for
+ * throughput rather than for the speed of any one instance. Every submitted
+ * instance gets a thread of its own, which waits for one of a fixed number
+ * of slots before running the solver, so that no more instances are being
+ * solved at once than there are slots, however many are waiting. Each
+ * instance is solved sequentially within its slot; the options the solver
+ * uses should have no pool. Options may be shared by every instance, as
+ * long as any termination policy set on them keeps no state; the default
+ * policy is made anew for every run. Every solver has its own random number
+ * generators, so concurrent instances share nothing.
+ *
+ * On a JVM with virtual threads (Java 21 and later), every instance runs on a
+ * virtual thread, which costs little while it waits for its slot; they are
+ * found by reflection, so that this class still compiles on older JVMs. On
+ * other JVMs, the instances are queued for a fixed pool with one platform
+ * thread per slot instead.
+ *
+ * Results are handed out in the order the instances finish, through take()
+ * and poll(), and getStats() reports the throughput and the queue latency
+ * (the time between the submission of an instance and the start of its
+ * solve). An instance whose solver throws an exception is counted as failed,
+ * with the exception in its result; an Error is recorded the same way, then
+ * rethrown on the thread of the instance rather than swallowed.
+ */
+class BatchSolver implements AutoCloseable
+{
+    /* the number of instances solved at once */
+    private final int num_slots;
+
+    /* solves one instance */
+    private final Function<CoordinateSet, Tour> solver;
+
+    /* runs the thread of each instance */
+    private final ExecutorService executor;
+
+    /* does each instance run on a virtual thread? */
+    private final boolean virtual;
+
+    /* the slots an instance must hold while it is solved, handed out in the
+     * order they are asked for */
+    private final Semaphore slots;
+
+    /* the results of the finished instances, in the order they finished */
+    private final BlockingQueue<BatchResult> results
+        = new LinkedBlockingQueue<BatchResult>();
+
+    /* the time at which this batch solver was constructed, in nanoseconds */
+    private final long start_nanos = System.nanoTime();
+
+    /* the statistics of the instances, guarded by the lock of this solver */
+    private long submitted = 0;
+    private long completed = 0;
+    private long failed = 0;
+    private long total_queue_nanos = 0;
+    private long max_queue_nanos = 0;
+    private long total_solve_nanos = 0;
+    private final long[] queue_histogram = new long[ BatchStats.NUM_BUCKETS ];
+
+    /**
+     * Constructs a new batch solver.
+     *
+     * @param num_slots the number of instances solved at once, usually the
+     * number of available processors
+     * @param solver solves one instance, such as coords ->
+     * TSPAlgorithms.sol_ACO_MMAS( coords, options )
+     */
+    public BatchSolver ( int num_slots, Function<CoordinateSet, Tour> solver )
+    {
+        if ( num_slots < 1 )
+        {
+            throw new IllegalArgumentException( "at least one slot is needed, "
+                + num_slots + " given" );
+        }
+
+        this.num_slots = num_slots;
+        this.solver = solver;
+        this.slots = new Semaphore( num_slots, true );
+
+        /* one virtual thread per instance, or one platform thread per slot */
+        ExecutorService virtual_executor = newVirtualThreadExecutor();
+        this.virtual = ( virtual_executor != null );
+        this.executor = this.virtual ? virtual_executor
+            : Executors.newFixedThreadPool( num_slots, newDaemonFactory() );
+    }
+
+    /**
+     * Returns the number of instances solved at once.
+     *
+     * @return the number of slots
+     */
+    public int getNumSlots ()
+    {
+        return this.num_slots;
+    }
+
+    /**
+     * Returns whether each instance runs on a virtual thread.
+     *
+     * @return are virtual threads used?
+     */
+    public boolean isVirtual ()
+    {
+        return this.virtual;
+    }
+
+    /**
+     * Submits an instance to be solved once a slot is free.
+     *
+     * @param coords the instance
+     *
+     * @return the position of the instance in the order it was submitted,
+     * which its result carries
+     */
+    public long submit ( final CoordinateSet coords )
+    {
+        final long submit_nanos = System.nanoTime();
+        final long index;
+        synchronized ( this )
+        {
+            index = this.submitted++;
+        }
+
+        this.executor.execute( () -> this.run( index, coords, submit_nanos ) );
+
+        return index;
+    }
+
+    /**
+     * Submits every instance of a stream, in the order of the stream.
+     *
+     * @param instances the instances
+     *
+     * @return the number of instances submitted
+     */
+    public long submitAll ( Stream<CoordinateSet> instances )
+    {
+        /* count() may skip the pipeline, so the instances are counted as
+         * they are submitted */
+        final long[] count = { 0 };
+        instances.sequential().forEachOrdered( coords -> {
+            this.submit( coords );
+            count[ 0 ]++;
+        } );
+
+        return count[ 0 ];
+    }
+
+    /**
+     * Returns the result of the next instance to finish, waiting for one if
+     * none has finished yet.
+     *
+     * @return the result of the next instance to finish
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public BatchResult take () throws InterruptedException
+    {
+        return this.results.take();
+    }
+
+    /**
+     * Returns the result of the next instance to finish, waiting up to a given
+     * time for one if none has finished yet.
+     *
+     * @param timeout the longest time to wait
+     * @param unit the unit of the timeout
+     *
+     * @return the result of the next instance to finish, or null if none
+     * finished in time
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public BatchResult poll ( long timeout, TimeUnit unit )
+        throws InterruptedException
+    {
+        return this.results.poll( timeout, unit );
+    }
+
+    /**
+     * Returns a snapshot of the statistics of the instances so far.
+     *
+     * @return the statistics
+     */
+    public synchronized BatchStats getStats ()
+    {
+        return new BatchStats( System.nanoTime() - this.start_nanos,
+            this.submitted, this.completed, this.failed,
+            this.total_queue_nanos, this.max_queue_nanos,
+            this.total_solve_nanos, this.queue_histogram.clone() );
+    }
+
+    /**
+     * Stops accepting instances, and waits for every submitted instance to
+     * finish. Their results can still be taken afterwards.
+     */
+    @Override
+    public void close ()
+    {
+        this.executor.shutdown();
+
+        /* wait for every instance, even if interrupted */
+        boolean interrupted = false;
+        while ( !this.executor.isTerminated() )
+        {
+            try
+            {
+                this.executor.awaitTermination( 1, TimeUnit.SECONDS );
+            }
+            catch ( InterruptedException e )
+            {
+                interrupted = true;
+            }
+        }
+        if ( interrupted )
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Solves an instance once a slot is free, and records its result.
+     *
+     * @param index the position of the instance in the order it was submitted
+     * @param coords the instance
+     * @param submit_nanos the time the instance was submitted
+     */
+    private void run ( long index, CoordinateSet coords, long submit_nanos )
+    {
+        /* the tour found, or the exception thrown, and the error thrown if
+         * it was an Error, which is rethrown once the result is recorded */
+        Tour tour = null;
+        Throwable error = null;
+        Error fatal = null;
+
+        this.slots.acquireUninterruptibly();
+        long start_nanos = System.nanoTime();
+        try
+        {
+            tour = this.solver.apply( coords );
+        }
+        catch ( Exception e )
+        {
+            error = e;
+        }
+        catch ( Error e )
+        {
+            error = e;
+            fatal = e;
+        }
+        finally
+        {
+            this.slots.release();
+        }
+        long end_nanos = System.nanoTime();
+
+        BatchResult result = new BatchResult( index, coords, tour, error,
+            start_nanos - submit_nanos, end_nanos - start_nanos );
+
+        synchronized ( this )
+        {
+            if ( error == null )
+            {
+                this.completed++;
+            }
+            else
+            {
+                this.failed++;
+            }
+            this.total_queue_nanos += result.getQueueNanos();
+            this.max_queue_nanos = Math.max( this.max_queue_nanos,
+                result.getQueueNanos() );
+            this.total_solve_nanos += result.getSolveNanos();
+            this.queue_histogram[ BatchStats.getBucket(
+                result.getQueueNanos() ) ]++;
+        }
+
+        this.results.add( result );
+
+        /* an Error is not the solver failing on this instance, so it is not
+         * swallowed; it is only recorded first so that take() does not wait
+         * for this instance forever */
+        if ( fatal != null )
+        {
+            throw fatal;
+        }
+    }
+
+    /**
+     * Returns an executor that starts a new virtual thread for every task,
+     * if the JVM has virtual threads.
+     *
+     * @return the executor, or null if the JVM has no virtual threads
+     */
+    private static ExecutorService newVirtualThreadExecutor ()
+    {
+        try
+        {
+            return ( ExecutorService ) Executors.class.getMethod(
+                "newVirtualThreadPerTaskExecutor" ).invoke( null );
+        }
+        /* the method does not exist, or virtual threads are a preview
+         * feature that is not enabled */
+        catch ( ReflectiveOperationException | RuntimeException e )
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Returns a factory of numbered daemon threads, so that an unclosed batch
+     * solver does not keep the JVM alive.
+     *
+     * @return the thread factory
+     */
+    private static ThreadFactory newDaemonFactory ()
+    {
+        final AtomicInteger count = new AtomicInteger();
+
+        return task -> {
+            Thread thread = new Thread( task, "BatchSolver-"
+                + count.incrementAndGet() );
+            thread.setDaemon( true );
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Filename:    BatchStats.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the BatchStats class. See class header for more
+ * information.
+ */
+import java.util.Locale;
+
+/**
+ * A BatchStats is a snapshot of the statistics of a BatchSolver: how many
+ * instances have been submitted and finished, how many were finished per
+ * second, and how long they waited for a slot and took to solve. Queue
+ * latencies are also kept in a histogram with one bucket per power of two
+ * nanoseconds, from which percentiles are read to within a factor of two.
+ */
+class BatchStats
+{
+    /* the number of buckets of the queue latency histogram */
+    public static final int NUM_BUCKETS = 64;
+
+    /* the time since the batch solver was constructed, in nanoseconds */
+    private final long elapsed_nanos;
+
+    /* the number of instances submitted, solved, and whose solver threw */
+    private final long submitted;
+    private final long completed;
+    private final long failed;
+
+    /* the total and greatest time the finished instances waited for a slot,
+     * and the total time they took to solve, in nanoseconds */
+    private final long total_queue_nanos;
+    private final long max_queue_nanos;
+    private final long total_solve_nanos;
+
+    /* the number of finished instances whose queue latency has each number
+     * of significant bits */
+    private final long[] queue_histogram;
+
+    /**
+     * Constructs a new snapshot; the histogram is not copied.
+     *
+     * @param elapsed_nanos the time since the batch solver was constructed
+     * @param submitted the number of instances submitted
+     * @param completed the number of instances solved
+     * @param failed the number of instances whose solver threw
+     * @param total_queue_nanos the total time the finished instances waited
+     * @param max_queue_nanos the greatest time a finished instance waited
+     * @param total_solve_nanos the total time the finished instances took
+     * @param queue_histogram the number of finished instances whose queue
+     * latency has each number of significant bits
+     */
+    public BatchStats ( long elapsed_nanos, long submitted, long completed,
+        long failed, long total_queue_nanos, long max_queue_nanos,
+        long total_solve_nanos, long[] queue_histogram )
+    {
+        this.elapsed_nanos = elapsed_nanos;
+        this.submitted = submitted;
+        this.completed = completed;
+        this.failed = failed;
+        this.total_queue_nanos = total_queue_nanos;
+        this.max_queue_nanos = max_queue_nanos;
+        this.total_solve_nanos = total_solve_nanos;
+        this.queue_histogram = queue_histogram;
+    }
+
+    /**
+     * Returns the histogram bucket of a queue latency: the number of
+     * significant bits of the latency.
+     *
+     * @param nanos the queue latency, in nanoseconds
+     *
+     * @return the index of the bucket
+     */
+    public static int getBucket ( long nanos )
+    {
+        return Math.min( NUM_BUCKETS - 1,
+            Long.SIZE - Long.numberOfLeadingZeros( Math.max( nanos, 0 ) ) );
+    }
+
+    /**
+     * Returns the time since the batch solver was constructed.
+     *
+     * @return the elapsed time, in nanoseconds
+     */
+    public long getElapsedNanos ()
+    {
+        return this.elapsed_nanos;
+    }
+
+    /**
+     * Returns the number of instances submitted.
+     *
+     * @return the number of instances submitted
+     */
+    public long getSubmitted ()
+    {
+        return this.submitted;
+    }
+
+    /**
+     * Returns the number of instances for which a tour was found.
+     *
+     * @return the number of instances solved
+     */
+    public long getCompleted ()
+    {
+        return this.completed;
+    }
+
+    /**
+     * Returns the number of instances whose solver threw.
+     *
+     * @return the number of instances that failed
+     */
+    public long getFailed ()
+    {
+        return this.failed;
+    }
+
+    /**
+     * Returns the number of instances submitted but not yet finished, either
+     * waiting for a slot or being solved.
+     *
+     * @return the number of instances in flight
+     */
+    public long getInFlight ()
+    {
+        return this.submitted - this.completed - this.failed;
+    }
+
+    /**
+     * Returns the number of instances finished per second since the batch
+     * solver was constructed.
+     *
+     * @return the throughput, in instances per second
+     */
+    public double getThroughput ()
+    {
+        return ( this.elapsed_nanos <= 0 ) ? 0
+            : ( this.completed + this.failed ) / ( this.elapsed_nanos / 1e9 );
+    }
+
+    /**
+     * Returns the mean time the finished instances waited for a slot.
+     *
+     * @return the mean queue latency, in nanoseconds, or 0 if none have
+     * finished
+     */
+    public double getMeanQueueNanos ()
+    {
+        long finished = this.completed + this.failed;
+
+        return ( finished == 0 ) ? 0
+            : ( double ) this.total_queue_nanos / finished;
+    }
+
+    /**
+     * Returns the greatest time a finished instance waited for a slot.
+     *
+     * @return the greatest queue latency, in nanoseconds
+     */
+    public long getMaxQueueNanos ()
+    {
+        return this.max_queue_nanos;
+    }
+
+    /**
+     * Returns an upper bound on a percentile of the time the finished
+     * instances waited for a slot, which is at most twice the percentile.
+     *
+     * @param p the percentile, from 0 to 100
+     *
+     * @return the upper bound on the percentile of the queue latency, in
+     * nanoseconds, or 0 if none have finished
+     */
+    public long getQueueNanosPercentile ( double p )
+    {
+        long finished = this.completed + this.failed;
+        if ( finished == 0 )
+        {
+            return 0;
+        }
+
+        /* the number of latencies at or below the percentile */
+        long rank = Math.max( 1, ( long ) Math.ceil( p / 100 * finished ) );
+
+        /* find the bucket holding that latency */
+        long seen = 0;
+        for ( int bucket = 0; bucket < NUM_BUCKETS; bucket++ )
+        {
+            seen += this.queue_histogram[ bucket ];
+            if ( seen >= rank )
+            {
+                /* the greatest latency in the bucket, but never more than
+                 * the greatest seen */
+                long bound = ( bucket == 0 ) ? 0 : ( bucket >= 63 )
+                    ? Long.MAX_VALUE : ( 1L << bucket ) - 1;
+                return Math.min( bound, this.max_queue_nanos );
+            }
+        }
+
+        return this.max_queue_nanos;
+    }
+
+    /**
+     * Returns the mean time the finished instances took to solve.
+     *
+     * @return the mean solve time, in nanoseconds, or 0 if none have finished
+     */
+    public double getMeanSolveNanos ()
+    {
+        long finished = this.completed + this.failed;
+
+        return ( finished == 0 ) ? 0
+            : ( double ) this.total_solve_nanos / finished;
+    }
+
+    /**
+     * Returns a readable summary of the statistics.
+     *
+     * @return a readable summary
+     */
+    @Override
+    public String toString ()
+    {
+        return String.format( Locale.ROOT, "%d submitted, %d completed, "
+            + "%d failed, %d in flight, %.1f/s; queue mean %.3fms, p99 "
+            + "<= %.3fms, max %.3fms; solve mean %.3fms", this.submitted,
+            this.completed, this.failed, this.getInFlight(),
+            this.getThroughput(), this.getMeanQueueNanos() / 1e6,
+            this.getQueueNanosPercentile( 99 ) / 1e6,
+            this.max_queue_nanos / 1e6, this.getMeanSolveNanos() / 1e6 );
+    }
+}
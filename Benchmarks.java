@@ -0,0 +1,320 @@
+/*
+ * Filename:    Benchmarks.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the Benchmarks class. See class header for more
+ * information.
+ */
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.DoubleSupplier;
+
+/**
+ * This class contains a main method that microbenchmarks the core kernels of
+ * TSPAlgorithms on seeded random instances, so that a performance change can
+ * be measured before and after. Each kernel is set up once per instance size,
+ * then run repeatedly for a number of warmup windows (whose results are
+ * thrown away, to let the JIT compiler settle) and measurement windows, and
+ * the mean and standard deviation of the time per operation over the
+ * measurement windows are printed. Every result is fed into a sink so that the
+ * JIT compiler cannot remove the work.
+ *
+ * The same kernels are benchmarked with JMH by TSPKernelBenchmark, in the jmh
+ * source set of the Gradle build (gradle jmh), which should be preferred;
+ * this class is kept to run them with nothing but a JDK.
+ *
+ * Usage: java Benchmarks [-w warmup_windows] [-i measurement_windows]
+ *        [-t window_millis] [-n size,size,...] [kernel ...]
+ *
+ * With no kernels given, every kernel is run. A kernel whose setup does not
+ * fit in the heap at some size is reported as skipped at that size; run with
+ * a larger -Xmx to include it.
+ */
+class Benchmarks
+{
+    /* the default instance sizes */
+    private final static int[] DEFAULT_SIZES = { 100, 1000, 10000 };
+
+    /* the default number of warmup and measurement windows */
+    private final static int DEFAULT_WARMUP_WINDOWS = 5;
+    private final static int DEFAULT_MEASUREMENT_WINDOWS = 5;
+
+    /* the default length of a window, in milliseconds */
+    private final static long DEFAULT_WINDOW_MILLIS = 1000;
+
+    /* the seed of the random instances */
+    private final static long INSTANCE_SEED = 42;
+
+    /* dimensions of map containing the random instances */
+    private final static double RAND_MAP_WIDTH = 500.0;
+    private final static double RAND_MAP_HEIGHT = 500.0;
+
+    /* the names of the kernels, in the order they are run */
+    private final static String[] KERNELS = { "get_distance_between",
+        "get_tour_length", "get_greedy_start", "sol_greedy",
+        "sol_ACO_AS_iteration", "pheromone_evaporate", "pheromone_deposit" };
+
+    /* receives every result, so that no kernel is optimized away */
+    private static volatile double sink;
+
+    /**
+     * Main method, used to run the benchmarks.
+     *
+     * @param args the options and kernels to run; see the class header
+     */
+    public static void main ( String[] args )
+    {
+        /* the settings of this run */
+        int[] sizes = DEFAULT_SIZES;
+        int warmup_windows = DEFAULT_WARMUP_WINDOWS;
+        int measurement_windows = DEFAULT_MEASUREMENT_WINDOWS;
+        long window_millis = DEFAULT_WINDOW_MILLIS;
+        List<String> kernels = new ArrayList<String>();
+
+        /* go through the arguments */
+        for ( int args_i = 0; args_i < args.length; args_i++ )
+        {
+            switch ( args[ args_i ] )
+            {
+                case "-w":
+                    warmup_windows = Integer.parseInt( args[ ++args_i ] );
+                    break;
+                case "-i":
+                    measurement_windows = Integer.parseInt( args[ ++args_i ] );
+                    break;
+                case "-t":
+                    window_millis = Long.parseLong( args[ ++args_i ] );
+                    break;
+                case "-n":
+                    String[] parts = args[ ++args_i ].split( "," );
+                    sizes = new int[ parts.length ];
+                    for ( int i = 0; i < parts.length; i++ )
+                    {
+                        sizes[ i ] = Integer.parseInt( parts[ i ].trim() );
+                    }
+                    break;
+                default:
+                    kernels.add( args[ args_i ] );
+            }
+        }
+
+        /* run every kernel by default */
+        if ( kernels.isEmpty() )
+        {
+            kernels.addAll( Arrays.asList( KERNELS ) );
+        }
+
+        System.out.printf( "%-24s %8s %16s %14s%n", "kernel", "n", "ns/op",
+            "stddev" );
+
+        /* go through each of the kernels and sizes */
+        for ( String kernel : kernels )
+        {
+            for ( int n : sizes )
+            {
+                runKernel( kernel, n, warmup_windows, measurement_windows,
+                    window_millis );
+            }
+        }
+    }
+
+    /**
+     * Sets up and measures one kernel at one instance size, and prints the
+     * result.
+     *
+     * @param kernel the name of the kernel
+     * @param n the instance size
+     * @param warmup_windows the number of warmup windows
+     * @param measurement_windows the number of measurement windows
+     * @param window_millis the length of a window, in milliseconds
+     */
+    private static void runKernel ( String kernel, int n, int warmup_windows,
+        int measurement_windows, long window_millis )
+    {
+        /* the kernel, set up for this size */
+        DoubleSupplier op;
+
+        try
+        {
+            op = setUp( kernel, n );
+        }
+        catch ( OutOfMemoryError e )
+        {
+            System.out.printf( "%-24s %8d %16s%n", kernel, n,
+                "skipped (out of memory)" );
+            return;
+        }
+
+        /* throw away the warmup windows */
+        for ( int w = 0; w < warmup_windows; w++ )
+        {
+            measureWindow( op, window_millis );
+        }
+
+        /* the time per operation in each measurement window */
+        double[] ns_per_op = new double[ measurement_windows ];
+        for ( int w = 0; w < measurement_windows; w++ )
+        {
+            ns_per_op[ w ] = measureWindow( op, window_millis );
+        }
+
+        /* the mean and standard deviation over the measurement windows */
+        double mean = 0;
+        for ( double t : ns_per_op )
+        {
+            mean += t / measurement_windows;
+        }
+        double var = 0;
+        for ( double t : ns_per_op )
+        {
+            var += ( t - mean ) * ( t - mean ) / measurement_windows;
+        }
+
+        System.out.printf( "%-24s %8d %16.1f %14.1f%n", kernel, n, mean,
+            Math.sqrt( var ) );
+    }
+
+    /**
+     * Runs an operation repeatedly for at least the length of a window, and
+     * at least once.
+     *
+     * @param op the operation
+     * @param window_millis the length of the window, in milliseconds
+     *
+     * @return the average time per operation, in nanoseconds
+     */
+    private static double measureWindow ( DoubleSupplier op,
+        long window_millis )
+    {
+        /* the accumulated results of the operations */
+        double acc = 0;
+
+        long window_nanos = window_millis * 1000000L;
+        long start = System.nanoTime();
+        long elapsed;
+        long ops = 0;
+
+        do
+        {
+            acc += op.getAsDouble();
+            ops++;
+            elapsed = System.nanoTime() - start;
+        }
+        while ( elapsed < window_nanos );
+
+        sink += acc;
+
+        return ( double ) elapsed / ops;
+    }
+
+    /**
+     * Sets up a kernel on the seeded random instance of a given size. The JMH
+     * benchmarks in src/jmh/java call this to set up the same kernels.
+     *
+     * @param kernel the name of the kernel
+     * @param n the instance size
+     *
+     * @return one run of the kernel, which returns a value derived from its
+     * result
+     */
+    public static DoubleSupplier setUp ( String kernel, int n )
+    {
+        return setUp( kernel, InstanceGenerator.uniform( n, INSTANCE_SEED,
+            RAND_MAP_WIDTH, RAND_MAP_HEIGHT ) );
+    }
+
+    /**
+     * Sets up a kernel on a given instance.
+     *
+     * @param kernel the name of the kernel
+     * @param locs the instance
+     *
+     * @return one run of the kernel
+     */
+    private static DoubleSupplier setUp ( String kernel, final Location[] locs )
+    {
+        /* the number of locations */
+        final int n = locs.length;
+
+        /* a fixed tour through the instance, for kernels that need one */
+        final int[] tour_inds = new int[ n ];
+        for ( int i = 0; i < n; i++ )
+        {
+            tour_inds[ i ] = i;
+        }
+
+        switch ( kernel )
+        {
+            case "get_distance_between":
+                return new DoubleSupplier()
+                {
+                    private int i = 0;
+
+                    @Override
+                    public double getAsDouble ()
+                    {
+                        i = ( i + 1 ) % n;
+                        return TSPAlgorithms.get_distance_between( locs[ i ],
+                            locs[ ( i * 7 + 1 ) % n ] );
+                    }
+                };
+
+            case "get_tour_length":
+                return () -> TSPAlgorithms.get_tour_length( locs );
+
+            case "get_greedy_start":
+                return new DoubleSupplier()
+                {
+                    private int start = 0;
+
+                    @Override
+                    public double getAsDouble ()
+                    {
+                        start = ( start + 1 ) % n;
+                        return TSPAlgorithms.get_greedy_start( locs,
+                            start ).length;
+                    }
+                };
+
+            case "sol_greedy":
+                return () -> TSPAlgorithms.sol_greedy( locs ).length;
+
+            case "sol_ACO_AS_iteration":
+                ACOOptions options = new ACOOptions();
+                options.setSeed( INSTANCE_SEED );
+                final AntSystem solver = new AntSystem(
+                    new ArrayCoordinateSet( locs ), options );
+                solver.start();
+                return () ->
+                {
+                    solver.iterate();
+                    return solver.getBestTourLength();
+                };
+
+            case "pheromone_evaporate":
+                final PheromoneMatrix evap_pheromones = new PheromoneMatrix( n,
+                    1 );
+                return () ->
+                {
+                    evap_pheromones.evaporate();
+                    return evap_pheromones.getPheromone( 0, n - 1 );
+                };
+
+            case "pheromone_deposit":
+                final PheromoneMatrix dep_pheromones = new PheromoneMatrix( n,
+                    1 );
+                return () ->
+                {
+                    dep_pheromones.depositTour( tour_inds, 1e-9 );
+                    return dep_pheromones.getPheromone( 0, 1 );
+                };
+
+            default:
+                throw new IllegalArgumentException( "unknown kernel: "
+                    + kernel );
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Filename:    CandidateLists.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the CandidateLists class. See class header for more
+ * information.
+ */
+
+/**
+ * A CandidateLists holds, for every location in a set of locations, the
+ * indices of its k nearest other locations, ordered from nearest to farthest.
+ * Tour construction considers these candidates first, so that each step only
+ * has to look at k locations instead of all n.
+ */
+class CandidateLists
+{
+    /* the number of locations */
+    private final int n;
+
+    /* the number of candidates of each location */
+    private final int k;
+
+    /* the candidates of each location; the candidates of the location at
+     * index i are stored at indices ( i * k ) to ( i * k + k - 1 ) */
+    private final int[] cands;
+
+    /**
+     * Constructs the candidate lists of the specified locations. The
+     * candidates are found with a KDTree, which takes roughly O(n k log n)
+     * time.
+     *
+     * @param coords the locations
+     * @param k the number of candidates to keep for each location; this is
+     * reduced to one less than the number of locations if it is larger
+     */
+    public CandidateLists ( CoordinateSet coords, int k )
+    {
+        this.n = coords.getSize();
+        this.k = Math.max( 0, Math.min( k, n - 1 ) );
+        this.cands = new int[ n * this.k ];
+
+        this.findByTree( coords );
+    }
+
+    /**
+     * Finds the candidates of every location with a k-nearest query on a
+     * KDTree, then orders them by the distances of the metric of the
+     * locations, which may round the distances the tree orders them by.
+     *
+     * @param coords the locations
+     */
+    private void findByTree ( CoordinateSet coords )
+    {
+        /* the tree over every location */
+        KDTree tree = new KDTree( coords );
+
+        /* the candidates of a location and their distances */
+        int[] found = new int[ this.k ];
+        double[] cand_dists = new double[ this.k ];
+
+        /* go through each of the locations */
+        for ( int row = 0; row < n; row++ )
+        {
+            /* the offset of this location's candidates */
+            int row_off = row * this.k;
+
+            tree.nearest( row, this.k, found );
+
+            /* insert each candidate in order of its distance; the tree found
+             * them in order of exact distance, which this keeps among equal
+             * rounded distances */
+            for ( int i = 0; i < this.k; i++ )
+            {
+                double dist = coords.getDistance( row, found[ i ] );
+
+                int ins = i;
+                while ( ins > 0 && cand_dists[ ins - 1 ] > dist )
+                {
+                    cand_dists[ ins ] = cand_dists[ ins - 1 ];
+                    this.cands[ row_off + ins ]
+                        = this.cands[ row_off + ins - 1 ];
+                    ins--;
+                }
+                cand_dists[ ins ] = dist;
+                this.cands[ row_off + ins ] = found[ i ];
+            }
+        }
+    }
+
+    /**
+     * Returns the number of locations.
+     *
+     * @return the number of locations
+     */
+    public int getSize ()
+    {
+        return this.n;
+    }
+
+    /**
+     * Returns the number of candidates of each location.
+     *
+     * @return the number of candidates of each location
+     */
+    public int getNumCandidates ()
+    {
+        return this.k;
+    }
+
+    /**
+     * Returns a candidate of the location at the given index.
+     *
+     * @param i the index of the location
+     * @param rank the rank of the candidate, from 0 (the nearest) to
+     * getNumCandidates() - 1 (the farthest)
+     *
+     * @return the index of the candidate
+     */
+    public int getCandidate ( int i, int rank )
+    {
+        return this.cands[ i * this.k + rank ];
+    }
+
+    /**
+     * Returns the rank of a location among the candidates of another.
+     *
+     * @param i the index of the location whose candidates to search
+     * @param j the index of the location to search for
+     *
+     * @return the rank of j among the candidates of i, or -1 if j is not one
+     * of them
+     */
+    public int getRank ( int i, int j )
+    {
+        /* the offset of i's candidates */
+        int row_off = i * this.k;
+
+        /* go through each of the candidates of i */
+        for ( int rank = 0; rank < this.k; rank++ )
+        {
+            if ( this.cands[ row_off + rank ] == j )
+            {
+                return rank;
+            }
+        }
+
+        return -1;
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Filename:    ChannelOutput.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the ChannelOutput class. See class header for more
+ * information.
+ */
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * A ChannelOutput writes numbers to a channel, big-endian as DataOutput does,
+ * so that a DataInput can read them back. The numbers are gathered in a
+ * direct buffer, arrays of them in bulk, and the buffer is written to the
+ * channel whenever it fills, so that writing a large array costs a copy into
+ * the buffer rather than a call per number.
+ *
+ * Call flush() once everything has been written.
+ */
+class ChannelOutput
+{
+    /* the size of the buffer, in bytes */
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    /* where the numbers go */
+    private final WritableByteChannel channel;
+
+    /* the numbers not yet written to the channel */
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect( BUFFER_SIZE );
+
+    /**
+     * Constructs a new output to a channel.
+     *
+     * @param channel where to write
+     */
+    public ChannelOutput ( WritableByteChannel channel )
+    {
+        this.channel = channel;
+    }
+
+    /**
+     * Writes an int.
+     *
+     * @param value the int
+     *
+     * @throws IOException if the channel cannot be written
+     */
+    public void writeInt ( int value ) throws IOException
+    {
+        this.ensureRemaining( Integer.BYTES );
+        this.buffer.putInt( value );
+    }
+
+    /**
+     * Writes a long.
+     *
+     * @param value the long
+     *
+     * @throws IOException if the channel cannot be written
+     */
+    public void writeLong ( long value ) throws IOException
+    {
+        this.ensureRemaining( Long.BYTES );
+        this.buffer.putLong( value );
+    }
+
+    /**
+     * Writes a double.
+     *
+     * @param value the double
+     *
+     * @throws IOException if the channel cannot be written
+     */
+    public void writeDouble ( double value ) throws IOException
+    {
+        this.ensureRemaining( Double.BYTES );
+        this.buffer.putDouble( value );
+    }
+
+    /**
+     * Writes a boolean as one byte, 1 for true and 0 for false.
+     *
+     * @param value the boolean
+     *
+     * @throws IOException if the channel cannot be written
+     */
+    public void writeBoolean ( boolean value ) throws IOException
+    {
+        this.ensureRemaining( 1 );
+        this.buffer.put( ( byte ) ( value ? 1 : 0 ) );
+    }
+
+    /**
+     * Writes a string in the modified UTF-8 of DataOutput.writeUTF().
+     *
+     * @param value the string
+     *
+     * @throws IOException if the channel cannot be written, or the string is
+     * too long
+     */
+    public void writeUTF ( String value ) throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new DataOutputStream( bytes ).writeUTF( value );
+        this.write( bytes.toByteArray() );
+    }
+
+    /**
+     * Writes the bytes of an array.
+     *
+     * @param bytes the bytes
+     *
+     * @throws IOException if the channel cannot be written
+     */
+    public void write ( byte[] bytes ) throws IOException
+    {
+        int off = 0;
+        while ( off < bytes.length )
+        {
+            this.ensureRemaining( 1 );
+            int len = Math.min( bytes.length - off, this.buffer.remaining() );
+            this.buffer.put( bytes, off, len );
+            off += len;
+        }
+    }
+
+    /**
+     * Writes part of an array of ints.
+     *
+     * @param values the ints
+     * @param off the index of the first int to write
+     * @param len the number of ints to write
+     *
+     * @throws IOException if the channel cannot be written
+     */
+    public void writeInts ( int[] values, int off, int len )
+        throws IOException
+    {
+        int end = off + len;
+        while ( off < end )
+        {
+            this.ensureRemaining( Integer.BYTES );
+            int count = Math.min( end - off,
+                this.buffer.remaining() / Integer.BYTES );
+            this.buffer.asIntBuffer().put( values, off, count );
+            this.buffer.position( this.buffer.position()
+                + count * Integer.BYTES );
+            off += count;
+        }
+    }
+
+    /**
+     * Writes part of an array of longs.
+     *
+     * @param values the longs
+     * @param off the index of the first long to write
+     * @param len the number of longs to write
+     *
+     * @throws IOException if the channel cannot be written
+     */
+    public void writeLongs ( long[] values, int off, int len )
+        throws IOException
+    {
+        int end = off + len;
+        while ( off < end )
+        {
+            this.ensureRemaining( Long.BYTES );
+            int count = Math.min( end - off,
+                this.buffer.remaining() / Long.BYTES );
+            this.buffer.asLongBuffer().put( values, off, count );
+            this.buffer.position( this.buffer.position()
+                + count * Long.BYTES );
+            off += count;
+        }
+    }
+
+    /**
+     * Writes part of an array of doubles.
+     *
+     * @param values the doubles
+     * @param off the index of the first double to write
+     * @param len the number of doubles to write
+     *
+     * @throws IOException if the channel cannot be written
+     */
+    public void writeDoubles ( double[] values, int off, int len )
+        throws IOException
+    {
+        int end = off + len;
+        while ( off < end )
+        {
+            this.ensureRemaining( Double.BYTES );
+            int count = Math.min( end - off,
+                this.buffer.remaining() / Double.BYTES );
+            this.buffer.asDoubleBuffer().put( values, off, count );
+            this.buffer.position( this.buffer.position()
+                + count * Double.BYTES );
+            off += count;
+        }
+    }
+
+    /**
+     * Writes everything still in the buffer to the channel.
+     *
+     * @throws IOException if the channel cannot be written
+     */
+    public void flush () throws IOException
+    {
+        this.buffer.flip();
+        while ( this.buffer.hasRemaining() )
+        {
+            this.channel.write( this.buffer );
+        }
+        this.buffer.clear();
+    }
+
+    /**
+     * Makes room in the buffer for a number of bytes, writing the buffer to
+     * the channel if there is not enough.
+     *
+     * @param num_bytes the number of bytes, at most the size of the buffer
+     *
+     * @throws IOException if the channel cannot be written
+     */
+    private void ensureRemaining ( int num_bytes ) throws IOException
+    {
+        if ( this.buffer.remaining() < num_bytes )
+        {
+            this.flush();
+        }
+    }
+}
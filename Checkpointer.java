@@ -0,0 +1,277 @@
+/*
+ * Filename:    Checkpointer.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the Checkpointer class. See class header for more
+ * information.
+ */
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * A Checkpointer is an ACOListener that writes a checkpoint of the solver it
+ * follows to a file every given number of iterations, so that a long run can
+ * be resumed with restore() after the process is stopped; see
+ * ACOSolver.copyCheckpoint() for what a checkpoint holds.
+ *
+ * The solver only stops long enough to copy the arrays of its state; the
+ * copy is encoded and written to the file on a single background thread,
+ * in bulk through a FileChannel, so the search goes on while the disk is
+ * busy. If the previous checkpoint is still being
+ * written when the next is due, the next is skipped rather than queued, so
+ * that a slow disk never holds more than one copy in memory. Every
+ * checkpoint is written to a temporary file first, forced to the disk, and
+ * then moved over the previous one, so the file always holds a complete
+ * checkpoint, even if the machine goes down.
+ *
+ * A typical run, resumed if a checkpoint exists:
+ *
+ *   ACOOptions options = new ACOOptions();
+ *   Checkpointer checkpointer = new Checkpointer( filename, 50 );
+ *   options.addListener( checkpointer );
+ *   ACOSolver solver = new MaxMinAntSystem( coords, options );
+ *   if ( new File( filename ).exists() )
+ *       Checkpointer.restore( solver, filename );
+ *   Tour tour = solver.solve();
+ *   checkpointer.close();
+ */
+class Checkpointer implements ACOListener, AutoCloseable
+{
+    /* the name of the file the checkpoints are written to */
+    private final String filename;
+
+    /* the number of iterations between checkpoints */
+    private final int interval;
+
+    /* writes the checkpoints, one at a time, on a daemon thread */
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(
+        task -> {
+            Thread thread = new Thread( task, "Checkpointer" );
+            thread.setDaemon( true );
+            return thread;
+        } );
+
+    /* the checkpoint being written, or null if none has been started */
+    private Future<?> pending = null;
+
+    /* the number of checkpoints written and skipped */
+    private volatile int num_written = 0;
+    private int num_skipped = 0;
+
+    /* the exception of the last checkpoint that could not be written, or
+     * null if there has been none */
+    private volatile IOException last_error = null;
+
+    /**
+     * Constructs a new checkpointer.
+     *
+     * @param filename the name of the file to write the checkpoints to
+     * @param interval the number of iterations between checkpoints
+     */
+    public Checkpointer ( String filename, int interval )
+    {
+        if ( interval < 1 )
+        {
+            throw new IllegalArgumentException( "the interval must be at "
+                + "least 1 iteration, " + interval + " given" );
+        }
+
+        this.filename = filename;
+        this.interval = interval;
+    }
+
+    /**
+     * Restores the state of a run from a checkpoint file, so that the next
+     * call to solve() continues it; see ACOSolver.readCheckpoint().
+     *
+     * @param solver the solver, of the same kind and over the same locations
+     * and options as the one that wrote the checkpoint
+     * @param filename the name of the checkpoint file
+     *
+     * @throws IOException if the file cannot be read, or holds a checkpoint
+     * of a different kind of solver or of different locations
+     */
+    public static void restore ( ACOSolver solver, String filename )
+        throws IOException
+    {
+        try ( InputStream in = Files.newInputStream( Paths.get( filename ) ) )
+        {
+            solver.readCheckpoint( new DataInputStream(
+                new BufferedInputStream( in ) ) );
+        }
+    }
+
+    /**
+     * Starts writing a checkpoint if one is due and the previous one has been
+     * written.
+     *
+     * @param solver the solver, which has just completed an iteration
+     */
+    @Override
+    public void iterationCompleted ( ACOSolver solver )
+    {
+        if ( solver.getIteration() % this.interval != 0 )
+        {
+            return;
+        }
+
+        /* never queue more than one checkpoint */
+        if ( this.pending != null && !this.pending.isDone() )
+        {
+            this.num_skipped++;
+            return;
+        }
+
+        this.checkpoint( solver );
+    }
+
+    /**
+     * Copies the state of the solver, and starts writing it to the file in
+     * the background, after any checkpoint still being written. This must be
+     * called between iterations.
+     *
+     * @param solver the solver
+     */
+    public void checkpoint ( ACOSolver solver )
+    {
+        /* the copy of the state, taken while the solver waits */
+        final StateCopy state;
+        try
+        {
+            state = solver.copyCheckpoint();
+        }
+        catch ( IOException e )
+        {
+            this.last_error = e;
+            return;
+        }
+
+        this.pending = this.writer.submit( () -> this.write( state ) );
+    }
+
+    /**
+     * Returns the number of checkpoints written to the file.
+     *
+     * @return the number of checkpoints written
+     */
+    public int getNumWritten ()
+    {
+        return this.num_written;
+    }
+
+    /**
+     * Returns the number of checkpoints skipped because the previous one was
+     * still being written.
+     *
+     * @return the number of checkpoints skipped
+     */
+    public int getNumSkipped ()
+    {
+        return this.num_skipped;
+    }
+
+    /**
+     * Returns the exception of the last checkpoint that could not be written.
+     * A failed checkpoint does not stop the run, and the file keeps the last
+     * checkpoint that was written.
+     *
+     * @return the last exception, or null if every checkpoint was written
+     */
+    public IOException getLastError ()
+    {
+        return this.last_error;
+    }
+
+    /**
+     * Waits for the checkpoint being written, if there is one, and stops the
+     * background thread.
+     */
+    @Override
+    public void close ()
+    {
+        this.writer.shutdown();
+
+        /* wait for the last checkpoint, even if interrupted */
+        boolean interrupted = false;
+        while ( this.pending != null )
+        {
+            try
+            {
+                this.pending.get();
+                this.pending = null;
+            }
+            catch ( InterruptedException e )
+            {
+                interrupted = true;
+            }
+            catch ( ExecutionException e )
+            {
+                this.pending = null;
+            }
+        }
+        if ( interrupted )
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes a checkpoint to a temporary file next to the checkpoint file,
+     * forces it to the disk, and moves it over the checkpoint file.
+     *
+     * @param state the copy of the state of the solver
+     */
+    private void write ( StateCopy state )
+    {
+        String temp_name = this.filename + ".tmp";
+        try
+        {
+            try ( FileChannel channel = FileChannel.open(
+                Paths.get( temp_name ), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE ) )
+            {
+                ChannelOutput out = new ChannelOutput( channel );
+                state.write( out );
+                out.flush();
+
+                /* the checkpoint must be on the disk before it replaces the
+                 * previous one */
+                channel.force( true );
+            }
+
+            /* replace the previous checkpoint in one step where possible */
+            try
+            {
+                Files.move( Paths.get( temp_name ), Paths.get( this.filename ),
+                    StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING );
+            }
+            catch ( AtomicMoveNotSupportedException e )
+            {
+                Files.move( Paths.get( temp_name ), Paths.get( this.filename ),
+                    StandardCopyOption.REPLACE_EXISTING );
+            }
+
+            this.num_written++;
+        }
+        catch ( IOException e )
+        {
+            this.last_error = e;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Filename:    ChoiceInfo.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the ChoiceInfo interface. See interface header for more
+ * information.
+ */
+
+/**
+ * A ChoiceInfo gives the weight of every path, used for calculation of
+ * probabilities when ants are choosing between paths. The weight of the path
+ * between the locations at indices i and j is tau^alpha * eta^beta, where tau
+ * is the pheromone on the path and eta is the inverse of its length. The
+ * weights are brought up to date with the pheromone by refresh(), once per
+ * iteration, and must not change while ants are choosing between paths.
+ *
+ * Ants only ever compare weights, so the weights are only kept up to a common
+ * factor.
+ */
+interface ChoiceInfo
+{
+    /**
+     * Recomputes the weight of every path whose pheromone has changed since
+     * the last refresh, and marks the changes of the pheromone as seen.
+     *
+     * @param pheromones the pheromone along the paths between the locations
+     */
+    void refresh ( PheromoneStore pheromones );
+
+    /**
+     * Returns the weight of the path between the locations at the given
+     * indices, as of the last refresh, up to a factor common to every path.
+     *
+     * @param i the index of the start location
+     * @param j the index of the end location
+     *
+     * @return the weight of the path between i and j
+     */
+    double getChoice ( int i, int j );
+
+    /**
+     * Returns the weight of the path from a location to one of its
+     * candidates, as of the last refresh, up to a factor common to every
+     * path.
+     *
+     * @param cands the candidate lists of the locations
+     * @param i the index of the start location
+     * @param rank the rank of the candidate of i to end at
+     *
+     * @return the weight of the path from i to its candidate
+     */
+    default double getCandidateChoice ( CandidateLists cands, int i, int rank )
+    {
+        return this.getChoice( i, cands.getCandidate( i, rank ) );
+    }
+
+    /**
+     * Returns the heuristic part eta^beta of the weight of the path between the
+     * locations at the given indices.
+     *
+     * @param i the index of the start location
+     * @param j the index of the end location
+     *
+     * @return the heuristic weight of the path between i and j
+     */
+    double getHeuristic ( int i, int j );
+}
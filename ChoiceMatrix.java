@@ -0,0 +1,254 @@
+/*
+ * Filename:    ChoiceMatrix.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the ChoiceMatrix class. See class header for more
+ * information.
+ */
+
+/**
+ * A ChoiceMatrix is a ChoiceInfo that caches the weight of every path in a
+ * row-major n x n array. The heuristic part eta^beta of each weight never
+ * changes, so it is computed once; the full weights only change when the
+ * pheromone does, so they are recomputed with refresh() once per iteration
+ * rather than on every ant step.
+ *
+ * The weights are computed from the stored values of the PheromoneStore,
+ * which evaporation leaves unchanged, so refresh() only has to recompute the
+ * weights of the paths that received pheromone. The floor of the pheromone
+ * is applied when a weight is read, as the greater of the cached weight and
+ * the heuristic times the floor, so that a floor, which rises against the
+ * stored values with every evaporation, does not change any cached weight.
+ *
+ * With candidate lists, the weights of the paths from each location to its
+ * candidates, which the ants read on almost every step, are also cached in
+ * rows of k weights per location, in the order of the candidate lists, next
+ * to their heuristics, so that applying the floor to them reads two short
+ * rows rather than two entries far apart in the n x n arrays.
+ */
+class ChoiceMatrix implements ChoiceInfo
+{
+    /* the number of locations in this matrix */
+    private final int n;
+
+    /* the exponential weight to give the pheromone value */
+    private final double alpha;
+
+    /* eta^beta for each path, in the same row-major layout as the distances */
+    private final double[] heuristic;
+
+    /* tau^alpha * eta^beta for each path, from its stored value */
+    private final double[] choice;
+
+    /* the candidate lists whose paths have cached weights, or null if there
+     * are none */
+    private final CandidateLists cands;
+
+    /* the number of candidates of each location */
+    private final int k;
+
+    /* eta^beta and tau^alpha * eta^beta, from the stored value, for the path
+     * from each location to each of its candidates; the path from the
+     * location at index i to its candidate of the given rank is at index
+     * ( i * k + rank ) */
+    private final double[] cand_heuristic;
+    private final double[] cand_choice;
+
+    /* the floor of the last refresh, up to the same common factor as the
+     * stored values, raised to alpha */
+    private double floor_weight = 0;
+
+    /**
+     * Constructs a new choice matrix over the specified distances. The
+     * matrix holds no pheromone information until refresh() is called.
+     *
+     * @param dists the distances between the locations
+     * @param cands the candidate lists of the locations, whose paths have
+     * cached weights, or null if the ants choose from every location
+     * @param alpha the exponential weight to give the pheromone value
+     * @param beta the exponential weight to give the length value
+     */
+    public ChoiceMatrix ( DistanceProvider dists, CandidateLists cands,
+        double alpha, double beta )
+    {
+        this.n = dists.getSize();
+        this.alpha = alpha;
+        this.heuristic = new double[ n * n ];
+        this.choice = new double[ n * n ];
+        this.cands = cands;
+        this.k = ( cands != null ) ? cands.getNumCandidates() : 0;
+        this.cand_heuristic = new double[ n * k ];
+        this.cand_choice = new double[ n * k ];
+
+        /* go through each of the rows */
+        for ( int row = 0; row < n; row++ )
+        {
+            /* go through each of the columns */
+            for ( int col = 0; col < n; col++ )
+            {
+                /* there is no path from a location to itself */
+                if ( row != col )
+                {
+                    this.heuristic[ row * n + col ] = Math.pow(
+                        1.0 / dists.getDistance( row, col ), beta );
+                }
+            }
+
+            /* go through each of its candidates */
+            for ( int rank = 0; rank < k; rank++ )
+            {
+                this.cand_heuristic[ row * k + rank ] = this.heuristic[ row
+                    * n + cands.getCandidate( row, rank ) ];
+            }
+        }
+    }
+
+    /**
+     * Recomputes the weight of every path whose pheromone has changed since
+     * the last refresh, and marks the changes of the pheromone as seen.
+     *
+     * @param pheromones the pheromone along the paths between the locations
+     */
+    @Override
+    public void refresh ( PheromoneStore pheromones )
+    {
+        double floor = pheromones.getScaledFloor();
+        this.floor_weight = ( alpha == 1 ) ? floor : Math.pow( floor, alpha );
+
+        /* any path may have changed */
+        if ( pheromones.isAllChanged() )
+        {
+            /* go through each of the rows */
+            for ( int row = 0; row < n; row++ )
+            {
+                /* go through each of the columns */
+                for ( int col = 0; col < n; col++ )
+                {
+                    this.update( pheromones, row, col );
+                }
+
+                /* go through each of its candidates */
+                for ( int rank = 0; rank < k; rank++ )
+                {
+                    this.cand_choice[ row * k + rank ] = this.choice[ row * n
+                        + this.cands.getCandidate( row, rank ) ];
+                }
+            }
+        }
+        else
+        {
+            /* go through each of the changed paths, in both directions */
+            for ( int c = 0; c < pheromones.getNumChanged(); c++ )
+            {
+                int i = pheromones.getChangedStart( c );
+                int j = pheromones.getChangedEnd( c );
+                this.update( pheromones, i, j );
+                this.update( pheromones, j, i );
+
+                /* the directions ending at a candidate */
+                if ( this.cands != null )
+                {
+                    int rank = this.cands.getRank( i, j );
+                    if ( rank >= 0 )
+                    {
+                        this.cand_choice[ i * k + rank ] =
+                            this.choice[ i * n + j ];
+                    }
+                    rank = this.cands.getRank( j, i );
+                    if ( rank >= 0 )
+                    {
+                        this.cand_choice[ j * k + rank ] =
+                            this.choice[ j * n + i ];
+                    }
+                }
+            }
+        }
+
+        pheromones.clearChanges();
+    }
+
+    /**
+     * Recomputes the weight of one path from its stored value.
+     *
+     * @param pheromones the pheromone along the paths between the locations
+     * @param row the index of the start location
+     * @param col the index of the end location
+     */
+    private void update ( PheromoneStore pheromones, int row, int col )
+    {
+        /* the pheromone on this path, up to a common factor */
+        double tau = pheromones.getScaledPheromone( row, col );
+
+        /* skip the pow when it would be the identity */
+        this.choice[ row * n + col ] = this.heuristic[ row * n + col ]
+            * ( ( alpha == 1 ) ? tau : Math.pow( tau, alpha ) );
+    }
+
+    /**
+     * Returns the weight of the path between the locations at the given
+     * indices, as of the last refresh, up to a factor common to every path.
+     *
+     * @param i the index of the start location
+     * @param j the index of the end location
+     *
+     * @return the weight of the path between i and j
+     */
+    @Override
+    public double getChoice ( int i, int j )
+    {
+        /* without a floor, the heuristic need not be read */
+        int ij = i * this.n + j;
+        if ( this.floor_weight == 0 )
+        {
+            return this.choice[ ij ];
+        }
+
+        /* the floor holds up the weight of a path with less pheromone */
+        return Math.max( this.choice[ ij ],
+            this.heuristic[ ij ] * this.floor_weight );
+    }
+
+    /**
+     * Returns the weight of the path from a location to one of its
+     * candidates, as of the last refresh, up to a factor common to every
+     * path.
+     *
+     * @param cands the candidate lists of the locations
+     * @param i the index of the start location
+     * @param rank the rank of the candidate of i to end at
+     *
+     * @return the weight of the path from i to its candidate
+     */
+    @Override
+    public double getCandidateChoice ( CandidateLists cands, int i, int rank )
+    {
+        /* the cache is in the order of its own candidate lists */
+        if ( cands != this.cands )
+        {
+            return this.getChoice( i, cands.getCandidate( i, rank ) );
+        }
+
+        /* the floor holds up the weight of a path with less pheromone */
+        int ir = i * this.k + rank;
+
+        return Math.max( this.cand_choice[ ir ],
+            this.cand_heuristic[ ir ] * this.floor_weight );
+    }
+
+    /**
+     * Returns the heuristic part eta^beta of the weight of the path between the
+     * locations at the given indices.
+     *
+     * @param i the index of the start location
+     * @param j the index of the end location
+     *
+     * @return the heuristic weight of the path between i and j
+     */
+    @Override
+    public double getHeuristic ( int i, int j )
+    {
+        return this.heuristic[ i * this.n + j ];
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Filename:    CoordinateSet.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the CoordinateSet interface. See interface header for
+ * more information.
+ */
+
+/**
+ * A CoordinateSet is a set of locations given by their coordinates, together
+ * with the metric that measures the distances between them. Locations are
+ * identified by their indices, so that implementations can keep their
+ * coordinates in flat arrays rather than in one object per location.
+ */
+interface CoordinateSet extends DistanceProvider
+{
+    /**
+     * Returns the x-coordinate of the location at a given index.
+     *
+     * @param i the index of the location
+     *
+     * @return the x-coordinate of the location
+     */
+    double getX ( int i );
+
+    /**
+     * Returns the y-coordinate of the location at a given index.
+     *
+     * @param i the index of the location
+     *
+     * @return the y-coordinate of the location
+     */
+    double getY ( int i );
+
+    /**
+     * Returns the metric that measures the distances between the locations.
+     *
+     * @return the metric of this set
+     */
+    Metric getMetric ();
+
+    /**
+     * Returns the distance between the locations at the given indices, under
+     * the metric of this set.
+     *
+     * @param i the index of the first location
+     * @param j the index of the second location
+     *
+     * @return the distance between the locations at indices i and j
+     */
+    @Override
+    default double getDistance ( int i, int j )
+    {
+        return this.getMetric().distance( this.getX( i ), this.getY( i ),
+            this.getX( j ), this.getY( j ) );
+    }
+
+    /**
+     * Returns the locations of this set as Location objects, in order.
+     *
+     * @return the locations of this set
+     */
+    default Location[] toLocations ()
+    {
+        Location[] locs = new Location[ this.getSize() ];
+        for ( int i = 0; i < locs.length; i++ )
+        {
+            locs[ i ] = new Location( this.getX( i ), this.getY( i ) );
+        }
+
+        return locs;
+    }
+
+    /**
+     * Returns a fingerprint of the coordinates of this set, which changes if
+     * any coordinate does, so that a file computed from the locations can
+     * tell whether it still matches them.
+     *
+     * @return the fingerprint
+     */
+    default long getFingerprint ()
+    {
+        long hash = this.getSize();
+
+        /* go through each of the locations */
+        for ( int i = 0; i < this.getSize(); i++ )
+        {
+            hash = mix( hash ^ Double.doubleToLongBits( this.getX( i ) ) );
+            hash = mix( hash ^ Double.doubleToLongBits( this.getY( i ) ) );
+        }
+
+        return hash;
+    }
+
+    /**
+     * Scrambles the bits of a number (SplitMix64 finalizer).
+     *
+     * @param z the number
+     *
+     * @return the scrambled number
+     */
+    private static long mix ( long z )
+    {
+        z = ( z ^ ( z >>> 30 ) ) * 0xbf58476d1ce4e5b9L;
+        z = ( z ^ ( z >>> 27 ) ) * 0x94d049bb133111ebL;
+        return z ^ ( z >>> 31 );
+    }
+}
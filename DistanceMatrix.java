@@ -0,0 +1,73 @@
+/*
+ * Filename:    DistanceMatrix.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the DistanceMatrix class. See class header for more
+ * information.
+ */
+
+/**
+ * A DistanceMatrix stores the distances between every pair of a given set of
+ * locations in a single contiguous, row-major array, so that the distances from
+ * one location to every other location can be read without following a
+ * reference per edge.
+ */
+class DistanceMatrix implements DistanceProvider
+{
+    /* the number of locations in this matrix */
+    private final int n;
+
+    /* the distances between each pair of locations; the distance between the
+     * locations at indices i and j is stored at index ( i * n + j ) */
+    private final double[] dists;
+
+    /**
+     * Constructs a new distance matrix over the specified locations.
+     *
+     * @param coords the locations to compute the distances between
+     */
+    public DistanceMatrix ( CoordinateSet coords )
+    {
+        this.n = coords.getSize();
+        this.dists = new double[ n * n ];
+
+        /* go through each of the rows */
+        for ( int row = 0; row < n; row++ )
+        {
+            /* go through each of the columns above the diagonal */
+            for ( int col = row + 1; col < n; col++ )
+            {
+                /* the distance is the same in both directions */
+                this.dists[ row * n + col ] = this.dists[ col * n + row ]
+                    = coords.getDistance( row, col );
+            }
+        }
+    }
+
+    /**
+     * Returns the number of locations in this matrix.
+     *
+     * @return the number of locations in this matrix
+     */
+    @Override
+    public int getSize ()
+    {
+        return this.n;
+    }
+
+    /**
+     * Returns the distance between the locations at the given indices.
+     *
+     * @param i the index of the first location
+     * @param j the index of the second location
+     *
+     * @return the distance between the locations at indices i and j
+     */
+    @Override
+    public double getDistance ( int i, int j )
+    {
+        return this.dists[ i * this.n + j ];
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Filename:    DistanceProvider.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the DistanceProvider interface. See interface header for
+ * more information.
+ */
+
+/**
+ * A DistanceProvider gives the distance between any two of a set of
+ * locations, identified by their indices. Implementations may precompute the
+ * distances or compute them on demand.
+ */
+interface DistanceProvider
+{
+    /**
+     * Returns the number of locations.
+     *
+     * @return the number of locations
+     */
+    int getSize ();
+
+    /**
+     * Returns the distance between the locations at the given indices.
+     *
+     * @param i the index of the first location
+     * @param j the index of the second location
+     *
+     * @return the distance between the locations at indices i and j
+     */
+    double getDistance ( int i, int j );
+}
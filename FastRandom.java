@@ -0,0 +1,107 @@
+/*
+ * Filename:    FastRandom.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the FastRandom class. See class header for more
+ * information.
+ */
+
+/**
+ * A FastRandom is a small, unsynchronized pseudo-random number generator
+ * (SplitMix64). Unlike Math.random(), which every thread shares, each ant
+ * worker owns its own FastRandom, so that workers never contend on a single
+ * generator. Its entire state is one long, which can be read and restored.
+ */
+class FastRandom
+{
+    /* the increment applied to the state on every step */
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    /* the scale that maps the top 53 bits of a long to [0, 1) */
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    /* the state of this generator */
+    private long state;
+
+    /**
+     * Constructs a new generator with the specified seed.
+     *
+     * @param seed the initial state of the generator
+     */
+    public FastRandom ( long seed )
+    {
+        this.state = seed;
+    }
+
+    /**
+     * Returns the next pseudo-random long.
+     *
+     * @return the next pseudo-random long
+     */
+    public long nextLong ()
+    {
+        /* step the state, then scramble it */
+        long z = ( this.state += GOLDEN_GAMMA );
+        z = ( z ^ ( z >>> 30 ) ) * 0xbf58476d1ce4e5b9L;
+        z = ( z ^ ( z >>> 27 ) ) * 0x94d049bb133111ebL;
+
+        return z ^ ( z >>> 31 );
+    }
+
+    /**
+     * Returns the next pseudo-random double, uniformly distributed in [0, 1).
+     *
+     * @return the next pseudo-random double
+     */
+    public double nextDouble ()
+    {
+        return ( this.nextLong() >>> 11 ) * DOUBLE_UNIT;
+    }
+
+    /**
+     * Returns the next pseudo-random int, uniformly distributed in
+     * [0, bound).
+     *
+     * @param bound the upper bound (exclusive); must be positive
+     *
+     * @return the next pseudo-random int
+     */
+    public int nextInt ( int bound )
+    {
+        return ( int ) ( this.nextDouble() * bound );
+    }
+
+    /**
+     * Returns a new generator whose sequence is independent of this one's,
+     * advancing this generator.
+     *
+     * @return a new generator
+     */
+    public FastRandom split ()
+    {
+        return new FastRandom( this.nextLong() );
+    }
+
+    /**
+     * Returns the state of this generator.
+     *
+     * @return the state of this generator
+     */
+    public long getState ()
+    {
+        return this.state;
+    }
+
+    /**
+     * Sets the state of this generator, so that it continues the sequence of
+     * the generator the state was read from.
+     *
+     * @param new_state the new state of this generator
+     */
+    public void setState ( long new_state )
+    {
+        this.state = new_state;
+    }
+}
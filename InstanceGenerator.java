@@ -0,0 +1,124 @@
+/*
+ * Filename:    InstanceGenerator.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the InstanceGenerator class. See class header for more
+ * information.
+ */
+
+/**
+ * This class is a utility class that generates seeded random TSP instances;
+ * the same size and seed always give the same instance.
+ */
+final class InstanceGenerator
+{
+    /* the number of locations per cluster in a clustered instance, on
+     * average */
+    private static final int LOCS_PER_CLUSTER = 100;
+
+    /* the standard deviation of a cluster, as a proportion of the width of
+     * the map */
+    private static final double CLUSTER_SPREAD = 0.02;
+
+    /**
+     * Returns locations scattered uniformly over a map.
+     *
+     * @param n the number of locations
+     * @param seed the seed of the instance
+     * @param width the width of the map
+     * @param height the height of the map
+     *
+     * @return the random locations
+     */
+    public static Location[] uniform ( int n, long seed, double width,
+        double height )
+    {
+        /* the generator of the coordinates */
+        FastRandom rand = new FastRandom( seed );
+
+        /* the random locations */
+        Location[] locs = new Location[ n ];
+        for ( int i = 0; i < n; i++ )
+        {
+            locs[ i ] = new Location( rand.nextDouble() * width,
+                rand.nextDouble() * height );
+        }
+
+        return locs;
+    }
+
+    /**
+     * Returns locations gathered in normally distributed clusters around
+     * centres scattered uniformly over a map, which is closer to real
+     * instances than a uniform scatter. Locations that fall outside the map
+     * are clamped to its edge.
+     *
+     * @param n the number of locations
+     * @param seed the seed of the instance
+     * @param width the width of the map
+     * @param height the height of the map
+     *
+     * @return the random locations
+     */
+    public static Location[] clustered ( int n, long seed, double width,
+        double height )
+    {
+        /* the generator of the coordinates */
+        FastRandom rand = new FastRandom( seed );
+
+        /* the centres of the clusters */
+        int num_clusters = Math.max( 1, n / LOCS_PER_CLUSTER );
+        double[] centre_xs = new double[ num_clusters ];
+        double[] centre_ys = new double[ num_clusters ];
+        for ( int c = 0; c < num_clusters; c++ )
+        {
+            centre_xs[ c ] = rand.nextDouble() * width;
+            centre_ys[ c ] = rand.nextDouble() * height;
+        }
+
+        /* the random locations */
+        Location[] locs = new Location[ n ];
+        for ( int i = 0; i < n; i++ )
+        {
+            /* the cluster of this location */
+            int c = rand.nextInt( num_clusters );
+
+            locs[ i ] = new Location(
+                clamp( centre_xs[ c ] + nextGaussian( rand ) * CLUSTER_SPREAD
+                * width, width ),
+                clamp( centre_ys[ c ] + nextGaussian( rand ) * CLUSTER_SPREAD
+                * width, height ) );
+        }
+
+        return locs;
+    }
+
+    /**
+     * Returns a normally distributed random number with mean 0 and standard
+     * deviation 1 (Box-Muller).
+     *
+     * @param rand the generator to use
+     *
+     * @return the random number
+     */
+    private static double nextGaussian ( FastRandom rand )
+    {
+        return Math.sqrt( -2 * Math.log( 1 - rand.nextDouble() ) )
+            * Math.cos( 2 * Math.PI * rand.nextDouble() );
+    }
+
+    /**
+     * Returns a coordinate clamped to [0, max].
+     *
+     * @param coord the coordinate
+     * @param max the greatest allowed coordinate
+     *
+     * @return the clamped coordinate
+     */
+    private static double clamp ( double coord, double max )
+    {
+        return Math.max( 0, Math.min( coord, max ) );
+    }
+}
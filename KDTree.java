@@ -0,0 +1,527 @@
+/*
+ * Filename:    KDTree.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the KDTree class. See class header for more information.
+ */
+
+/**
+ * A KDTree is a k-d tree over a set of locations that answers "which
+ * remaining location is nearest to this location?" (or "which k remaining
+ * locations are nearest to this location?") and supports removing locations
+ * as they are visited. Finding the nearest remaining location takes
+ * roughly logarithmic time, so a whole nearest neighbor tour can be built in
+ * roughly O(n log n) time instead of O(n^2).
+ *
+ * The tree is stored implicitly: the locations are permuted so that the
+ * location splitting the range [lo, hi) is at position ( lo + hi ) / 2, and
+ * each position also records how many locations remain in the subtree rooted
+ * there, so that emptied subtrees are skipped.
+ *
+ * Nearness is measured by exact Euclidean distance between points that are
+ * nearer exactly when the locations are nearer under their metric, up to
+ * rounding. For every metric but GEO these are the coordinates themselves;
+ * for GEO, whose distance grows with the angle between two locations seen
+ * from the centre of the Earth, they are the locations on the unit sphere,
+ * and the tree splits on three axes rather than two.
+ */
+class KDTree
+{
+    /* the number of locations in the tree */
+    private final int n;
+
+    /* the number of axes the tree splits on, 2 or 3 */
+    private final int dims;
+
+    /* the index of the location at each position in the tree */
+    private final int[] perm;
+
+    /* the position in the tree of the location at each index */
+    private final int[] pos_of;
+
+    /* the point of the location at each position in the tree; the third
+     * coordinate is 0 unless the tree splits on three axes */
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] zs;
+
+    /* the number of locations remaining in the subtree rooted at each
+     * position, and the same counts before any location was removed */
+    private final int[] counts;
+    private final int[] full_counts;
+
+    /* the best location found by the current nearest query, and the squared
+     * distance to it */
+    private int best_pos;
+    private double best_dist_sq;
+
+    /* the positions of the nearest locations found by the current k-nearest
+     * query and their squared distances, nearest first, and how many have
+     * been found */
+    private int[] knn_pos = new int[ 0 ];
+    private double[] knn_dist_sq = new double[ 0 ];
+    private int knn_size;
+
+    /**
+     * Constructs a new tree containing every one of the specified locations.
+     *
+     * @param coords the locations
+     */
+    public KDTree ( CoordinateSet coords )
+    {
+        this.n = coords.getSize();
+        this.perm = new int[ n ];
+        this.pos_of = new int[ n ];
+        this.xs = new double[ n ];
+        this.ys = new double[ n ];
+        this.zs = new double[ n ];
+        this.counts = new int[ n ];
+        this.full_counts = new int[ n ];
+
+        /* GEO distances follow the angle between the locations, which the
+         * planar coordinates do not */
+        boolean geo = coords.getMetric() == Metric.GEO;
+        this.dims = geo ? 3 : 2;
+
+        /* the point of the location at each index, by axis */
+        double[][] loc_pts = new double[ dims ][ n ];
+
+        /* start with the locations in their given order */
+        for ( int i = 0; i < n; i++ )
+        {
+            this.perm[ i ] = i;
+
+            /* the point on the unit sphere at the latitude and longitude */
+            if ( geo )
+            {
+                double lat = Metric.toRadians( coords.getX( i ) );
+                double lon = Metric.toRadians( coords.getY( i ) );
+                loc_pts[ 0 ][ i ] = Math.cos( lat ) * Math.cos( lon );
+                loc_pts[ 1 ][ i ] = Math.cos( lat ) * Math.sin( lon );
+                loc_pts[ 2 ][ i ] = Math.sin( lat );
+            }
+            else
+            {
+                loc_pts[ 0 ][ i ] = coords.getX( i );
+                loc_pts[ 1 ][ i ] = coords.getY( i );
+            }
+        }
+
+        /* arrange the locations into the tree */
+        this.build( 0, n, 0, loc_pts );
+
+        /* go through each of the positions */
+        for ( int p = 0; p < n; p++ )
+        {
+            this.pos_of[ this.perm[ p ] ] = p;
+            this.xs[ p ] = loc_pts[ 0 ][ this.perm[ p ] ];
+            this.ys[ p ] = loc_pts[ 1 ][ this.perm[ p ] ];
+            if ( geo )
+            {
+                this.zs[ p ] = loc_pts[ 2 ][ this.perm[ p ] ];
+            }
+        }
+
+        System.arraycopy( this.counts, 0, this.full_counts, 0, n );
+    }
+
+    /**
+     * Constructs a new tree over the same locations as another tree, sharing
+     * its layout but with its own record of which locations remain, so that
+     * the two trees can be used by different threads. The new tree contains
+     * every location.
+     *
+     * @param other the tree to share the layout of
+     */
+    public KDTree ( KDTree other )
+    {
+        this.n = other.n;
+        this.dims = other.dims;
+        this.perm = other.perm;
+        this.pos_of = other.pos_of;
+        this.xs = other.xs;
+        this.ys = other.ys;
+        this.zs = other.zs;
+        this.full_counts = other.full_counts;
+        this.counts = other.full_counts.clone();
+    }
+
+    /**
+     * Puts every location removed since construction back into the tree.
+     */
+    public void reset ()
+    {
+        System.arraycopy( this.full_counts, 0, this.counts, 0, n );
+    }
+
+    /**
+     * Returns the number of locations remaining in the tree.
+     *
+     * @return the number of locations remaining in the tree
+     */
+    public int getSize ()
+    {
+        return ( n == 0 ) ? 0 : this.counts[ n >>> 1 ];
+    }
+
+    /**
+     * Removes the location at the given index from the tree. The location must
+     * still be in the tree.
+     *
+     * @param ind the index of the location to remove
+     */
+    public void remove ( int ind )
+    {
+        /* the position of the location */
+        int p = this.pos_of[ ind ];
+
+        /* walk down from the root to the location, leaving one fewer location
+         * in each subtree on the way */
+        int lo = 0;
+        int hi = n;
+        while ( true )
+        {
+            int mid = ( lo + hi ) >>> 1;
+            this.counts[ mid ]--;
+
+            if ( p == mid )
+            {
+                return;
+            }
+            else if ( p < mid )
+            {
+                hi = mid;
+            }
+            else
+            {
+                lo = mid + 1;
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the remaining location nearest to the location at
+     * a given index, which counts itself if it remains in the tree.
+     *
+     * @param ind the index of the location
+     *
+     * @return the index of the nearest remaining location, or -1 if no
+     * location remains
+     */
+    public int nearest ( int ind )
+    {
+        this.best_pos = -1;
+        this.best_dist_sq = Double.POSITIVE_INFINITY;
+
+        /* the point of the location */
+        int p = this.pos_of[ ind ];
+        this.search( 0, n, 0, this.xs[ p ], this.ys[ p ], this.zs[ p ] );
+
+        return ( this.best_pos == -1 ) ? -1 : this.perm[ this.best_pos ];
+    }
+
+    /**
+     * Finds the remaining locations nearest to the location at a given index,
+     * other than that location itself.
+     *
+     * @param ind the index of the location
+     * @param k the number of locations to find
+     * @param out the array to store the indices of the locations found in,
+     * nearest first; must hold at least k indices
+     *
+     * @return the number of locations found, which is less than k only if
+     * fewer other locations remain
+     */
+    public int nearest ( int ind, int k, int[] out )
+    {
+        /* grow the buffers of the query */
+        if ( this.knn_pos.length < k )
+        {
+            this.knn_pos = new int[ k ];
+            this.knn_dist_sq = new double[ k ];
+        }
+        this.knn_size = 0;
+
+        if ( k > 0 )
+        {
+            this.searchNearest( 0, n, 0, this.pos_of[ ind ], k );
+        }
+
+        /* go through each of the locations found */
+        for ( int i = 0; i < this.knn_size; i++ )
+        {
+            out[ i ] = this.perm[ this.knn_pos[ i ] ];
+        }
+
+        return this.knn_size;
+    }
+
+    /**
+     * Searches the subtree over the range [lo, hi) for a remaining location
+     * nearer to a point than the best one found so far.
+     *
+     * @param lo the first position in the range
+     * @param hi one past the last position in the range
+     * @param depth the depth of the subtree, which gives its splitting axis
+     * @param x the first coordinate of the point
+     * @param y the second coordinate of the point
+     * @param z the third coordinate of the point
+     */
+    private void search ( int lo, int hi, int depth, double x, double y,
+        double z )
+    {
+        /* the range is empty, or every location in it has been removed */
+        if ( lo >= hi )
+        {
+            return;
+        }
+        int mid = ( lo + hi ) >>> 1;
+        if ( this.counts[ mid ] == 0 )
+        {
+            return;
+        }
+
+        /* the location splitting this range has not been removed */
+        if ( this.isPresent( lo, hi, mid ) )
+        {
+            double dx = this.xs[ mid ] - x;
+            double dy = this.ys[ mid ] - y;
+            double dz = this.zs[ mid ] - z;
+            double dist_sq = dx * dx + dy * dy + dz * dz;
+
+            if ( dist_sq < this.best_dist_sq )
+            {
+                this.best_dist_sq = dist_sq;
+                this.best_pos = mid;
+            }
+        }
+
+        /* the signed distance from the point to the splitting plane */
+        double diff = this.axisDiff( depth, mid, x, y, z );
+
+        /* search the side of the point first, then the other side if it could
+         * still hold a nearer location */
+        if ( diff < 0 )
+        {
+            this.search( lo, mid, depth + 1, x, y, z );
+            if ( diff * diff < this.best_dist_sq )
+            {
+                this.search( mid + 1, hi, depth + 1, x, y, z );
+            }
+        }
+        else
+        {
+            this.search( mid + 1, hi, depth + 1, x, y, z );
+            if ( diff * diff < this.best_dist_sq )
+            {
+                this.search( lo, mid, depth + 1, x, y, z );
+            }
+        }
+    }
+
+    /**
+     * Searches the subtree over the range [lo, hi) for remaining locations
+     * nearer to the location at a given position than the k nearest ones found
+     * so far.
+     *
+     * @param lo the first position in the range
+     * @param hi one past the last position in the range
+     * @param depth the depth of the subtree, which gives its splitting axis
+     * @param p the position of the location to search around
+     * @param k the number of locations to find
+     */
+    private void searchNearest ( int lo, int hi, int depth, int p, int k )
+    {
+        /* the range is empty, or every location in it has been removed */
+        if ( lo >= hi )
+        {
+            return;
+        }
+        int mid = ( lo + hi ) >>> 1;
+        if ( this.counts[ mid ] == 0 )
+        {
+            return;
+        }
+
+        /* the point of the location to search around */
+        double x = this.xs[ p ];
+        double y = this.ys[ p ];
+        double z = this.zs[ p ];
+
+        /* the location splitting this range is another remaining location */
+        if ( mid != p && this.isPresent( lo, hi, mid ) )
+        {
+            double dx = this.xs[ mid ] - x;
+            double dy = this.ys[ mid ] - y;
+            double dz = this.zs[ mid ] - z;
+            double dist_sq = dx * dx + dy * dy + dz * dz;
+
+            /* it is nearer than the farthest location found so far, or
+             * fewer than k have been found */
+            if ( this.knn_size < k
+                || dist_sq < this.knn_dist_sq[ this.knn_size - 1 ] )
+            {
+                /* insert it in order, dropping the farthest if k have been
+                 * found */
+                int ins = ( this.knn_size < k ) ? this.knn_size++ : k - 1;
+                while ( ins > 0 && this.knn_dist_sq[ ins - 1 ] > dist_sq )
+                {
+                    this.knn_dist_sq[ ins ] = this.knn_dist_sq[ ins - 1 ];
+                    this.knn_pos[ ins ] = this.knn_pos[ ins - 1 ];
+                    ins--;
+                }
+                this.knn_dist_sq[ ins ] = dist_sq;
+                this.knn_pos[ ins ] = mid;
+            }
+        }
+
+        /* the signed distance from the location to the splitting plane */
+        double diff = this.axisDiff( depth, mid, x, y, z );
+
+        /* search the side of the location first, then the other side if it
+         * could still hold a nearer location */
+        int near_lo = ( diff < 0 ) ? lo : mid + 1;
+        int near_hi = ( diff < 0 ) ? mid : hi;
+        int far_lo = ( diff < 0 ) ? mid + 1 : lo;
+        int far_hi = ( diff < 0 ) ? hi : mid;
+
+        this.searchNearest( near_lo, near_hi, depth + 1, p, k );
+        if ( this.knn_size < k
+            || diff * diff < this.knn_dist_sq[ this.knn_size - 1 ] )
+        {
+            this.searchNearest( far_lo, far_hi, depth + 1, p, k );
+        }
+    }
+
+    /**
+     * Returns the signed distance from a point to the plane through the
+     * location at a position, across the splitting axis of a depth.
+     *
+     * @param depth the depth of the subtree split at the position
+     * @param mid the position of the splitting location
+     * @param x the first coordinate of the point
+     * @param y the second coordinate of the point
+     * @param z the third coordinate of the point
+     *
+     * @return the signed distance from the point to the splitting plane
+     */
+    private double axisDiff ( int depth, int mid, double x, double y,
+        double z )
+    {
+        switch ( depth % this.dims )
+        {
+            case 0:
+                return x - this.xs[ mid ];
+            case 1:
+                return y - this.ys[ mid ];
+            default:
+                return z - this.zs[ mid ];
+        }
+    }
+
+    /**
+     * Returns whether the location splitting a range is still in the tree,
+     * that is, whether its subtree holds more locations than its two children
+     * together.
+     *
+     * @param lo the first position in the range
+     * @param hi one past the last position in the range
+     * @param mid the position of the splitting location
+     *
+     * @return is the splitting location still in the tree?
+     */
+    private boolean isPresent ( int lo, int hi, int mid )
+    {
+        /* the number of locations remaining in each child */
+        int left = ( lo < mid ) ? this.counts[ ( lo + mid ) >>> 1 ] : 0;
+        int right = ( mid + 1 < hi ) ? this.counts[ ( mid + 1 + hi ) >>> 1 ]
+            : 0;
+
+        return this.counts[ mid ] > left + right;
+    }
+
+    /**
+     * Arranges the locations in the range [lo, hi) of perm into a subtree,
+     * and sets the counts of its positions.
+     *
+     * @param lo the first position in the range
+     * @param hi one past the last position in the range
+     * @param depth the depth of the subtree, which gives its splitting axis
+     * @param loc_pts the coordinates of the point of the location at each
+     * index, by axis
+     */
+    private void build ( int lo, int hi, int depth, double[][] loc_pts )
+    {
+        if ( lo >= hi )
+        {
+            return;
+        }
+        int mid = ( lo + hi ) >>> 1;
+
+        /* put the median location on the splitting axis at mid, with every
+         * location before it no greater and every location after it no
+         * smaller */
+        this.select( lo, hi - 1, mid, loc_pts[ depth % this.dims ] );
+
+        this.build( lo, mid, depth + 1, loc_pts );
+        this.build( mid + 1, hi, depth + 1, loc_pts );
+
+        this.counts[ mid ] = hi - lo;
+    }
+
+    /**
+     * Partially sorts the range [lo, hi] of perm by a coordinate, so that the
+     * location at position k is the one that would be there if the range were
+     * fully sorted (quickselect).
+     *
+     * @param lo the first position in the range
+     * @param hi the last position in the range
+     * @param k the position to select
+     * @param coords the coordinate of the location at each index
+     */
+    private void select ( int lo, int hi, int k, double[] coords )
+    {
+        while ( lo < hi )
+        {
+            /* partition around the middle element */
+            double pivot = coords[ this.perm[ ( lo + hi ) >>> 1 ] ];
+            int i = lo;
+            int j = hi;
+            while ( i <= j )
+            {
+                while ( coords[ this.perm[ i ] ] < pivot )
+                {
+                    i++;
+                }
+                while ( coords[ this.perm[ j ] ] > pivot )
+                {
+                    j--;
+                }
+                if ( i <= j )
+                {
+                    int tmp = this.perm[ i ];
+                    this.perm[ i ] = this.perm[ j ];
+                    this.perm[ j ] = tmp;
+                    i++;
+                    j--;
+                }
+            }
+
+            /* continue in the part holding position k */
+            if ( k <= j )
+            {
+                hi = j;
+            }
+            else if ( k >= i )
+            {
+                lo = i;
+            }
+            else
+            {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,324 @@
+/*
+ * Filename:    LocalSearch.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the LocalSearch class. See class header for more
+ * information.
+ */
+
+/**
+ * A LocalSearch shortens a tour with 2-opt and Or-opt moves until neither can
+ * improve it any further.
+ *
+ * - A 2-opt move removes two paths from the tour and reconnects it the other
+ *   way, reversing the part of the tour in between.
+ * - An Or-opt move takes a run of up to three consecutive locations out of the
+ *   tour and puts it back in between two other neighbouring locations, in
+ *   either direction.
+ *
+ * Only moves that add a path from a location to one of its candidates are
+ * tried, and the candidates are tried nearest first, so that the search can
+ * stop as soon as no candidate can give a gain. Each location also has a
+ * "don't-look bit": only locations next to a recent change are looked at
+ * again, which keeps each pass close to linear in the number of locations.
+ *
+ * The moves are made on a Tour, which finds the neighbours of a location in
+ * constant time and keeps its cached length up to date as moves are made.
+ *
+ * A LocalSearch owns its queue of locations to look at, so one instance must
+ * not be used by two threads at the same time.
+ */
+class LocalSearch
+{
+    /* the smallest gain counted as an improvement, to avoid cycling on
+     * rounding errors */
+    private static final double EPSILON = 1e-10;
+
+    /* the longest run of locations moved by an Or-opt move */
+    private static final int MAX_SEGMENT_LENGTH = 3;
+
+    /* the number of locations */
+    private final int n;
+
+    /* the distances between the locations */
+    private final DistanceProvider dists;
+
+    /* the nearest locations of each location */
+    private final CandidateLists cands;
+
+    /* the tour being improved */
+    private Tour tour;
+
+    /* the locations waiting to be looked at, as a circular queue, and whether
+     * each location is in it (that is, whether its don't-look bit is off) */
+    private final int[] queue;
+    private final boolean[] queued;
+    private int queue_head = 0;
+    private int queue_size = 0;
+
+    /**
+     * Constructs a new local search over the specified locations.
+     *
+     * @param dists the distances between the locations
+     * @param cands the candidate lists of the locations
+     */
+    public LocalSearch ( DistanceProvider dists, CandidateLists cands )
+    {
+        this.n = dists.getSize();
+        this.dists = dists;
+        this.cands = cands;
+        this.queue = new int[ n ];
+        this.queued = new boolean[ n ];
+    }
+
+    /**
+     * Improves a tour in place until no 2-opt or Or-opt move can shorten it.
+     *
+     * @param tour the tour, through the locations of this search
+     *
+     * @return the amount by which the tour was shortened
+     */
+    public double improve ( Tour tour )
+    {
+        /* tours this short have nothing to improve */
+        if ( n < 5 )
+        {
+            return 0;
+        }
+
+        this.tour = tour;
+
+        /* the total amount by which the tour was shortened */
+        double total_gain = 0;
+
+        /* every location starts with its don't-look bit off */
+        this.queue_head = 0;
+        this.queue_size = 0;
+        for ( int tour_i = 0; tour_i < n; tour_i++ )
+        {
+            this.queued[ tour.getLocation( tour_i ) ] = false;
+            this.push( tour.getLocation( tour_i ) );
+        }
+
+        /* look at locations until every don't-look bit is on */
+        while ( this.queue_size > 0 )
+        {
+            /* the next location to look at */
+            int a = this.queue[ this.queue_head ];
+            this.queue_head = ( this.queue_head + 1 ) % n;
+            this.queue_size--;
+            this.queued[ a ] = false;
+
+            /* try to find an improving move around this location */
+            double gain = this.tryTwoOpt( a );
+            if ( gain <= 0 )
+            {
+                gain = this.tryOrOpt( a );
+            }
+
+            /* a move was made; a will have been queued again by it */
+            total_gain += gain;
+        }
+
+        this.tour = null;
+
+        return total_gain;
+    }
+
+    /**
+     * Tries to find and make an improving 2-opt move that adds a path from a
+     * given location to one of its candidates.
+     *
+     * @param a the location
+     *
+     * @return the gain of the move made, or 0 if none was made
+     */
+    private double tryTwoOpt ( int a )
+    {
+        /* try both the path to the next location and the path to the
+         * previous one */
+        for ( int dir = 0; dir < 2; dir++ )
+        {
+            /* the neighbour of a whose path to a is removed */
+            int b = ( dir == 0 ) ? this.tour.next( a ) : this.tour.prev( a );
+            double d_ab = this.dists.getDistance( a, b );
+
+            /* go through the candidates of a, nearest first */
+            for ( int rank = 0; rank < this.cands.getNumCandidates(); rank++ )
+            {
+                int c = this.cands.getCandidate( a, rank );
+                double d_ac = this.dists.getDistance( a, c );
+
+                /* no farther candidate can give a gain either */
+                if ( d_ac >= d_ab )
+                {
+                    break;
+                }
+
+                /* the neighbour of c whose path to c is removed */
+                int d = ( dir == 0 ) ? this.tour.next( c )
+                    : this.tour.prev( c );
+                if ( c == b || d == a )
+                {
+                    continue;
+                }
+
+                /* the gain of replacing (a,b) and (c,d) by (a,c) and (b,d) */
+                double gain = d_ab + this.dists.getDistance( c, d ) - d_ac
+                    - this.dists.getDistance( b, d );
+
+                if ( gain > EPSILON )
+                {
+                    /* reverse the part of the tour between the two removed
+                     * paths */
+                    if ( dir == 0 )
+                    {
+                        this.tour.twoOptMove( a, c );
+                    }
+                    else
+                    {
+                        this.tour.twoOptMove( b, d );
+                    }
+
+                    this.push( a );
+                    this.push( b );
+                    this.push( c );
+                    this.push( d );
+
+                    return gain;
+                }
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * Tries to find and make an improving Or-opt move of a run of locations
+     * that starts at a given location, putting it next to one of the
+     * candidates of either end of the run.
+     *
+     * @param a the first location of the run
+     *
+     * @return the gain of the move made, or 0 if none was made
+     */
+    private double tryOrOpt ( int a )
+    {
+        /* go through each length of run */
+        for ( int len = 1; len <= MAX_SEGMENT_LENGTH; len++ )
+        {
+            /* the first and last locations of the run, and the locations
+             * before and after it */
+            int s1 = a;
+            int s2 = this.tour.getLocation(
+                ( this.tour.getPosition( a ) + len - 1 ) % n );
+            int p = this.tour.prev( s1 );
+            int q = this.tour.next( s2 );
+
+            /* the gain of taking the run out and joining p to q */
+            double remove_gain = this.dists.getDistance( p, s1 )
+                + this.dists.getDistance( s2, q )
+                - this.dists.getDistance( p, q );
+
+            if ( remove_gain <= EPSILON )
+            {
+                continue;
+            }
+
+            /* go through the candidates of each end of the run */
+            for ( int end = 0; end < 2; end++ )
+            {
+                int s = ( end == 0 ) ? s1 : s2;
+
+                for ( int rank = 0; rank < this.cands.getNumCandidates();
+                    rank++ )
+                {
+                    int c = this.cands.getCandidate( s, rank );
+
+                    /* no farther candidate can give a gain either */
+                    if ( this.dists.getDistance( s, c ) >= remove_gain )
+                    {
+                        break;
+                    }
+
+                    /* try putting the run on either side of c */
+                    for ( int side = 0; side < 2; side++ )
+                    {
+                        /* the path (e,f) the run is put into */
+                        int e = ( side == 0 ) ? this.tour.prev( c ) : c;
+                        int f = ( side == 0 ) ? c : this.tour.next( c );
+
+                        /* the path must be outside the run, and not the one
+                         * the run was taken from */
+                        if ( this.inRun( e, s1, len )
+                            || this.inRun( f, s1, len ) || e == p )
+                        {
+                            continue;
+                        }
+
+                        /* the cost of putting the run into (e,f) forwards and
+                         * backwards */
+                        double d_ef = this.dists.getDistance( e, f );
+                        double fwd = this.dists.getDistance( e, s1 )
+                            + this.dists.getDistance( s2, f ) - d_ef;
+                        double bwd = this.dists.getDistance( e, s2 )
+                            + this.dists.getDistance( s1, f ) - d_ef;
+
+                        /* the gain of the cheaper direction */
+                        double gain = remove_gain - Math.min( fwd, bwd );
+
+                        if ( gain > EPSILON )
+                        {
+                            this.tour.orOptMove( s1, len, e, bwd < fwd );
+
+                            this.push( p );
+                            this.push( q );
+                            this.push( s1 );
+                            this.push( s2 );
+                            this.push( e );
+                            this.push( f );
+
+                            return gain;
+                        }
+                    }
+                }
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * Returns whether a location is in the run of locations of a given length
+     * that starts at another location.
+     *
+     * @param x the location
+     * @param s1 the first location of the run
+     * @param len the length of the run
+     *
+     * @return is x in the run?
+     */
+    private boolean inRun ( int x, int s1, int len )
+    {
+        return ( this.tour.getPosition( x ) - this.tour.getPosition( s1 ) + n )
+            % n < len;
+    }
+
+    /**
+     * Turns off the don't-look bit of a location, so that it is looked at
+     * again.
+     *
+     * @param x the location
+     */
+    private void push ( int x )
+    {
+        if ( !this.queued[ x ] )
+        {
+            this.queued[ x ] = true;
+            this.queue[ ( this.queue_head + this.queue_size ) % n ] = x;
+            this.queue_size++;
+        }
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Filename:    LongDoubleHashMap.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the LongDoubleHashMap class. See class header for more
+ * information.
+ */
+import java.util.Arrays;
+
+/**
+ * A LongDoubleHashMap maps non-negative long keys to double values. It keeps
+ * its keys and values in two parallel arrays and resolves collisions by
+ * linear probing (open addressing), so that it allocates nothing per entry and
+ * takes 16 bytes per slot, where a HashMap<Long, Double> would take several
+ * objects per entry.
+ *
+ * Entries are not removed one at a time; clear() removes all of them, and
+ * removeAtMost() those whose values have fallen to a given value.
+ */
+class LongDoubleHashMap
+{
+    /* the key of an empty slot */
+    private static final long EMPTY = -1;
+
+    /* the number of slots of a new map */
+    private static final int MIN_CAPACITY = 16;
+
+    /* the key in each slot, or EMPTY */
+    private long[] keys;
+
+    /* the value in each slot with a key */
+    private double[] values;
+
+    /* the number of slots with a key */
+    private int size = 0;
+
+    /**
+     * Constructs a new, empty map.
+     */
+    public LongDoubleHashMap ()
+    {
+        this.keys = new long[ MIN_CAPACITY ];
+        this.values = new double[ MIN_CAPACITY ];
+        Arrays.fill( this.keys, EMPTY );
+    }
+
+    /**
+     * Returns the number of entries in this map.
+     *
+     * @return the number of entries in this map
+     */
+    public int size ()
+    {
+        return this.size;
+    }
+
+    /**
+     * Returns the value of a given key.
+     *
+     * @param key the key, which must not be negative
+     * @param default_value the value to return if the key is not in this map
+     *
+     * @return the value of the key, or default_value if it has none
+     */
+    public double get ( long key, double default_value )
+    {
+        int slot = this.find( key );
+
+        return ( this.keys[ slot ] == key ) ? this.values[ slot ]
+            : default_value;
+    }
+
+    /**
+     * Sets the value of a given key, adding the key if it is not in this map.
+     *
+     * @param key the key, which must not be negative
+     * @param value the new value of the key
+     */
+    public void put ( long key, double value )
+    {
+        int slot = this.find( key );
+
+        /* the key is new; make room for it first if the map would become
+         * more than half full */
+        if ( this.keys[ slot ] != key )
+        {
+            if ( 2 * ( this.size + 1 ) > this.keys.length )
+            {
+                this.grow();
+                slot = this.find( key );
+            }
+            this.keys[ slot ] = key;
+            this.size++;
+        }
+
+        this.values[ slot ] = value;
+    }
+
+    /**
+     * Removes every entry from this map, keeping its capacity.
+     */
+    public void clear ()
+    {
+        if ( this.size > 0 )
+        {
+            Arrays.fill( this.keys, EMPTY );
+            this.size = 0;
+        }
+    }
+
+    /**
+     * Removes every entry whose value is at most a given value, and shrinks
+     * the slots to fit the entries that remain.
+     *
+     * @param max_value the greatest value of an entry to remove
+     *
+     * @return the number of entries removed
+     */
+    public int removeAtMost ( double max_value )
+    {
+        long[] old_keys = this.keys;
+        double[] old_values = this.values;
+
+        /* the number of entries that remain */
+        int num_kept = 0;
+        for ( int slot = 0; slot < old_keys.length; slot++ )
+        {
+            if ( old_keys[ slot ] != EMPTY && old_values[ slot ] > max_value )
+            {
+                num_kept++;
+            }
+        }
+        if ( num_kept == this.size )
+        {
+            return 0;
+        }
+
+        /* leave room for as many entries again before growing */
+        int capacity = MIN_CAPACITY;
+        while ( 4 * num_kept > capacity )
+        {
+            capacity *= 2;
+        }
+
+        this.keys = new long[ capacity ];
+        this.values = new double[ capacity ];
+        Arrays.fill( this.keys, EMPTY );
+
+        /* go through each of the old slots with a key to keep */
+        for ( int slot = 0; slot < old_keys.length; slot++ )
+        {
+            if ( old_keys[ slot ] != EMPTY && old_values[ slot ] > max_value )
+            {
+                int new_slot = this.find( old_keys[ slot ] );
+                this.keys[ new_slot ] = old_keys[ slot ];
+                this.values[ new_slot ] = old_values[ slot ];
+            }
+        }
+
+        int num_removed = this.size - num_kept;
+        this.size = num_kept;
+
+        return num_removed;
+    }
+
+    /**
+     * Returns the number of slots of this map, so that every entry can be
+     * visited with getKeyAt(), getValueAt() and setValueAt().
+     *
+     * @return the number of slots of this map
+     */
+    public int getCapacity ()
+    {
+        return this.keys.length;
+    }
+
+    /**
+     * Returns the key in a given slot.
+     *
+     * @param slot the index of the slot, from 0 to getCapacity() - 1
+     *
+     * @return the key in the slot, or a negative number if the slot is empty
+     */
+    public long getKeyAt ( int slot )
+    {
+        return this.keys[ slot ];
+    }
+
+    /**
+     * Returns the value in a given slot.
+     *
+     * @param slot the index of a slot with a key
+     *
+     * @return the value in the slot
+     */
+    public double getValueAt ( int slot )
+    {
+        return this.values[ slot ];
+    }
+
+    /**
+     * Sets the value in a given slot.
+     *
+     * @param slot the index of a slot with a key
+     * @param value the new value of the key in the slot
+     */
+    public void setValueAt ( int slot, double value )
+    {
+        this.values[ slot ] = value;
+    }
+
+    /**
+     * Returns the slot holding a given key, or the empty slot where it would
+     * be added.
+     *
+     * @param key the key
+     *
+     * @return the index of the slot
+     */
+    private int find ( long key )
+    {
+        /* the slots are a power of two in number */
+        int mask = this.keys.length - 1;
+
+        /* scramble the key so that nearby keys spread over the slots
+         * (SplitMix64 finalizer) */
+        long h = ( key ^ ( key >>> 30 ) ) * 0xbf58476d1ce4e5b9L;
+        h = ( h ^ ( h >>> 27 ) ) * 0x94d049bb133111ebL;
+        int slot = ( int ) ( h ^ ( h >>> 31 ) ) & mask;
+
+        /* probe forwards until the key or an empty slot */
+        while ( this.keys[ slot ] != key && this.keys[ slot ] != EMPTY )
+        {
+            slot = ( slot + 1 ) & mask;
+        }
+
+        return slot;
+    }
+
+    /**
+     * Doubles the number of slots, moving every entry to its new slot.
+     */
+    private void grow ()
+    {
+        long[] old_keys = this.keys;
+        double[] old_values = this.values;
+
+        this.keys = new long[ old_keys.length * 2 ];
+        this.values = new double[ old_values.length * 2 ];
+        Arrays.fill( this.keys, EMPTY );
+
+        /* go through each of the old slots with a key */
+        for ( int slot = 0; slot < old_keys.length; slot++ )
+        {
+            if ( old_keys[ slot ] != EMPTY )
+            {
+                int new_slot = this.find( old_keys[ slot ] );
+                this.keys[ new_slot ] = old_keys[ slot ];
+                this.values[ new_slot ] = old_values[ slot ];
+            }
+        }
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * Filename:    MappedCoordinateSet.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the MappedCoordinateSet class. See class header for more
+ * information.
+ */
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A MappedCoordinateSet is a CoordinateSet read straight from an instance
+ * file in a compact binary format, which is memory-mapped rather than loaded:
+ * opening even a very large instance takes next to no time or heap, and the
+ * operating system pages the coordinates in as they are used.
+ *
+ * The format is little-endian, and is a 32-byte header followed by the
+ * x-coordinates of every location, then their y-coordinates, each stored as
+ * doubles or as floats:
+ *
+ *   bytes 0-3    the magic number MAGIC
+ *   bytes 4-7    the format version, VERSION
+ *   bytes 8-11   the ordinal of the Metric of the instance
+ *   bytes 12-15  the size of a coordinate in bytes: 8 (double) or 4 (float)
+ *   bytes 16-23  the number of locations
+ *   bytes 24-31  reserved (zero)
+ *
+ * Instances in this format are written by write(), and main() converts
+ * TSPLIB files to it.
+ */
+class MappedCoordinateSet implements CoordinateSet
+{
+    /* the first four bytes of every file in this format ("TSPB") */
+    public static final int MAGIC = 0x42505354;
+
+    /* the version of the format */
+    public static final int VERSION = 1;
+
+    /* the size of the header, in bytes */
+    private static final int HEADER_SIZE = 32;
+
+    /* the number of bytes written to a file at a time */
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+    /* the number of locations */
+    private final int n;
+
+    /* the metric of the instance */
+    private final Metric metric;
+
+    /* views of the mapped coordinates; exactly one pair is non-null,
+     * depending on the stored precision */
+    private final DoubleBuffer double_xs;
+    private final DoubleBuffer double_ys;
+    private final FloatBuffer float_xs;
+    private final FloatBuffer float_ys;
+
+    /**
+     * Maps the instance in a given file.
+     *
+     * @param filename the name of the file, in the format of this class
+     *
+     * @throws IOException if the file cannot be read or is not in the format
+     * of this class
+     */
+    public MappedCoordinateSet ( String filename ) throws IOException
+    {
+        try ( FileChannel channel = FileChannel.open( Paths.get( filename ),
+            StandardOpenOption.READ ) )
+        {
+            /* read the header */
+            ByteBuffer header = ByteBuffer.allocate( HEADER_SIZE )
+                .order( ByteOrder.LITTLE_ENDIAN );
+            while ( header.hasRemaining() )
+            {
+                if ( channel.read( header ) < 0 )
+                {
+                    throw new IOException( filename + ": truncated header" );
+                }
+            }
+            header.flip();
+
+            if ( header.getInt() != MAGIC )
+            {
+                throw new IOException( filename + ": not a binary instance" );
+            }
+            int version = header.getInt();
+            if ( version != VERSION )
+            {
+                throw new IOException( filename + ": unsupported version "
+                    + version );
+            }
+            int metric_ordinal = header.getInt();
+            if ( metric_ordinal < 0
+                || metric_ordinal >= Metric.values().length )
+            {
+                throw new IOException( filename + ": unknown metric "
+                    + metric_ordinal );
+            }
+            int coord_size = header.getInt();
+            if ( coord_size != Double.BYTES && coord_size != Float.BYTES )
+            {
+                throw new IOException( filename + ": bad coordinate size "
+                    + coord_size );
+            }
+            long count = header.getLong();
+
+            /* each block of coordinates must fit in one mapping */
+            long block_size = count * coord_size;
+            if ( count < 0 || block_size > Integer.MAX_VALUE )
+            {
+                throw new IOException( filename + ": bad location count "
+                    + count );
+            }
+            if ( channel.size() < HEADER_SIZE + 2 * block_size )
+            {
+                throw new IOException( filename + ": truncated coordinates" );
+            }
+
+            this.n = ( int ) count;
+            this.metric = Metric.values()[ metric_ordinal ];
+
+            /* map the two blocks of coordinates; the mappings outlive the
+             * channel */
+            MappedByteBuffer xs = channel.map( FileChannel.MapMode.READ_ONLY,
+                HEADER_SIZE, block_size );
+            MappedByteBuffer ys = channel.map( FileChannel.MapMode.READ_ONLY,
+                HEADER_SIZE + block_size, block_size );
+            xs.order( ByteOrder.LITTLE_ENDIAN );
+            ys.order( ByteOrder.LITTLE_ENDIAN );
+
+            if ( coord_size == Double.BYTES )
+            {
+                this.double_xs = xs.asDoubleBuffer();
+                this.double_ys = ys.asDoubleBuffer();
+                this.float_xs = null;
+                this.float_ys = null;
+            }
+            else
+            {
+                this.double_xs = null;
+                this.double_ys = null;
+                this.float_xs = xs.asFloatBuffer();
+                this.float_ys = ys.asFloatBuffer();
+            }
+        }
+    }
+
+    /**
+     * Main method, used to convert a TSPLIB file to the format of this class.
+     *
+     * Usage: java MappedCoordinateSet in.tsp out.bin [float]
+     *
+     * @param args the TSPLIB file, the file to write and, optionally, "float"
+     * to store the coordinates as floats
+     *
+     * @throws IOException if a file cannot be read or written
+     */
+    public static void main ( String[] args ) throws IOException
+    {
+        write( args[ 1 ], TSPLIBReader.read( args[ 0 ] ),
+            args.length > 2 && args[ 2 ].equals( "float" ) );
+    }
+
+    /**
+     * Writes a set of locations to a file in the format of this class.
+     *
+     * @param filename the name of the file
+     * @param coords the locations to write
+     * @param use_floats should the coordinates be stored as floats, which
+     * halves the size of the file but rounds them?
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public static void write ( String filename, CoordinateSet coords,
+        boolean use_floats ) throws IOException
+    {
+        /* the number of locations */
+        int n = coords.getSize();
+
+        try ( FileChannel channel = FileChannel.open( Paths.get( filename ),
+            StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING ) )
+        {
+            ByteBuffer buffer = ByteBuffer.allocate( WRITE_BUFFER_SIZE )
+                .order( ByteOrder.LITTLE_ENDIAN );
+
+            /* the header */
+            buffer.putInt( MAGIC );
+            buffer.putInt( VERSION );
+            buffer.putInt( coords.getMetric().ordinal() );
+            buffer.putInt( use_floats ? Float.BYTES : Double.BYTES );
+            buffer.putLong( n );
+            buffer.putLong( 0 );
+
+            /* the x-coordinates, then the y-coordinates */
+            for ( int axis = 0; axis < 2; axis++ )
+            {
+                for ( int i = 0; i < n; i++ )
+                {
+                    /* the buffer is full; write it out */
+                    if ( buffer.remaining() < Double.BYTES )
+                    {
+                        writeFully( channel, buffer );
+                    }
+
+                    double coord = ( axis == 0 ) ? coords.getX( i )
+                        : coords.getY( i );
+                    if ( use_floats )
+                    {
+                        buffer.putFloat( ( float ) coord );
+                    }
+                    else
+                    {
+                        buffer.putDouble( coord );
+                    }
+                }
+            }
+
+            writeFully( channel, buffer );
+        }
+    }
+
+    /**
+     * Writes out and clears the contents of a buffer.
+     *
+     * @param channel the file to write to
+     * @param buffer the buffer, ready to be written into
+     *
+     * @throws IOException if the file cannot be written
+     */
+    private static void writeFully ( FileChannel channel, ByteBuffer buffer )
+        throws IOException
+    {
+        buffer.flip();
+        while ( buffer.hasRemaining() )
+        {
+            channel.write( buffer );
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Returns the number of locations in this set.
+     *
+     * @return the number of locations in this set
+     */
+    @Override
+    public int getSize ()
+    {
+        return this.n;
+    }
+
+    /**
+     * Returns the x-coordinate of the location at a given index.
+     *
+     * @param i the index of the location
+     *
+     * @return the x-coordinate of the location
+     */
+    @Override
+    public double getX ( int i )
+    {
+        return ( this.double_xs != null ) ? this.double_xs.get( i )
+            : this.float_xs.get( i );
+    }
+
+    /**
+     * Returns the y-coordinate of the location at a given index.
+     *
+     * @param i the index of the location
+     *
+     * @return the y-coordinate of the location
+     */
+    @Override
+    public double getY ( int i )
+    {
+        return ( this.double_ys != null ) ? this.double_ys.get( i )
+            : this.float_ys.get( i );
+    }
+
+    /**
+     * Returns the metric that measures the distances between the locations.
+     *
+     * @return the metric of this set
+     */
+    @Override
+    public Metric getMetric ()
+    {
+        return this.metric;
+    }
+}
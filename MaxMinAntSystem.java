@@ -0,0 +1,169 @@
+/*
+ * Filename:    MaxMinAntSystem.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the MaxMinAntSystem class. See class header for more
+ * information.
+ */
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * A MaxMinAntSystem is the MAX-MIN Ant System ("MMAS") version of the Ant
+ * Colony Optimization solver. It differs from the basic Ant System in that:
+ *
+ * - the pheromone along every path is kept between tau_min and tau_max, which
+ *   are derived from the length of the shortest tour so far (initially, the
+ *   length C_nn of the nearest neighbor tour);
+ * - the pheromone along every path starts at tau_max;
+ * - only one ant lays down pheromone after each iteration: usually the ant
+ *   with the shortest tour in that iteration, and periodically the shortest
+ *   tour so far;
+ * - when the ants have not improved on the shortest tour so far for a number
+ *   of iterations, the pheromone along every path is reset to tau_max.
+ *
+ * Evaporation only scales the pheromone store, which keeps tau_min as a floor
+ * applied when the pheromone is read; the choice information applies it the
+ * same way, so a rising floor does not make every weight stale. The upper
+ * bound is only applied to the n paths that receive pheromone, so after each
+ * iteration only the weights of those paths are recomputed.
+ */
+class MaxMinAntSystem extends ACOSolver
+{
+    /* the weight to give pheromone */
+    private static final double ALPHA = 1;
+
+    /* the weight to give length */
+    private static final double BETA = 2;
+
+    /* the evaporation rate of pheromones along a path in one iteration */
+    private static final double RHO = 0.02;
+
+    /* the probability that an ant whose paths all carry tau_max or tau_min
+     * constructs the shortest tour so far; determines tau_min */
+    private static final double P_BEST = 0.05;
+
+    /* every this many iterations, the shortest tour so far lays down
+     * pheromone instead of the iteration-best tour */
+    private static final int BEST_SO_FAR_INTERVAL = 10;
+
+    /* the number of iterations without improvement after which the
+     * pheromone is reinitialized */
+    private static final int REINIT_ITERATIONS = 250;
+
+    /* the current bounds on the pheromone along a path */
+    private double tau_max;
+    private double tau_min;
+
+    /* the iteration in which the shortest tour so far was last improved or
+     * the pheromone was last reinitialized */
+    private int last_restart_iteration = 0;
+
+    /**
+     * Constructs a new MAX-MIN Ant System over the specified locations.
+     *
+     * @param coords the locations to find a tour through
+     * @param options the options of this run
+     */
+    public MaxMinAntSystem ( CoordinateSet coords, ACOOptions options )
+    {
+        super( coords, options, ALPHA, BETA );
+    }
+
+    @Override
+    protected void initPheromones ()
+    {
+        /* derive the bounds from the nearest neighbor tour */
+        this.setBounds( this.C_nn );
+        this.pheromones.setAll( this.tau_max );
+    }
+
+    @Override
+    protected boolean evaluateTours ()
+    {
+        /* the shortest tour so far was improved upon */
+        if ( super.evaluateTours() )
+        {
+            /* tighten the bounds around the new shortest tour */
+            this.setBounds( this.best_tour_length );
+            this.last_restart_iteration = this.iteration;
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    protected void updatePheromones ()
+    {
+        /* the search has stagnated */
+        if ( this.iteration - this.last_restart_iteration
+            >= REINIT_ITERATIONS )
+        {
+            /* start over from the maximum along every path */
+            this.pheromones.setAll( this.tau_max );
+            this.last_restart_iteration = this.iteration;
+            this.endPhase( SolverMetrics.Phase.EVAPORATION );
+            return;
+        }
+
+        /* evaporate the pheromone along every path, down to tau_min */
+        this.pheromones.evaporate( RHO, this.tau_min );
+        this.endPhase( SolverMetrics.Phase.EVAPORATION );
+
+        /* the shortest tour so far lays down pheromone this iteration */
+        if ( ( this.iteration + 1 ) % BEST_SO_FAR_INTERVAL == 0 )
+        {
+            this.pheromones.depositTour( this.best_tour.getOrder(),
+                1 / this.best_tour_length, this.tau_max );
+        }
+        /* the shortest tour of this iteration lays down pheromone */
+        else
+        {
+            this.pheromones.depositTour(
+                this.colony.getTour( this.iter_best_ant ).getOrder(),
+                1 / this.ant_tour_lengths[ this.iter_best_ant ],
+                this.tau_max );
+        }
+        this.endPhase( SolverMetrics.Phase.DEPOSIT );
+    }
+
+    @Override
+    protected void writeState ( DataOutput out ) throws IOException
+    {
+        out.writeDouble( this.tau_max );
+        out.writeDouble( this.tau_min );
+        out.writeInt( this.last_restart_iteration );
+    }
+
+    @Override
+    protected void readState ( DataInput in ) throws IOException
+    {
+        this.tau_max = in.readDouble();
+        this.tau_min = in.readDouble();
+        this.last_restart_iteration = in.readInt();
+    }
+
+    /**
+     * Sets tau_max and tau_min from the length of the shortest tour so far.
+     *
+     * @param best_length the length of the shortest tour so far
+     */
+    private void setBounds ( double best_length )
+    {
+        this.tau_max = 1 / ( RHO * best_length );
+
+        /* the probability of choosing the best path at each of the n steps,
+         * and the average number of paths to choose from at each step */
+        double p_dec = Math.pow( P_BEST, 1.0 / this.n );
+        double avg = this.n / 2.0;
+
+        this.tau_min = ( avg > 1 )
+            ? Math.min( this.tau_max,
+                this.tau_max * ( 1 - p_dec ) / ( ( avg - 1 ) * p_dec ) )
+            : 0;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Filename:    Metric.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the Metric enum. See enum header for more information.
+ */
+
+/**
+ * A Metric is a way of measuring the distance between two locations from
+ * their coordinates. Besides plain Euclidean distance, these include the
+ * edge weight types of the TSPLIB library, so that tour lengths on its
+ * instances match their published optima; each of these rounds its distances
+ * to integers as TSPLIB specifies.
+ *
+ * The ordinals of the metrics are stored in binary instance files (see
+ * MappedCoordinateSet), so new metrics must only be added at the end.
+ */
+enum Metric
+{
+    /* the exact Euclidean distance */
+    EUCLIDEAN
+    {
+        @Override
+        public double distance ( double x1, double y1, double x2, double y2 )
+        {
+            double dx = x1 - x2;
+            double dy = y1 - y2;
+
+            return Math.sqrt( dx * dx + dy * dy );
+        }
+    },
+
+    /* the Euclidean distance, rounded to the nearest integer */
+    EUC_2D
+    {
+        @Override
+        public double distance ( double x1, double y1, double x2, double y2 )
+        {
+            return nint( EUCLIDEAN.distance( x1, y1, x2, y2 ) );
+        }
+    },
+
+    /* the Euclidean distance, rounded up to an integer */
+    CEIL_2D
+    {
+        @Override
+        public double distance ( double x1, double y1, double x2, double y2 )
+        {
+            return Math.ceil( EUCLIDEAN.distance( x1, y1, x2, y2 ) );
+        }
+    },
+
+    /* the pseudo-Euclidean distance of the att instances */
+    ATT
+    {
+        @Override
+        public double distance ( double x1, double y1, double x2, double y2 )
+        {
+            double dx = x1 - x2;
+            double dy = y1 - y2;
+            double r = Math.sqrt( ( dx * dx + dy * dy ) / 10.0 );
+            double t = nint( r );
+
+            return ( t < r ) ? t + 1 : t;
+        }
+    },
+
+    /* the distance over the surface of an idealized Earth, where the
+     * coordinates are latitudes (x) and longitudes (y) written as
+     * DDD.MM (degrees and minutes) */
+    GEO
+    {
+        @Override
+        public double distance ( double x1, double y1, double x2, double y2 )
+        {
+            double lat1 = toRadians( x1 );
+            double lon1 = toRadians( y1 );
+            double lat2 = toRadians( x2 );
+            double lon2 = toRadians( y2 );
+
+            double q1 = Math.cos( lon1 - lon2 );
+            double q2 = Math.cos( lat1 - lat2 );
+            double q3 = Math.cos( lat1 + lat2 );
+
+            return ( int ) ( EARTH_RADIUS * Math.acos( 0.5 * ( ( 1.0 + q1 )
+                * q2 - ( 1.0 - q1 ) * q3 ) ) + 1.0 );
+        }
+    };
+
+    /* the radius of the Earth used by GEO, in kilometres */
+    private static final double EARTH_RADIUS = 6378.388;
+
+    /* the value of pi used by GEO, as given by TSPLIB */
+    private static final double GEO_PI = 3.141592;
+
+    /**
+     * Returns the distance between two locations under this metric.
+     *
+     * @param x1 the x-coordinate of the first location
+     * @param y1 the y-coordinate of the first location
+     * @param x2 the x-coordinate of the second location
+     * @param y2 the y-coordinate of the second location
+     *
+     * @return the distance between the two locations
+     */
+    public abstract double distance ( double x1, double y1, double x2,
+        double y2 );
+
+    /**
+     * Returns a number rounded to the nearest integer, as TSPLIB does.
+     *
+     * @param x the number
+     *
+     * @return the nearest integer
+     */
+    private static double nint ( double x )
+    {
+        return ( int ) ( x + 0.5 );
+    }
+
+    /**
+     * Converts a GEO coordinate in DDD.MM form to radians.
+     *
+     * @param coord the coordinate
+     *
+     * @return the coordinate in radians
+     */
+    static double toRadians ( double coord )
+    {
+        /* the whole degrees and the minutes */
+        double deg = ( int ) coord;
+        double min = coord - deg;
+
+        return GEO_PI * ( deg + 5.0 * min / 3.0 ) / 180.0;
+    }
+}
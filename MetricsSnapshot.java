@@ -0,0 +1,199 @@
+/*
+ * Filename:    MetricsSnapshot.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the MetricsSnapshot class. See class header for more
+ * information.
+ */
+import java.util.Locale;
+
+/**
+ * A MetricsSnapshot is a copy of the metrics of a solver, totalled over every
+ * iteration it has completed; see SolverMetrics for what each figure means.
+ * It does not change once taken.
+ */
+class MetricsSnapshot
+{
+    /* the number of iterations completed */
+    private final int iterations;
+
+    /* the time spent in each phase, in nanoseconds, by phase ordinal */
+    private final long[] phase_nanos;
+
+    /* the number of steps taken by the ants */
+    private final long ant_steps;
+
+    /* the number of steps at which every candidate had been visited */
+    private final long candidate_fallbacks;
+
+    /* the number of steps at which the wheel chose uniformly */
+    private final long uniform_samples;
+
+    /* the bytes allocated by the thread running the solver, outside the
+     * construction of the tours */
+    private final long solver_bytes;
+
+    /* the bytes allocated by each worker while constructing tours */
+    private final long[] worker_bytes;
+
+    /**
+     * Constructs a new snapshot; the arrays are not copied.
+     *
+     * @param iterations the number of iterations completed
+     * @param phase_nanos the time spent in each phase, by phase ordinal
+     * @param ant_steps the number of steps taken by the ants
+     * @param candidate_fallbacks the number of steps at which every candidate
+     * had been visited
+     * @param uniform_samples the number of steps at which the wheel chose
+     * uniformly
+     * @param solver_bytes the bytes allocated by the thread running the solver
+     * @param worker_bytes the bytes allocated by each worker
+     */
+    public MetricsSnapshot ( int iterations, long[] phase_nanos,
+        long ant_steps, long candidate_fallbacks, long uniform_samples,
+        long solver_bytes, long[] worker_bytes )
+    {
+        this.iterations = iterations;
+        this.phase_nanos = phase_nanos;
+        this.ant_steps = ant_steps;
+        this.candidate_fallbacks = candidate_fallbacks;
+        this.uniform_samples = uniform_samples;
+        this.solver_bytes = solver_bytes;
+        this.worker_bytes = worker_bytes;
+    }
+
+    /**
+     * Returns the number of iterations completed.
+     *
+     * @return the number of iterations completed
+     */
+    public int getIterations ()
+    {
+        return this.iterations;
+    }
+
+    /**
+     * Returns the time spent in a phase.
+     *
+     * @param phase the phase
+     *
+     * @return the time spent in the phase, in nanoseconds
+     */
+    public long getNanos ( SolverMetrics.Phase phase )
+    {
+        return this.phase_nanos[ phase.ordinal() ];
+    }
+
+    /**
+     * Returns the number of steps taken by the ants.
+     *
+     * @return the number of ant steps
+     */
+    public long getAntSteps ()
+    {
+        return this.ant_steps;
+    }
+
+    /**
+     * Returns the number of steps at which every candidate of the location of
+     * the ant had been visited.
+     *
+     * @return the number of candidate list fallbacks
+     */
+    public long getCandidateFallbacks ()
+    {
+        return this.candidate_fallbacks;
+    }
+
+    /**
+     * Returns the number of steps at which the weights of the paths could not
+     * be used, so that the next location was chosen uniformly.
+     *
+     * @return the number of uniform samples
+     */
+    public long getUniformSamples ()
+    {
+        return this.uniform_samples;
+    }
+
+    /**
+     * Returns the bytes allocated by the thread running the solver, outside
+     * the construction of the tours.
+     *
+     * @return the bytes allocated by the solver thread, or 0 if the JVM cannot
+     * tell
+     */
+    public long getSolverAllocatedBytes ()
+    {
+        return this.solver_bytes;
+    }
+
+    /**
+     * Returns the bytes allocated by a worker of the colony while
+     * constructing tours, on whichever threads ran it.
+     *
+     * @param worker the index of the worker
+     *
+     * @return the bytes allocated by the worker, or 0 if the JVM cannot tell
+     */
+    public long getWorkerAllocatedBytes ( int worker )
+    {
+        return this.worker_bytes[ worker ];
+    }
+
+    /**
+     * Returns the number of workers of the colony.
+     *
+     * @return the number of workers
+     */
+    public int getNumWorkers ()
+    {
+        return this.worker_bytes.length;
+    }
+
+    /**
+     * Returns the bytes allocated by the solver thread and every worker.
+     *
+     * @return the total bytes allocated
+     */
+    public long getAllocatedBytes ()
+    {
+        long total = this.solver_bytes;
+        for ( long bytes : this.worker_bytes )
+        {
+            total += bytes;
+        }
+
+        return total;
+    }
+
+    /**
+     * Returns a readable summary of the metrics, with the time of each phase
+     * in milliseconds.
+     *
+     * @return a readable summary
+     */
+    @Override
+    public String toString ()
+    {
+        StringBuilder str = new StringBuilder();
+        str.append( this.iterations ).append( " iterations:" );
+
+        /* go through each of the phases */
+        for ( SolverMetrics.Phase phase : SolverMetrics.Phase.values() )
+        {
+            str.append( String.format( Locale.ROOT, " %s %.3fms",
+                phase.name().toLowerCase( Locale.ROOT ),
+                this.getNanos( phase ) / 1e6 ) );
+        }
+
+        str.append( String.format( Locale.ROOT, ", %d ant steps, %d candidate "
+            + "fallbacks, %d uniform samples, %d bytes allocated",
+            this.ant_steps, this.candidate_fallbacks, this.uniform_samples,
+            this.getAllocatedBytes() ) );
+
+        return str.toString();
+    }
+}
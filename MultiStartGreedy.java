@@ -0,0 +1,204 @@
+/*
+ * Filename:    MultiStartGreedy.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the MultiStartGreedy class. See class header for more
+ * information.
+ */
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A MultiStartGreedy builds greedy (nearest neighbor) tours from a number of
+ * start locations and keeps the shortest. The starts can be split over the
+ * threads of a pool, which share the length of the shortest tour so far; a
+ * tour is abandoned as soon as its partial length plus the path back to its
+ * start reaches that length, since by the triangle inequality it can no longer
+ * be shorter.
+ */
+class MultiStartGreedy
+{
+    /* the locations to find a tour through */
+    private final CoordinateSet coords;
+
+    /* the spatial index of the locations, whose layout every worker shares */
+    private final KDTree tree;
+
+    /* the indices of the start locations to try */
+    private final int[] starts;
+
+    /* the bits of the length of the shortest tour so far, shared by every
+     * worker */
+    private final AtomicLong best_length_bits = new AtomicLong(
+        Double.doubleToLongBits( Double.POSITIVE_INFINITY ) );
+
+    /* the shortest tour so far; guarded by this object */
+    private final int[] best_tour_inds;
+
+    /**
+     * Constructs a new multi-start greedy search.
+     *
+     * @param coords the locations to find a tour through
+     * @param starts the indices of the start locations to try
+     */
+    public MultiStartGreedy ( CoordinateSet coords, int[] starts )
+    {
+        this.coords = coords;
+        this.tree = new KDTree( coords );
+        this.starts = starts;
+        this.best_tour_inds = new int[ coords.getSize() ];
+    }
+
+    /**
+     * Builds a tour from every start location and returns the shortest.
+     *
+     * @param pool the pool to split the starts over, or null to try them one
+     * after another on the calling thread
+     *
+     * @return the indices of the locations in the shortest tour
+     */
+    public int[] solve ( ForkJoinPool pool )
+    {
+        /* the starts are tried on the calling thread */
+        if ( pool == null )
+        {
+            this.solveShare( 0, 1 );
+        }
+        else
+        {
+            /* the number of workers to split the starts over */
+            final int num_workers = Math.max( 1, Math.min(
+                pool.getParallelism(), this.starts.length ) );
+
+            /* start each worker on its share of the starts */
+            ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[ num_workers ];
+            for ( int w = 0; w < num_workers; w++ )
+            {
+                final int worker = w;
+                tasks[ w ] = pool.submit(
+                    () -> this.solveShare( worker, num_workers ) );
+            }
+
+            /* wait for every worker to finish */
+            for ( ForkJoinTask<?> task : tasks )
+            {
+                task.join();
+            }
+        }
+
+        synchronized ( this )
+        {
+            return this.best_tour_inds.clone();
+        }
+    }
+
+    /**
+     * Returns the length of the shortest tour found so far.
+     *
+     * @return the length of the shortest tour so far
+     */
+    public double getBestLength ()
+    {
+        return Double.longBitsToDouble( this.best_length_bits.get() );
+    }
+
+    /**
+     * Tries every start location assigned to a worker.
+     *
+     * @param worker the index of the worker
+     * @param num_workers the number of workers
+     */
+    private void solveShare ( int worker, int num_workers )
+    {
+        /* this worker's own view of the spatial index */
+        KDTree worker_tree = ( num_workers == 1 ) ? this.tree
+            : new KDTree( this.tree );
+
+        /* the tour under construction */
+        int[] tour_inds = new int[ this.coords.getSize() ];
+
+        /* go through every start assigned to this worker */
+        for ( int i = worker; i < this.starts.length; i += num_workers )
+        {
+            worker_tree.reset();
+
+            /* the length of the tour from this start, unless abandoned */
+            double length = this.buildTour( this.starts[ i ], worker_tree,
+                tour_inds );
+
+            /* this tour was completed and may be the shortest so far */
+            if ( length < this.getBestLength() )
+            {
+                this.offer( tour_inds, length );
+            }
+        }
+    }
+
+    /**
+     * Builds the greedy tour from a start location, giving up as soon as it
+     * can no longer be shorter than the shortest tour so far.
+     *
+     * @param start_ind the index of the start location
+     * @param worker_tree the spatial index to use, containing every location
+     * @param tour_inds the array to store the indices of the locations in the
+     * tour in
+     *
+     * @return the length of the tour, or positive infinity if it was abandoned
+     */
+    private double buildTour ( int start_ind, KDTree worker_tree,
+        int[] tour_inds )
+    {
+        /* the current location */
+        int curr_loc_ind = start_ind;
+
+        /* the length of the tour so far */
+        double length = 0;
+
+        tour_inds[ 0 ] = start_ind;
+        worker_tree.remove( start_ind );
+
+        /* go through the remaining positions in the tour */
+        for ( int tour_i = 1; tour_i < tour_inds.length; tour_i++ )
+        {
+            /* move to the nearest remaining location */
+            int next_loc_ind = worker_tree.nearest( curr_loc_ind );
+            worker_tree.remove( next_loc_ind );
+            length += this.coords.getDistance( curr_loc_ind, next_loc_ind );
+            tour_inds[ tour_i ] = next_loc_ind;
+            curr_loc_ind = next_loc_ind;
+
+            /* the rest of the tour is at least as long as the path straight
+             * back to the start, so this tour cannot win */
+            if ( length + this.coords.getDistance( curr_loc_ind, start_ind )
+                >= this.getBestLength() )
+            {
+                return Double.POSITIVE_INFINITY;
+            }
+        }
+
+        /* close the cycle */
+        return length + this.coords.getDistance( curr_loc_ind, start_ind );
+    }
+
+    /**
+     * Records a completed tour as the shortest so far if it still is.
+     *
+     * @param tour_inds the indices of the locations in the tour
+     * @param length the length of the tour
+     */
+    private synchronized void offer ( int[] tour_inds, double length )
+    {
+        /* another worker found a shorter tour in the meantime */
+        if ( length >= this.getBestLength() )
+        {
+            return;
+        }
+
+        System.arraycopy( tour_inds, 0, this.best_tour_inds, 0,
+            tour_inds.length );
+        this.best_length_bits.set( Double.doubleToLongBits( length ) );
+    }
+}
@@ -0,0 +1,421 @@
+/*
+ * Filename:    PheromoneMatrix.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the PheromoneMatrix class. See class header for more
+ * information.
+ */
+import java.io.DataInput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A PheromoneMatrix is a PheromoneStore that keeps the amount of pheromone on
+ * the path between every pair of a given set of locations in a single
+ * contiguous, row-major array. Both directions of a path are kept in sync, so
+ * that the pheromone on every path leaving a location can be read as one row.
+ *
+ * Evaporation is lazy: the matrix stores every value divided by a global scale
+ * factor, so evaporating every path only multiplies the scale factor, and only
+ * the paths that receive pheromone are written. A lower bound (floor) set by
+ * evaporation is applied when values are read, which is exact as long as the
+ * floor never decreases; when it does, or when the scale factor nears
+ * underflow, the true values are written back in one pass over the matrix.
+ *
+ * The matrix takes O(n^2) memory; see SparsePheromones for large instances.
+ */
+class PheromoneMatrix implements PheromoneStore
+{
+    /* the scale factor below which the true values are written back, well
+     * before the stored values could overflow */
+    private static final double MIN_SCALE = 1e-100;
+
+    /* the number of changed paths recorded per location before every path is
+     * treated as changed instead */
+    private static final int CHANGES_PER_LOCATION = 8;
+
+    /* the number of locations in this matrix */
+    private final int n;
+
+    /* the pheromone on the path between each pair of locations, divided by
+     * scale; the pheromone between the locations at indices i and j is stored
+     * at index ( i * n + j ) */
+    private final double[] pheromones;
+
+    /* the factor every stored value is multiplied by to give its pheromone */
+    private double scale = 1;
+
+    /* the least pheromone on any path, applied when a value is read */
+    private double floor = 0;
+
+    /* the paths changed since the last clearChanges(), each recorded once as
+     * ( i * n + j ) with i < j, and a bit per entry of the matrix marking the
+     * recorded paths; if all_changed, every path may have changed and the
+     * record is not kept */
+    private final int[] changed;
+    private final long[] changed_bits;
+    private int num_changed = 0;
+    private boolean all_changed = true;
+
+    /**
+     * Constructs a new pheromone matrix over the given number of locations,
+     * with the specified initial amount of pheromone on every path.
+     *
+     * @param n the number of locations
+     * @param init_pheromone the initial amount of pheromone on every path
+     */
+    public PheromoneMatrix ( int n, double init_pheromone )
+    {
+        this.n = n;
+        this.pheromones = new double[ n * n ];
+        this.changed = new int[ CHANGES_PER_LOCATION * n ];
+        this.changed_bits = new long[ ( n * n + 63 ) >>> 6 ];
+
+        this.setAll( init_pheromone );
+    }
+
+    /**
+     * Sets the amount of pheromone on every path to the specified value.
+     *
+     * @param new_pheromone the new amount of pheromone on every path
+     */
+    @Override
+    public void setAll ( double new_pheromone )
+    {
+        Arrays.fill( this.pheromones, new_pheromone );
+        this.scale = 1;
+        this.floor = 0;
+        this.all_changed = true;
+    }
+
+    /**
+     * Returns the number of locations in this matrix.
+     *
+     * @return the number of locations in this matrix
+     */
+    @Override
+    public int getSize ()
+    {
+        return this.n;
+    }
+
+    /**
+     * Returns the amount of pheromone on the path between the locations at the
+     * given indices.
+     *
+     * @param i the index of the first location
+     * @param j the index of the second location
+     *
+     * @return the amount of pheromone on the path between i and j
+     */
+    @Override
+    public double getPheromone ( int i, int j )
+    {
+        return Math.max( this.pheromones[ i * this.n + j ] * this.scale,
+            this.floor );
+    }
+
+    /**
+     * Returns the stored value of the path between the locations at the given
+     * indices: its pheromone divided by the current scale factor, ignoring the
+     * floor. The greater of the stored value and getScaledFloor() is
+     * proportional to the pheromone, and the stored values only change when
+     * pheromone is deposited or the matrix is rescaled (which marks every
+     * path as changed).
+     *
+     * @param i the index of the first location
+     * @param j the index of the second location
+     *
+     * @return the stored value of the path between i and j
+     */
+    @Override
+    public double getScaledPheromone ( int i, int j )
+    {
+        return this.pheromones[ i * this.n + j ];
+    }
+
+    /**
+     * Returns the least amount of pheromone on any path, as set by the last
+     * evaporation.
+     *
+     * @return the floor on the pheromone
+     */
+    @Override
+    public double getFloor ()
+    {
+        return this.floor;
+    }
+
+    /**
+     * Returns the floor divided by the current scale factor.
+     *
+     * @return the floor on the stored values
+     */
+    @Override
+    public double getScaledFloor ()
+    {
+        return this.floor / this.scale;
+    }
+
+    /**
+     * Sets the amount of pheromone on the path between the locations at the
+     * given indices, in both directions.
+     *
+     * @param i the index of the first location
+     * @param j the index of the second location
+     * @param new_pheromone the new amount of pheromone on the path
+     */
+    @Override
+    public void setPheromone ( int i, int j, double new_pheromone )
+    {
+        this.pheromones[ i * this.n + j ] = new_pheromone / this.scale;
+        this.pheromones[ j * this.n + i ] = new_pheromone / this.scale;
+
+        this.markChanged( Math.min( i, j ) * this.n + Math.max( i, j ) );
+    }
+
+    /**
+     * Evaporates the pheromone on every path after one time interval at the
+     * specified rate, without letting the pheromone on any path fall below a
+     * minimum. This takes constant time, unless the minimum is lower than the
+     * last one or the scale factor nears underflow.
+     *
+     * @param evap_rate the proportion of pheromone that evaporates
+     * @param min the minimum amount of pheromone on a path
+     */
+    @Override
+    public void evaporate ( double evap_rate, double min )
+    {
+        /* paths held up by the old floor would fall below it from here on,
+         * so their true values must be written first */
+        if ( min < this.floor )
+        {
+            this.rescale();
+        }
+
+        /* every path decays by the same factor */
+        this.scale *= 1 - evap_rate;
+        this.floor = min;
+
+        /* write the true values back before the stored values grow too
+         * large */
+        if ( this.scale < MIN_SCALE )
+        {
+            this.rescale();
+        }
+    }
+
+    /**
+     * Returns whether every path may have changed since clearChanges() was
+     * last called, in which case getNumChanged() and the changed paths are
+     * not meaningful.
+     *
+     * @return may every path have changed?
+     */
+    @Override
+    public boolean isAllChanged ()
+    {
+        return this.all_changed;
+    }
+
+    /**
+     * Returns the number of paths recorded as changed since clearChanges()
+     * was last called. A path may be recorded more than once, so this is at
+     * least the number of distinct changed paths, but may be more; this
+     * matrix happens to record each path once.
+     *
+     * @return the number of changed paths
+     */
+    @Override
+    public int getNumChanged ()
+    {
+        return this.num_changed;
+    }
+
+    /**
+     * Returns the location at the lower-indexed end of a path recorded as
+     * changed since clearChanges() was last called.
+     *
+     * @param k the index of the changed path, from 0 to getNumChanged() - 1
+     *
+     * @return the index of the location at the lower-indexed end of the path
+     */
+    @Override
+    public int getChangedStart ( int k )
+    {
+        return this.changed[ k ] / this.n;
+    }
+
+    /**
+     * Returns the location at the higher-indexed end of a path recorded as
+     * changed since clearChanges() was last called.
+     *
+     * @param k the index of the changed path, from 0 to getNumChanged() - 1
+     *
+     * @return the index of the location at the higher-indexed end of the path
+     */
+    @Override
+    public int getChangedEnd ( int k )
+    {
+        return this.changed[ k ] % this.n;
+    }
+
+    /**
+     * Forgets every recorded change.
+     */
+    @Override
+    public void clearChanges ()
+    {
+        if ( this.all_changed )
+        {
+            Arrays.fill( this.changed_bits, 0 );
+        }
+        else
+        {
+            for ( int k = 0; k < this.num_changed; k++ )
+            {
+                this.changed_bits[ this.changed[ k ] >>> 6 ] = 0;
+            }
+        }
+
+        this.num_changed = 0;
+        this.all_changed = false;
+    }
+
+    /**
+     * Copies the pheromone on every path, exactly, for readState() to
+     * restore: the number of locations, the scale factor and floor, and the
+     * stored values on and above the diagonal, row by row. The values are
+     * copied row by row into one array, which holds fewer than 2^31 values
+     * for any matrix of at most ACOOptions.MAX_DENSE_SIZE locations.
+     *
+     * @return the copy of the pheromone
+     */
+    @Override
+    public StateCopy copyState ()
+    {
+        final int size = this.n;
+        final double scale = this.scale;
+        final double floor = this.floor;
+
+        /* both directions of a path carry the same value */
+        final double[] values = new double[ ( int ) ( ( long ) size
+            * ( size + 1 ) / 2 ) ];
+        int off = 0;
+        for ( int i = 0; i < size; i++ )
+        {
+            System.arraycopy( this.pheromones, i * size + i, values, off,
+                size - i );
+            off += size - i;
+        }
+
+        return out -> {
+            out.writeInt( size );
+            out.writeDouble( scale );
+            out.writeDouble( floor );
+            out.writeDoubles( values, 0, values.length );
+        };
+    }
+
+    /**
+     * Replaces the pheromone on every path with the pheromone written by
+     * copyState() of a matrix over the same number of locations, and marks
+     * every path as changed.
+     *
+     * @param in where to read the pheromone from
+     *
+     * @throws IOException if the pheromone cannot be read, or was written
+     * over a different number of locations
+     */
+    @Override
+    public void readState ( DataInput in ) throws IOException
+    {
+        int size = in.readInt();
+        if ( size != this.n )
+        {
+            throw new IOException( "pheromone of " + size
+                + " locations cannot be read into a matrix of " + this.n );
+        }
+
+        this.scale = in.readDouble();
+        this.floor = in.readDouble();
+
+        /* fill both directions of each path */
+        for ( int i = 0; i < this.n; i++ )
+        {
+            for ( int j = i; j < this.n; j++ )
+            {
+                double value = in.readDouble();
+                this.pheromones[ i * this.n + j ] = value;
+                this.pheromones[ j * this.n + i ] = value;
+            }
+        }
+
+        this.all_changed = true;
+    }
+
+    /**
+     * Records that a path has changed.
+     *
+     * @param key the path, as ( i * n + j ) with i < j
+     */
+    private void markChanged ( int key )
+    {
+        /* every path is already treated as changed, or this one is already
+         * recorded */
+        if ( this.all_changed
+            || ( this.changed_bits[ key >>> 6 ] & ( 1L << key ) ) != 0 )
+        {
+            return;
+        }
+
+        /* too many paths have changed to be worth recording one by one */
+        if ( this.num_changed == this.changed.length )
+        {
+            this.all_changed = true;
+            return;
+        }
+
+        this.changed_bits[ key >>> 6 ] |= 1L << key;
+        this.changed[ this.num_changed++ ] = key;
+    }
+
+    /**
+     * Writes the true pheromone on every path back into the matrix, with the
+     * floor applied, and resets the scale factor to 1.
+     */
+    private void rescale ()
+    {
+        for ( int i = 0; i < this.pheromones.length; i++ )
+        {
+            this.pheromones[ i ] = Math.max( this.pheromones[ i ] * this.scale,
+                this.floor );
+        }
+
+        this.scale = 1;
+        this.floor = 0;
+        this.all_changed = true;
+    }
+
+    /**
+     * Returns a Path view of the path between the locations at the given
+     * indices, carrying the current amount of pheromone on it. The returned
+     * path is a copy; changing it does not affect this matrix.
+     *
+     * @param locs the locations this matrix was constructed over
+     * @param i the index of the start point
+     * @param j the index of the end point
+     *
+     * @return a Path between locs[ i ] and locs[ j ]
+     */
+    public Path getPath ( Location[] locs, int i, int j )
+    {
+        /* the path to return */
+        Path path = new Path( locs[ i ], locs[ j ] );
+        path.setPheromone( this.getPheromone( i, j ) );
+
+        return path;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Filename:    PheromoneStats.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the PheromoneStats class. See class header for more
+ * information.
+ */
+
+/**
+ * A PheromoneStats summarizes the pheromone of a solver at the end of an
+ * iteration: its least, greatest and mean value over the paths the ants
+ * choose from first (the paths to the candidates, or every path without
+ * candidate lists), and the average lambda-branching factor at lambda =
+ * BRANCHING_LAMBDA. A solver whose pheromone has converged has a branching
+ * factor near 2.
+ */
+class PheromoneStats
+{
+    /* the lambda of the branching factor */
+    public static final double BRANCHING_LAMBDA = 0.05;
+
+    /* the iteration summarized */
+    private final int iteration;
+
+    /* the least, greatest and mean pheromone on the paths considered */
+    private final double min;
+    private final double max;
+    private final double mean;
+
+    /* the average lambda-branching factor */
+    private final double branching_factor;
+
+    /**
+     * Constructs a new summary of the pheromone.
+     *
+     * @param iteration the iteration summarized
+     * @param min the least pheromone on the paths considered
+     * @param max the greatest pheromone on the paths considered
+     * @param mean the mean pheromone on the paths considered
+     * @param branching_factor the average lambda-branching factor
+     */
+    public PheromoneStats ( int iteration, double min, double max, double mean,
+        double branching_factor )
+    {
+        this.iteration = iteration;
+        this.min = min;
+        this.max = max;
+        this.mean = mean;
+        this.branching_factor = branching_factor;
+    }
+
+    /**
+     * Returns the number of iterations completed when this summary was taken.
+     *
+     * @return the iteration summarized
+     */
+    public int getIteration ()
+    {
+        return this.iteration;
+    }
+
+    /**
+     * Returns the least pheromone on the paths considered.
+     *
+     * @return the least pheromone
+     */
+    public double getMin ()
+    {
+        return this.min;
+    }
+
+    /**
+     * Returns the greatest pheromone on the paths considered.
+     *
+     * @return the greatest pheromone
+     */
+    public double getMax ()
+    {
+        return this.max;
+    }
+
+    /**
+     * Returns the mean pheromone on the paths considered.
+     *
+     * @return the mean pheromone
+     */
+    public double getMean ()
+    {
+        return this.mean;
+    }
+
+    /**
+     * Returns the average lambda-branching factor at BRANCHING_LAMBDA.
+     *
+     * @return the average branching factor
+     */
+    public double getBranchingFactor ()
+    {
+        return this.branching_factor;
+    }
+
+    /**
+     * Returns a readable summary of the pheromone.
+     *
+     * @return a readable summary
+     */
+    @Override
+    public String toString ()
+    {
+        return String.format( "iteration %d: pheromone min %.4g, max %.4g, "
+            + "mean %.4g, branching factor %.3f", this.iteration, this.min,
+            this.max, this.mean, this.branching_factor );
+    }
+}
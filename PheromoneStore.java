@@ -0,0 +1,234 @@
+/*
+ * Filename:    PheromoneStore.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the PheromoneStore interface. See interface header for
+ * more information.
+ */
+import java.io.DataInput;
+import java.io.IOException;
+
+/**
+ * A PheromoneStore holds the amount of pheromone on the path between every
+ * pair of a set of locations, identified by their indices. Both directions of
+ * a path always carry the same pheromone.
+ *
+ * Evaporation is lazy: a store keeps every value divided by a global scale
+ * factor, and applies a lower bound (floor) when values are read, so that
+ * evaporating every path takes constant time. A store also records which
+ * paths have changed since clearChanges() was last called, so that a
+ * ChoiceInfo only has to recompute their weights. A path may be recorded
+ * more than once, so recomputing the weight of a recorded path must give
+ * the same result however often it is done.
+ *
+ * Implementations may keep a value for every path (PheromoneMatrix) or only
+ * for the few paths that can carry a meaningful amount (SparsePheromones).
+ */
+interface PheromoneStore
+{
+    /* the evaporation rate of pheromones along a path in one time interval */
+    double PHEROMONE_EVAP_RATE = 0.5;
+
+    /**
+     * Returns the number of locations in this store.
+     *
+     * @return the number of locations in this store
+     */
+    int getSize ();
+
+    /**
+     * Sets the amount of pheromone on every path to the specified value.
+     *
+     * @param new_pheromone the new amount of pheromone on every path
+     */
+    void setAll ( double new_pheromone );
+
+    /**
+     * Returns the amount of pheromone on the path between the locations at the
+     * given indices.
+     *
+     * @param i the index of the first location
+     * @param j the index of the second location
+     *
+     * @return the amount of pheromone on the path between i and j
+     */
+    double getPheromone ( int i, int j );
+
+    /**
+     * Returns the stored value of the path between the locations at the given
+     * indices: its pheromone divided by the current scale factor, ignoring the
+     * floor. The greater of the stored value and getScaledFloor() is
+     * proportional to the pheromone, and the stored values only change when
+     * pheromone is deposited or the store is rescaled (which marks every
+     * path as changed).
+     *
+     * @param i the index of the first location
+     * @param j the index of the second location
+     *
+     * @return the stored value of the path between i and j
+     */
+    double getScaledPheromone ( int i, int j );
+
+    /**
+     * Returns the least amount of pheromone on any path, as set by the last
+     * evaporation.
+     *
+     * @return the floor on the pheromone
+     */
+    double getFloor ();
+
+    /**
+     * Returns the floor divided by the current scale factor. The pheromone on
+     * a path is the greater of its stored value and this, times the scale
+     * factor, so that the weights of the paths can be kept from the stored
+     * values, which evaporation leaves unchanged, and the floor applied when
+     * they are read.
+     *
+     * @return the floor on the stored values
+     */
+    double getScaledFloor ();
+
+    /**
+     * Sets the amount of pheromone on the path between the locations at the
+     * given indices, in both directions.
+     *
+     * @param i the index of the first location
+     * @param j the index of the second location
+     * @param new_pheromone the new amount of pheromone on the path
+     */
+    void setPheromone ( int i, int j, double new_pheromone );
+
+    /**
+     * Adds pheromone to the path between the locations at the given indices,
+     * in both directions.
+     *
+     * @param i the index of the first location
+     * @param j the index of the second location
+     * @param add the amount of pheromone to add
+     */
+    default void addPheromone ( int i, int j, double add )
+    {
+        this.setPheromone( i, j, this.getPheromone( i, j ) + add );
+    }
+
+    /**
+     * Adds pheromone to every path in a given tour, including the path from
+     * the last location back to the first.
+     *
+     * @param tour_inds the indices of the locations in the tour
+     * @param add the amount of pheromone to add to each path
+     */
+    default void depositTour ( int[] tour_inds, double add )
+    {
+        this.depositTour( tour_inds, add, Double.POSITIVE_INFINITY );
+    }
+
+    /**
+     * Adds pheromone to every path in a given tour, including the path from
+     * the last location back to the first, without letting the pheromone on
+     * any of these paths exceed a maximum. Only the paths in the tour are
+     * touched, so this takes time linear in the number of locations.
+     *
+     * @param tour_inds the indices of the locations in the tour
+     * @param add the amount of pheromone to add to each path
+     * @param max the maximum amount of pheromone on a path
+     */
+    default void depositTour ( int[] tour_inds, double add, double max )
+    {
+        /* go through each path in the tour, wrapping around at the end to
+         * include the path that completes the cycle */
+        for ( int tour_i = 0; tour_i < tour_inds.length; tour_i++ )
+        {
+            /* the locations at either end of this path */
+            int i = tour_inds[ tour_i ];
+            int j = tour_inds[ ( tour_i + 1 ) % tour_inds.length ];
+
+            this.setPheromone( i, j,
+                Math.min( this.getPheromone( i, j ) + add, max ) );
+        }
+    }
+
+    /**
+     * Evaporates the pheromone on every path after one time interval.
+     */
+    default void evaporate ()
+    {
+        this.evaporate( PHEROMONE_EVAP_RATE, 0 );
+    }
+
+    /**
+     * Evaporates the pheromone on every path after one time interval at the
+     * specified rate, without letting the pheromone on any path fall below a
+     * minimum.
+     *
+     * @param evap_rate the proportion of pheromone that evaporates
+     * @param min the minimum amount of pheromone on a path
+     */
+    void evaporate ( double evap_rate, double min );
+
+    /**
+     * Returns whether every path may have changed since clearChanges() was
+     * last called, in which case getNumChanged() and the changed paths are
+     * not meaningful.
+     *
+     * @return may every path have changed?
+     */
+    boolean isAllChanged ();
+
+    /**
+     * Returns the number of paths recorded as changed since clearChanges()
+     * was last called. A path may be recorded more than once, so this is at
+     * least the number of distinct changed paths, but may be more.
+     *
+     * @return the number of changed paths
+     */
+    int getNumChanged ();
+
+    /**
+     * Returns the location at one end of a path recorded as changed since
+     * clearChanges() was last called.
+     *
+     * @param k the index of the changed path, from 0 to getNumChanged() - 1
+     *
+     * @return the index of the location at one end of the path
+     */
+    int getChangedStart ( int k );
+
+    /**
+     * Returns the location at the other end of a path recorded as changed
+     * since clearChanges() was last called.
+     *
+     * @param k the index of the changed path, from 0 to getNumChanged() - 1
+     *
+     * @return the index of the location at the other end of the path
+     */
+    int getChangedEnd ( int k );
+
+    /**
+     * Forgets every recorded change.
+     */
+    void clearChanges ();
+
+    /**
+     * Copies the pheromone on every path, exactly, for readState() to
+     * restore; the recorded changes are not copied. Only the raw values are
+     * copied here; the copy encodes them when it is written.
+     *
+     * @return the copy of the pheromone
+     */
+    StateCopy copyState ();
+
+    /**
+     * Replaces the pheromone on every path with the pheromone written by
+     * copyState() of a store of the same kind over the same locations, and
+     * marks every path as changed.
+     *
+     * @param in where to read the pheromone from
+     *
+     * @throws IOException if the pheromone cannot be read, or was written by
+     * a different kind of store or over different locations
+     */
+    void readState ( DataInput in ) throws IOException;
+}
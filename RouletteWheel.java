@@ -0,0 +1,149 @@
+/*
+ * Filename:    RouletteWheel.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the RouletteWheel class. See class header for more
+ * information.
+ */
+
+/**
+ * A RouletteWheel chooses an index from a set of weighted indices with
+ * probability proportional to each index's weight. Its buffers are allocated
+ * once up front and reused, so that filling and sampling the wheel on every
+ * ant step allocates nothing.
+ *
+ * If the weights added since the last reset do not sum to a positive, finite
+ * value (for instance, if every weight has underflowed to 0), every added
+ * index is chosen with equal probability instead.
+ */
+class RouletteWheel
+{
+    /* the indices added to the wheel */
+    private final int[] inds;
+
+    /* the running total of the weights added to the wheel; cumulative[ i ] is
+     * the sum of the weights of inds[ 0 ] to inds[ i ] */
+    private final double[] cumulative;
+
+    /* the number of indices added to the wheel since the last reset */
+    private int size = 0;
+
+    /* the total of the weights added to the wheel since the last reset */
+    private double total = 0;
+
+    /* the number of samples chosen uniformly because the weights were
+     * unusable */
+    private long num_uniform = 0;
+
+    /**
+     * Constructs a new, empty wheel that can hold the given number of indices.
+     *
+     * @param capacity the maximum number of indices the wheel can hold
+     */
+    public RouletteWheel ( int capacity )
+    {
+        this.inds = new int[ capacity ];
+        this.cumulative = new double[ capacity ];
+    }
+
+    /**
+     * Removes every index from the wheel.
+     */
+    public void reset ()
+    {
+        this.size = 0;
+        this.total = 0;
+    }
+
+    /**
+     * Adds an index to the wheel with the specified weight. A weight that is
+     * negative or NaN is treated as 0.
+     *
+     * @param ind the index to add
+     * @param weight the weight of the index
+     */
+    public void add ( int ind, double weight )
+    {
+        /* this weight cannot be chosen proportionally */
+        if ( !( weight > 0 ) )
+        {
+            weight = 0;
+        }
+
+        this.total += weight;
+        this.inds[ this.size ] = ind;
+        this.cumulative[ this.size ] = this.total;
+        this.size++;
+    }
+
+    /**
+     * Returns the number of indices added to the wheel since the last reset.
+     *
+     * @return the number of indices on the wheel
+     */
+    public int getSize ()
+    {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of samples chosen uniformly because the total of the
+     * weights was 0 or infinite, and sets it back to 0.
+     *
+     * @return the number of uniform samples since this was last called
+     */
+    public long takeNumUniform ()
+    {
+        long num = this.num_uniform;
+        this.num_uniform = 0;
+
+        return num;
+    }
+
+    /**
+     * Chooses an index from the wheel.
+     *
+     * @param rand a uniformly distributed random number in [0, 1)
+     *
+     * @return the chosen index, or -1 if the wheel is empty
+     */
+    public int sample ( double rand )
+    {
+        /* there is nothing to choose from */
+        if ( this.size == 0 )
+        {
+            return -1;
+        }
+
+        /* the weights are unusable, so choose uniformly */
+        if ( !( this.total > 0 ) || Double.isInfinite( this.total ) )
+        {
+            this.num_uniform++;
+            return this.inds[ ( int ) ( rand * this.size ) ];
+        }
+
+        /* the point on the wheel that was landed on */
+        double target = rand * this.total;
+
+        /* binary search for the first running total past the target */
+        int lo = 0;
+        int hi = this.size - 1;
+        while ( lo < hi )
+        {
+            int mid = ( lo + hi ) >>> 1;
+
+            if ( this.cumulative[ mid ] > target )
+            {
+                hi = mid;
+            }
+            else
+            {
+                lo = mid + 1;
+            }
+        }
+
+        return this.inds[ lo ];
+    }
+}
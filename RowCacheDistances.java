@@ -0,0 +1,261 @@
+/*
+ * Filename:    RowCacheDistances.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the RowCacheDistances class. See class header for more
+ * information.
+ */
+
+/**
+ * A RowCacheDistances computes distances from a set of coordinates on demand,
+ * and keeps the rows of the most recently used locations within a fixed budget
+ * of memory, so that instances too large for any full matrix still look up
+ * the distances around the locations currently being worked on without
+ * recomputing them. It uses the most when a distance is costly to compute,
+ * as with the GEO metric or coordinates mapped from a file.
+ *
+ * Rows are filled lazily: a row is given a slot when its location is first
+ * used, but each distance in it is only computed when it is first looked up,
+ * so that a miss costs one distance rather than a whole row. Every slot has a
+ * generation, which is advanced when its row is evicted, and every entry is
+ * stamped with the generation it was computed in; entries with an old stamp
+ * are treated as empty, so evicting a row takes constant time. Each cached
+ * row takes 12 bytes per location (its distances and their stamps).
+ *
+ * Rows are evicted with the CLOCK algorithm: every slot has a reference bit,
+ * set whenever its row is used, and a hand sweeps the slots, clearing set bits
+ * and evicting the first row whose bit is already clear. This approximates
+ * least-recently-used eviction without reordering anything on a hit.
+ *
+ * Once every slot is used, a row that misses is only given a slot if it
+ * missed shortly before (see RowCacheStripe.WINDOW_RATIO); otherwise its
+ * distance is computed without caching it. Tour evaluation and the other
+ * walks over every location use each row once per walk, and would otherwise
+ * evict every row long before it is used again whenever the budget is
+ * smaller than the full matrix. The rows held then stay, and since a
+ * lookup is answered from the row of either location, a budget of half the
+ * rows still answers most lookups; rows used again and again within a short
+ * span, as in local search, are still admitted.
+ *
+ * The cache is split into stripes by the low bits of the location indices
+ * (see RowCacheStripe), each with its share of the slots, its own hand and
+ * its own lock, so that the ant workers of a pool share one cache without
+ * every lookup waiting on the same lock. By default there are
+ * STRIPES_PER_PROCESSOR stripes per available processor; the number of hits
+ * and misses is counted.
+ */
+class RowCacheDistances implements DistanceProvider
+{
+    /* the default number of stripes per available processor, enough that
+     * two threads rarely want the same stripe at once */
+    public static final int STRIPES_PER_PROCESSOR = 4;
+
+    /* the locations */
+    private final CoordinateSet coords;
+
+    /* the number of locations */
+    private final int n;
+
+    /* the stripes, a power of two in number */
+    private final RowCacheStripe[] stripes;
+
+    /* the low bits of an index that give its stripe */
+    private final int stripe_mask;
+
+    /**
+     * Constructs a new, empty cache over the specified locations, with
+     * STRIPES_PER_PROCESSOR stripes per available processor.
+     *
+     * @param coords the locations
+     * @param budget_bytes the most memory the cached rows may take; at least
+     * one row is always cached
+     */
+    public RowCacheDistances ( CoordinateSet coords, long budget_bytes )
+    {
+        this( coords, budget_bytes, STRIPES_PER_PROCESSOR
+            * Runtime.getRuntime().availableProcessors() );
+    }
+
+    /**
+     * Constructs a new, empty cache over the specified locations.
+     *
+     * @param coords the locations
+     * @param budget_bytes the most memory the cached rows may take; at least
+     * one row is always cached
+     * @param num_stripes the most stripes to split the cache into, rounded
+     * down to a power of two and to the number of rows that fit in the
+     * budget; 1 puts every lookup behind a single lock
+     */
+    public RowCacheDistances ( CoordinateSet coords, long budget_bytes,
+        int num_stripes )
+    {
+        this.coords = coords;
+        this.n = coords.getSize();
+
+        /* the number of rows that fit in the budget */
+        long row_bytes = ( long ) Math.max( n, 1 )
+            * ( Double.BYTES + Integer.BYTES );
+        int num_slots = ( int ) Math.max( 1, Math.min( n,
+            budget_bytes / row_bytes ) );
+
+        /* every stripe holds at least one row */
+        int shift = 0;
+        while ( ( 2 << shift ) <= Math.min( num_stripes, num_slots ) )
+        {
+            shift++;
+        }
+
+        this.stripes = new RowCacheStripe[ 1 << shift ];
+        this.stripe_mask = this.stripes.length - 1;
+        for ( int s = 0; s < this.stripes.length; s++ )
+        {
+            this.stripes[ s ] = new RowCacheStripe( coords,
+                num_slots >>> shift, shift );
+        }
+    }
+
+    /**
+     * Returns the number of locations.
+     *
+     * @return the number of locations
+     */
+    @Override
+    public int getSize ()
+    {
+        return this.n;
+    }
+
+    /**
+     * Returns the number of rows this cache can hold.
+     *
+     * @return the number of rows this cache can hold
+     */
+    public int getCapacity ()
+    {
+        int capacity = 0;
+        for ( RowCacheStripe stripe : this.stripes )
+        {
+            capacity += stripe.getCapacity();
+        }
+
+        return capacity;
+    }
+
+    /**
+     * Returns the number of stripes the cache is split into.
+     *
+     * @return the number of stripes
+     */
+    public int getNumStripes ()
+    {
+        return this.stripes.length;
+    }
+
+    /**
+     * Returns the distance between the locations at the given indices, from
+     * the cached row of either location if there is one, and otherwise from
+     * the row of the first location, which is given a slot if it is
+     * admitted. The distance is computed if the row does not hold it yet.
+     * Only the stripes of the two locations are locked, one at a time.
+     *
+     * @param i the index of the first location
+     * @param j the index of the second location
+     *
+     * @return the distance between the locations at indices i and j
+     */
+    @Override
+    public double getDistance ( int i, int j )
+    {
+        /* the cached row of the first location */
+        RowCacheStripe first = this.stripes[ i & this.stripe_mask ];
+        double dist = first.lookup( i, j, false );
+        if ( dist != RowCacheStripe.NOT_CACHED )
+        {
+            return dist;
+        }
+
+        /* the cached row of the second location */
+        dist = this.stripes[ j & this.stripe_mask ].lookup( j, i, false );
+        if ( dist != RowCacheStripe.NOT_CACHED )
+        {
+            return dist;
+        }
+
+        /* the row of the first location, given a slot if it is admitted */
+        return first.lookup( i, j, true );
+    }
+
+    /**
+     * Returns the number of lookups answered from a cached row.
+     *
+     * @return the number of hits
+     */
+    public long getHits ()
+    {
+        long hits = 0;
+        for ( RowCacheStripe stripe : this.stripes )
+        {
+            hits += stripe.getHits();
+        }
+
+        return hits;
+    }
+
+    /**
+     * Returns the number of lookups that had to compute a distance.
+     *
+     * @return the number of misses
+     */
+    public long getMisses ()
+    {
+        long misses = 0;
+        for ( RowCacheStripe stripe : this.stripes )
+        {
+            misses += stripe.getMisses();
+        }
+
+        return misses;
+    }
+
+    /**
+     * Returns the number of rows evicted to make room for others.
+     *
+     * @return the number of evictions
+     */
+    public long getEvictions ()
+    {
+        long evictions = 0;
+        for ( RowCacheStripe stripe : this.stripes )
+        {
+            evictions += stripe.getEvictions();
+        }
+
+        return evictions;
+    }
+
+    /**
+     * Returns the proportion of lookups answered from a cached row.
+     *
+     * @return the hit rate, or 0 if there have been no lookups
+     */
+    public double getHitRate ()
+    {
+        long hits = this.getHits();
+        long total = hits + this.getMisses();
+
+        return ( total == 0 ) ? 0 : ( double ) hits / total;
+    }
+
+    /**
+     * Sets the number of hits, misses and evictions back to 0.
+     */
+    public void resetCounters ()
+    {
+        for ( RowCacheStripe stripe : this.stripes )
+        {
+            stripe.resetCounters();
+        }
+    }
+}
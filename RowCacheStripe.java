@@ -0,0 +1,281 @@
+/*
+ * Filename:    RowCacheStripe.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the RowCacheStripe class. See class header for more
+ * information.
+ */
+import java.util.Arrays;
+
+/**
+ * A RowCacheStripe is one stripe of a RowCacheDistances: a cache of the rows
+ * of the locations whose indices fall in the stripe, with slots of its own
+ * and a lock of its own, so that threads looking up the rows of different
+ * stripes never wait for each other. See RowCacheDistances for how rows are
+ * filled and evicted.
+ *
+ * The stripe of a location is given by the low bits of its index, and the
+ * remaining bits give its position within the stripe.
+ */
+class RowCacheStripe
+{
+    /* the value returned by lookup() for a row the stripe does not hold */
+    public static final double NOT_CACHED = -1;
+
+    /* the number of slots per row miss in the admission window: once every
+     * slot is used, a row is only admitted if it misses again within
+     * slots / WINDOW_RATIO row misses */
+    public static final int WINDOW_RATIO = 32;
+
+    /* the locations */
+    private final CoordinateSet coords;
+
+    /* the number of low bits of an index that give its stripe */
+    private final int shift;
+
+    /* the row held in each slot, or -1 if the slot is empty */
+    private final int[] row_of_slot;
+
+    /* the slot holding the row of each location of this stripe, by its
+     * position within the stripe, or -1 if it is not cached */
+    private final int[] slot_of_row;
+
+    /* the distances in each slot, and the generation each was computed in,
+     * allocated when the slot is first used */
+    private final double[][] rows;
+    private final int[][] stamps;
+
+    /* the current generation of each slot */
+    private final int[] generations;
+
+    /* has the row in each slot been used since the hand last passed it? */
+    private final boolean[] referenced;
+
+    /* the next slot the hand looks at */
+    private int hand = 0;
+
+    /* the number of slots that have held a row */
+    private int num_used = 0;
+
+    /* the number of misses of uncached rows so far, and the number after
+     * which the last of each uncached row of this stripe came, by its
+     * position within the stripe, or 0 if it has not missed */
+    private long row_misses = 0;
+    private final long[] last_miss;
+
+    /* the number of row misses within which a row must miss again to be
+     * admitted */
+    private final long window;
+
+    /* the number of lookups answered from the cache, the number that
+     * computed a distance, and the number of rows evicted */
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+    /**
+     * Constructs a new, empty stripe.
+     *
+     * @param coords the locations
+     * @param num_slots the number of rows the stripe can hold, at least 1
+     * @param shift the number of low bits of an index that give its stripe
+     */
+    public RowCacheStripe ( CoordinateSet coords, int num_slots, int shift )
+    {
+        this.coords = coords;
+        this.shift = shift;
+
+        /* the number of locations in the largest stripe */
+        int num_rows = ( coords.getSize() + ( 1 << shift ) - 1 ) >>> shift;
+
+        this.row_of_slot = new int[ num_slots ];
+        this.slot_of_row = new int[ num_rows ];
+        this.rows = new double[ num_slots ][];
+        this.stamps = new int[ num_slots ][];
+        this.generations = new int[ num_slots ];
+        this.referenced = new boolean[ num_slots ];
+        this.last_miss = new long[ num_rows ];
+        this.window = Math.max( 1, num_slots / WINDOW_RATIO );
+        Arrays.fill( this.row_of_slot, -1 );
+        Arrays.fill( this.slot_of_row, -1 );
+    }
+
+    /**
+     * Returns the number of rows this stripe can hold.
+     *
+     * @return the number of rows this stripe can hold
+     */
+    public int getCapacity ()
+    {
+        return this.rows.length;
+    }
+
+    /**
+     * Returns a distance from the cached row of a location of this stripe,
+     * computing it into the row if the row does not hold it yet. A row that
+     * is not cached is only given a slot while there are free slots, or if
+     * it missed before within the last window of row misses; otherwise the
+     * distance is computed without caching it.
+     *
+     * @param row the index of the location of the row, in this stripe
+     * @param col the index of the other location
+     * @param claim should the row be given a slot if it is not cached?
+     *
+     * @return the distance between the locations at indices row and col, or
+     * NOT_CACHED if the row is not cached and was not to be claimed
+     */
+    public synchronized double lookup ( int row, int col, boolean claim )
+    {
+        int slot = this.slot_of_row[ row >>> this.shift ];
+        if ( slot < 0 )
+        {
+            if ( !claim )
+            {
+                return NOT_CACHED;
+            }
+
+            /* a row seen only once in a while would evict a row that is used
+             * more often, so it is not cached */
+            if ( !this.admit( row ) )
+            {
+                this.misses++;
+                return this.coords.getDistance( row, col );
+            }
+            slot = this.claim( row );
+        }
+        this.referenced[ slot ] = true;
+
+        /* the row holds the distance */
+        if ( this.stamps[ slot ][ col ] == this.generations[ slot ] )
+        {
+            this.hits++;
+            return this.rows[ slot ][ col ];
+        }
+
+        /* compute the distance into the row */
+        this.misses++;
+        double dist = this.coords.getDistance( row, col );
+        this.rows[ slot ][ col ] = dist;
+        this.stamps[ slot ][ col ] = this.generations[ slot ];
+
+        return dist;
+    }
+
+    /**
+     * Returns the number of lookups answered from a cached row.
+     *
+     * @return the number of hits
+     */
+    public synchronized long getHits ()
+    {
+        return this.hits;
+    }
+
+    /**
+     * Returns the number of lookups that had to compute a distance.
+     *
+     * @return the number of misses
+     */
+    public synchronized long getMisses ()
+    {
+        return this.misses;
+    }
+
+    /**
+     * Returns the number of rows evicted to make room for others.
+     *
+     * @return the number of evictions
+     */
+    public synchronized long getEvictions ()
+    {
+        return this.evictions;
+    }
+
+    /**
+     * Sets the number of hits, misses and evictions back to 0.
+     */
+    public synchronized void resetCounters ()
+    {
+        this.hits = 0;
+        this.misses = 0;
+        this.evictions = 0;
+    }
+
+    /**
+     * Records a miss of a row that is not cached, and decides whether the row
+     * is to be given a slot: always while there is a free slot, and otherwise
+     * only if the row missed before within the last window of row misses.
+     * Walks over every location, such as the evaluation of a tour, miss each
+     * row once per walk, so that admitting them would only evict rows that
+     * are used more often, long before the walk comes back to them.
+     *
+     * @param row the index of the location
+     *
+     * @return should the row be given a slot?
+     */
+    private boolean admit ( int row )
+    {
+        this.row_misses++;
+        if ( this.num_used < this.rows.length )
+        {
+            return true;
+        }
+
+        int pos = row >>> this.shift;
+        boolean recent = this.last_miss[ pos ] > 0
+            && this.row_misses - this.last_miss[ pos ] <= this.window;
+        this.last_miss[ pos ] = this.row_misses;
+
+        return recent;
+    }
+
+    /**
+     * Gives the row of a location a slot, evicting the row in the slot if
+     * there is one. The row holds no distances yet.
+     *
+     * @param row the index of the location
+     *
+     * @return the index of the slot
+     */
+    private int claim ( int row )
+    {
+        /* sweep the hand past the recently used rows */
+        while ( this.referenced[ this.hand ] )
+        {
+            this.referenced[ this.hand ] = false;
+            this.hand = ( this.hand + 1 ) % this.rows.length;
+        }
+        int slot = this.hand;
+        this.hand = ( this.hand + 1 ) % this.rows.length;
+
+        /* evict the row in the slot */
+        if ( this.row_of_slot[ slot ] >= 0 )
+        {
+            this.slot_of_row[ this.row_of_slot[ slot ] >>> this.shift ] = -1;
+            this.evictions++;
+        }
+        if ( this.rows[ slot ] == null )
+        {
+            int n = this.coords.getSize();
+            this.rows[ slot ] = new double[ n ];
+            this.stamps[ slot ] = new int[ n ];
+            this.num_used++;
+        }
+
+        /* start a new generation, so that every entry reads as empty; the
+         * stamps are only cleared if the generation wraps around */
+        this.generations[ slot ]++;
+        if ( this.generations[ slot ] == 0 )
+        {
+            Arrays.fill( this.stamps[ slot ], 0 );
+            this.generations[ slot ] = 1;
+        }
+
+        this.row_of_slot[ slot ] = row;
+        this.slot_of_row[ row >>> this.shift ] = slot;
+
+        return slot;
+    }
+}
@@ -0,0 +1,447 @@
+/*
+ * Filename:    ScalingBenchmark.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the ScalingBenchmark class. See class header for more
+ * information.
+ */
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * This class contains a main method that runs whole solvers end to end on
+ * seeded random instances over a range of instance sizes and thread counts,
+ * and writes one CSV row per run with its wall time, peak heap use, allocation
+ * rate and final tour length. The length of the best tour over time of each
+ * run is written to a second CSV, giving time-to-quality curves, so that
+ * solver variants can be compared on both speed and quality.
+ *
+ * The allocation of a run is counted on the threads the benchmark controls:
+ * the calling thread and the workers of the pools it creates, whose counts
+ * are kept when they exit, so that workers retired during a run are not
+ * lost. The peak heap use of a run is the sum of the peaks of the heap
+ * memory pools, which may each peak at a different time, so it is an upper
+ * bound on the true peak.
+ *
+ * Usage: java ScalingBenchmark [option value] ...
+ *
+ *   -solvers   comma-separated solvers: greedy, AS, MMAS (default: all)
+ *   -n         comma-separated instance sizes (default: 100,200,500)
+ *   -threads   comma-separated thread counts (default: 1)
+ *   -instance  uniform or clustered (default: uniform)
+ *   -seed      seed of the instances and the solvers (default: 1)
+ *   -warmup    number of unrecorded runs per configuration (default: 1)
+ *   -reps      number of recorded runs per configuration (default: 3)
+ *   -iters     maximum iterations of an ACO run (default: 1000)
+ *   -millis    time budget of an ACO run, or 0 for none (default: 0)
+ *   -out       the runs CSV (default: scaling.csv); the time-to-quality
+ *              samples are written next to it, to <out>.samples.csv
+ */
+class ScalingBenchmark
+{
+    /* dimensions of map containing the random instances */
+    private final static double RAND_MAP_WIDTH = 500.0;
+    private final static double RAND_MAP_HEIGHT = 500.0;
+
+    /* the settings of this run, with their defaults */
+    private String[] solvers = { "greedy", "AS", "MMAS" };
+    private int[] sizes = { 100, 200, 500 };
+    private int[] thread_counts = { 1 };
+    private String instance = "uniform";
+    private long seed = 1;
+    private int warmup = 1;
+    private int reps = 3;
+    private int max_iterations = ACOOptions.DEFAULT_MAX_ITERATIONS;
+    private long budget_millis = 0;
+    private String out = "scaling.csv";
+
+    /* the elapsed time and best length at each improvement in the current
+     * run */
+    private final List<long[]> sample_nanos = new ArrayList<long[]>();
+    private final List<Double> sample_lengths = new ArrayList<Double>();
+
+    /* the live workers of the pools of this benchmark, and the bytes
+     * allocated by those that have exited; guarded by this object */
+    private final Set<Thread> workers = ConcurrentHashMap.newKeySet();
+    private long exited_bytes = 0;
+
+    /**
+     * Main method, used to run the benchmark.
+     *
+     * @param args the options of the run; see the class header
+     *
+     * @throws IOException if a CSV file cannot be written
+     */
+    public static void main ( String[] args ) throws IOException
+    {
+        ScalingBenchmark bench = new ScalingBenchmark();
+        bench.parseArgs( args );
+        bench.run();
+    }
+
+    /**
+     * Reads the settings of this run from the command line.
+     *
+     * @param args the command line arguments
+     */
+    private void parseArgs ( String[] args )
+    {
+        /* go through each option and its value */
+        for ( int args_i = 0; args_i + 1 < args.length; args_i += 2 )
+        {
+            String value = args[ args_i + 1 ];
+
+            switch ( args[ args_i ] )
+            {
+                case "-solvers":
+                    this.solvers = value.split( "," );
+                    break;
+                case "-n":
+                    this.sizes = parseInts( value );
+                    break;
+                case "-threads":
+                    this.thread_counts = parseInts( value );
+                    break;
+                case "-instance":
+                    this.instance = value;
+                    break;
+                case "-seed":
+                    this.seed = Long.parseLong( value );
+                    break;
+                case "-warmup":
+                    this.warmup = Integer.parseInt( value );
+                    break;
+                case "-reps":
+                    this.reps = Integer.parseInt( value );
+                    break;
+                case "-iters":
+                    this.max_iterations = Integer.parseInt( value );
+                    break;
+                case "-millis":
+                    this.budget_millis = Long.parseLong( value );
+                    break;
+                case "-out":
+                    this.out = value;
+                    break;
+                default:
+                    throw new IllegalArgumentException( "unknown option: "
+                        + args[ args_i ] );
+            }
+        }
+    }
+
+    /**
+     * Runs every configuration and writes the CSV files.
+     *
+     * @throws IOException if a CSV file cannot be written
+     */
+    private void run () throws IOException
+    {
+        try ( PrintWriter runs_csv = new PrintWriter(
+                new FileWriter( this.out ) );
+            PrintWriter samples_csv = new PrintWriter(
+                new FileWriter( this.out + ".samples.csv" ) ) )
+        {
+            runs_csv.println( "solver,instance,n,threads,rep,wall_ms,"
+                + "peak_heap_bytes,allocated_bytes,alloc_mb_per_s,"
+                + "final_length" );
+            samples_csv.println( "solver,instance,n,threads,rep,elapsed_ms,"
+                + "best_length" );
+
+            /* go through each configuration */
+            for ( int n : this.sizes )
+            {
+                /* the instance for this size */
+                CoordinateSet coords = new ArrayCoordinateSet(
+                    this.instance.equals( "clustered" )
+                    ? InstanceGenerator.clustered( n, seed, RAND_MAP_WIDTH,
+                    RAND_MAP_HEIGHT )
+                    : InstanceGenerator.uniform( n, seed, RAND_MAP_WIDTH,
+                    RAND_MAP_HEIGHT ) );
+
+                for ( int threads : this.thread_counts )
+                {
+                    /* the pool of this thread count, shared by every run */
+                    ForkJoinPool pool = ( threads > 1 )
+                        ? new ForkJoinPool( threads, this::newWorker, null,
+                        false ) : null;
+
+                    for ( String solver : this.solvers )
+                    {
+                        /* the warmup runs are not recorded */
+                        for ( int rep = -this.warmup; rep < this.reps; rep++ )
+                        {
+                            this.runOnce( solver, coords, pool, threads, rep,
+                                ( rep >= 0 ) ? runs_csv : null,
+                                ( rep >= 0 ) ? samples_csv : null );
+                        }
+                    }
+
+                    if ( pool != null )
+                    {
+                        pool.shutdown();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs one solver once and writes its results.
+     *
+     * @param solver the name of the solver
+     * @param coords the instance
+     * @param pool the pool to run the solver in, or null to run it on the
+     * calling thread
+     * @param threads the thread count, for the CSV
+     * @param rep the index of the run, for the CSV
+     * @param runs_csv where to write the run, or null not to
+     * @param samples_csv where to write the samples, or null not to
+     */
+    private void runOnce ( String solver, CoordinateSet coords,
+        ForkJoinPool pool, int threads, int rep, PrintWriter runs_csv,
+        PrintWriter samples_csv )
+    {
+        this.sample_nanos.clear();
+        this.sample_lengths.clear();
+
+        /* forget the peak heap use of the previous run */
+        System.gc();
+        for ( MemoryPoolMXBean mem_pool
+            : ManagementFactory.getMemoryPoolMXBeans() )
+        {
+            mem_pool.resetPeakUsage();
+        }
+
+        long alloc_before = this.getAllocatedBytes();
+        long start = System.nanoTime();
+
+        /* the tour found by the solver */
+        Tour tour;
+
+        if ( solver.equals( "greedy" ) )
+        {
+            tour = TSPAlgorithms.sol_greedy( coords, pool,
+                coords.getSize(), seed );
+        }
+        else
+        {
+            /* the options of the run, recording every improvement */
+            ACOOptions options = new ACOOptions();
+            options.setPool( pool );
+            options.setSeed( seed + rep );
+            options.setTermination( ( this.budget_millis > 0 )
+                ? TerminationPolicy.any(
+                    TerminationPolicy.iterations( this.max_iterations ),
+                    TerminationPolicy.timeBudget( this.budget_millis
+                    * 1000000L ) )
+                : TerminationPolicy.iterations( this.max_iterations ) );
+            options.addListener( this::record );
+
+            tour = solver.equals( "MMAS" )
+                ? TSPAlgorithms.sol_ACO_MMAS( coords, options )
+                : TSPAlgorithms.sol_ACO_AS( coords, options );
+        }
+
+        long wall_nanos = System.nanoTime() - start;
+        long allocated = this.getAllocatedBytes() - alloc_before;
+        double length = tour.getLength();
+
+        /* the greedy solver has no iterations; its only sample is its end */
+        if ( this.sample_lengths.isEmpty() )
+        {
+            this.sample_nanos.add( new long[] { wall_nanos } );
+            this.sample_lengths.add( length );
+        }
+
+        if ( runs_csv != null )
+        {
+            runs_csv.println( String.format( Locale.ROOT,
+                "%s,%s,%d,%d,%d,%.3f,%d,%d,%.3f,%.6f", solver, this.instance,
+                coords.getSize(), threads, rep, wall_nanos / 1e6,
+                getPeakHeapBytes(),
+                allocated, ( allocated / 1e6 ) / ( wall_nanos / 1e9 ),
+                length ) );
+            runs_csv.flush();
+        }
+
+        if ( samples_csv != null )
+        {
+            for ( int i = 0; i < this.sample_lengths.size(); i++ )
+            {
+                samples_csv.println( String.format( Locale.ROOT,
+                    "%s,%s,%d,%d,%d,%.3f,%.6f", solver, this.instance,
+                    coords.getSize(), threads, rep,
+                    this.sample_nanos.get( i )[ 0 ] / 1e6,
+                    this.sample_lengths.get( i ) ) );
+            }
+            samples_csv.flush();
+        }
+    }
+
+    /**
+     * Records the elapsed time and best length of a solver whenever its best
+     * length improves.
+     *
+     * @param solver the solver, which has just completed an iteration
+     */
+    private void record ( ACOSolver solver )
+    {
+        /* the best tour improved in the last iteration */
+        if ( solver.getIterationsSinceImprovement() == 0 )
+        {
+            this.sample_nanos.add( new long[] { solver.getElapsedNanos() } );
+            this.sample_lengths.add( solver.getBestTourLength() );
+        }
+    }
+
+    /**
+     * Creates a worker for a pool of this benchmark, which is counted by
+     * getAllocatedBytes() while it runs and after it exits.
+     *
+     * @param pool the pool the worker belongs to
+     *
+     * @return the worker
+     */
+    private ForkJoinWorkerThread newWorker ( ForkJoinPool pool )
+    {
+        return new ForkJoinWorkerThread( pool )
+        {
+            @Override
+            protected void onStart ()
+            {
+                super.onStart();
+                ScalingBenchmark.this.workers.add( this );
+            }
+
+            @Override
+            protected void onTermination ( Throwable exception )
+            {
+                ScalingBenchmark.this.retire( this );
+                super.onTermination( exception );
+            }
+        };
+    }
+
+    /**
+     * Keeps the count of the bytes allocated by an exiting worker, which can
+     * no longer be read once it has exited.
+     *
+     * @param worker the worker, which is the calling thread
+     */
+    private synchronized void retire ( Thread worker )
+    {
+        com.sun.management.ThreadMXBean threads = getThreadBean();
+        if ( threads != null )
+        {
+            this.exited_bytes += Math.max( 0,
+                threads.getCurrentThreadAllocatedBytes() );
+        }
+        this.workers.remove( worker );
+    }
+
+    /**
+     * Returns the number of bytes allocated so far by the calling thread and
+     * by every worker of the pools of this benchmark, including the workers
+     * that have exited.
+     *
+     * @return the number of bytes allocated, or 0 if the JVM cannot tell
+     */
+    private synchronized long getAllocatedBytes ()
+    {
+        com.sun.management.ThreadMXBean threads = getThreadBean();
+        if ( threads == null )
+        {
+            return 0;
+        }
+
+        /* the calling thread and the workers that have exited */
+        long total = Math.max( 0, threads.getCurrentThreadAllocatedBytes() )
+            + this.exited_bytes;
+
+        /* the live workers */
+        for ( Thread worker : this.workers )
+        {
+            total += Math.max( 0,
+                threads.getThreadAllocatedBytes( worker.getId() ) );
+        }
+
+        return total;
+    }
+
+    /**
+     * Returns the thread bean with allocation counters, an extension of the
+     * HotSpot JVM.
+     *
+     * @return the thread bean, or null if the JVM has no allocation counters
+     */
+    private static com.sun.management.ThreadMXBean getThreadBean ()
+    {
+        if ( !( ManagementFactory.getThreadMXBean()
+            instanceof com.sun.management.ThreadMXBean ) )
+        {
+            return null;
+        }
+
+        return ( com.sun.management.ThreadMXBean )
+            ManagementFactory.getThreadMXBean();
+    }
+
+    /**
+     * Returns the peak heap use since the peaks were last reset, summed over
+     * the heap memory pools. Each pool keeps its own peak, and the pools
+     * rarely peak at the same moment (the young pools empty as the old pool
+     * fills), so the sum is an upper bound on the peak of the whole heap,
+     * not the peak itself.
+     *
+     * @return the peak heap use, in bytes
+     */
+    private static long getPeakHeapBytes ()
+    {
+        /* the total over every heap pool */
+        long total = 0;
+        for ( MemoryPoolMXBean mem_pool
+            : ManagementFactory.getMemoryPoolMXBeans() )
+        {
+            if ( mem_pool.getType() == MemoryType.HEAP
+                && mem_pool.getPeakUsage() != null )
+            {
+                total += mem_pool.getPeakUsage().getUsed();
+            }
+        }
+
+        return total;
+    }
+
+    /**
+     * Parses a comma-separated list of integers.
+     *
+     * @param list the list
+     *
+     * @return the integers in the list
+     */
+    private static int[] parseInts ( String list )
+    {
+        String[] parts = list.split( "," );
+        int[] ints = new int[ parts.length ];
+        for ( int i = 0; i < parts.length; i++ )
+        {
+            ints[ i ] = Integer.parseInt( parts[ i ].trim() );
+        }
+
+        return ints;
+    }
+}
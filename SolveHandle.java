@@ -0,0 +1,253 @@
+/*
+ * Filename:    SolveHandle.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the SolveHandle class. See class header for more
+ * information.
+ */
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A SolveHandle is a run of an Ant Colony Optimization solver in the
+ * background, started by one of the asynchronous methods of TSPAlgorithms. It
+ * gives:
+ *
+ * - a CompletableFuture of the tour the run ends with;
+ * - the shortest tour found so far, at any moment, from any thread;
+ * - the progress of the run (its iterations and elapsed time);
+ * - cooperative cancellation, which stops the run after the iteration in
+ *   progress.
+ *
+ * A run may be given a deadline. At the deadline, the future is completed with
+ * the shortest tour found so far, and the run is stopped after the iteration
+ * in progress. Before the ants start, the shortest tour so far is a nearest
+ * neighbor tour, so there is an answer to give almost from the start.
+ */
+class SolveHandle
+{
+    /* the tour the run ends with */
+    private final CompletableFuture<Tour> future = new CompletableFuture<>();
+
+    /* the time at which the run was started, in nanoseconds */
+    private final long start_nanos = System.nanoTime();
+
+    /* the shortest tour so far, or null if there is none yet; never changed
+     * once published */
+    private volatile Tour best = null;
+
+    /* the number of iterations completed so far */
+    private volatile int iteration = 0;
+
+    /* has the run been asked to stop? */
+    private volatile boolean stop_requested = false;
+
+    /**
+     * Constructs a new handle; use start() to start a run with it.
+     */
+    private SolveHandle ()
+    {
+    }
+
+    /**
+     * Starts a run of an Ant Colony Optimization solver in the background.
+     *
+     * @param coords the locations to find a tour through
+     * @param solver_factory constructs the solver over coords; the run stops
+     * when the termination policy of the solver says so, at the deadline, or
+     * when cancelled, whichever comes first
+     * @param deadline_millis the time after which the future is completed
+     * with the shortest tour so far, in milliseconds from now, or 0 for no
+     * deadline
+     * @param executor runs the solver, or null to run it on a new thread
+     *
+     * @return the handle of the run
+     */
+    public static SolveHandle start ( final CoordinateSet coords,
+        final Supplier<ACOSolver> solver_factory, long deadline_millis,
+        Executor executor )
+    {
+        final SolveHandle handle = new SolveHandle();
+
+        /* the run itself */
+        Runnable run = () -> handle.run( coords, solver_factory );
+        if ( executor != null )
+        {
+            executor.execute( run );
+        }
+        else
+        {
+            Thread thread = new Thread( run, "SolveHandle" );
+            thread.setDaemon( true );
+            thread.start();
+        }
+
+        /* give the shortest tour so far at the deadline */
+        if ( deadline_millis > 0 )
+        {
+            CompletableFuture.delayedExecutor( deadline_millis,
+                TimeUnit.MILLISECONDS ).execute( handle::expire );
+        }
+
+        return handle;
+    }
+
+    /**
+     * Returns the future of the tour the run ends with. It is completed with
+     * the tour the solver returns, or with the shortest tour so far at the
+     * deadline, whichever comes first, and exceptionally if the solver
+     * throws. Cancelling it stops the run after the iteration in progress.
+     *
+     * @return the future of the tour the run ends with
+     */
+    public CompletableFuture<Tour> getFuture ()
+    {
+        return this.future;
+    }
+
+    /**
+     * Returns the shortest tour found so far. The tour must not be changed.
+     *
+     * @return the shortest tour so far, or null if there is none yet
+     */
+    public Tour bestSoFar ()
+    {
+        return this.best;
+    }
+
+    /**
+     * Returns the length of the shortest tour found so far.
+     *
+     * @return the length of the shortest tour so far, or infinity if there is
+     * none yet
+     */
+    public double getBestLength ()
+    {
+        Tour tour = this.best;
+
+        return ( tour == null ) ? Double.POSITIVE_INFINITY : tour.getLength();
+    }
+
+    /**
+     * Returns the number of iterations the solver has completed so far.
+     *
+     * @return the number of iterations completed so far
+     */
+    public int getIteration ()
+    {
+        return this.iteration;
+    }
+
+    /**
+     * Returns the time that has passed since the run was started.
+     *
+     * @return the time since the run was started, in nanoseconds
+     */
+    public long getElapsedNanos ()
+    {
+        return System.nanoTime() - this.start_nanos;
+    }
+
+    /**
+     * Returns whether the future of the run has been completed.
+     *
+     * @return is the future complete?
+     */
+    public boolean isDone ()
+    {
+        return this.future.isDone();
+    }
+
+    /**
+     * Asks the run to stop after the iteration in progress. The future is
+     * then completed with the tour the solver returns.
+     */
+    public void cancel ()
+    {
+        this.stop_requested = true;
+    }
+
+    /**
+     * Runs the solver, publishing each shorter tour it finds, and completes
+     * the future with the tour it returns.
+     *
+     * @param coords the locations to find a tour through
+     * @param solver_factory constructs the solver
+     */
+    private void run ( CoordinateSet coords,
+        Supplier<ACOSolver> solver_factory )
+    {
+        try
+        {
+            /* a first answer, before the solver has been set up */
+            if ( coords.getSize() > 0 )
+            {
+                this.publish( TSPAlgorithms.get_greedy_start( coords, 0 ) );
+            }
+
+            /* follow every iteration, and stop the solver once asked to */
+            ACOSolver solver = solver_factory.get();
+            solver.addListener( current -> {
+                this.iteration = current.getIteration();
+
+                /* the shortest tour so far has just improved */
+                if ( current.getIterationsSinceImprovement() == 0
+                    && current.getBestTourLength() < this.getBestLength() )
+                {
+                    this.publish( current.getBestTour() );
+                }
+
+                if ( this.stop_requested || this.future.isDone() )
+                {
+                    current.stop();
+                }
+            } );
+
+            Tour tour = solver.solve();
+
+            /* the final tour may have been polished further */
+            if ( tour.getLength() < this.getBestLength() )
+            {
+                this.publish( tour );
+            }
+            this.future.complete( this.best );
+        }
+        catch ( Throwable e )
+        {
+            this.future.completeExceptionally( e );
+        }
+    }
+
+    /**
+     * Completes the future with the shortest tour so far, if there is one,
+     * and stops the run.
+     */
+    private void expire ()
+    {
+        this.stop_requested = true;
+
+        Tour tour = this.best;
+        if ( tour != null )
+        {
+            this.future.complete( tour );
+        }
+    }
+
+    /**
+     * Makes a tour the shortest tour so far.
+     *
+     * @param tour the tour, which is not changed afterwards
+     */
+    private void publish ( Tour tour )
+    {
+        /* measure the tour before it is seen by other threads, so that they
+         * only read its cached length */
+        tour.getLength();
+
+        this.best = tour;
+    }
+}
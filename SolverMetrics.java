@@ -0,0 +1,296 @@
+/*
+ * Filename:    SolverMetrics.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the SolverMetrics class. See class header for more
+ * information.
+ */
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+
+/**
+ * A SolverMetrics collects where an Ant Colony Optimization solver spends its
+ * time and memory, when the options of the run ask for it: the time spent in
+ * each phase of an iteration, the number of steps taken by the ants, the
+ * number of times an ant had visited every candidate of its location and had
+ * to fall back on the other locations, the number of times the roulette
+ * wheel could not weigh its paths and chose uniformly instead, and the bytes
+ * allocated by the thread running the solver and by each worker of its
+ * colony.
+ *
+ * The figures of the iteration in progress are only written by the thread
+ * running the solver (the workers keep their own, which are collected once
+ * they have all returned), and are added to the totals at the end of every
+ * iteration, when an ACOIterationEvent is also emitted for JDK Flight
+ * Recorder; snapshot() copies the totals and may be called from any thread.
+ *
+ * A solver without metrics does not construct one, and only checks that its
+ * metrics are null at each phase.
+ */
+class SolverMetrics
+{
+    /**
+     * A phase of an iteration.
+     */
+    public enum Phase
+    {
+        /* the ants construct their tours, including local search; the wall
+         * time of the whole colony. The choice of each step is not timed on
+         * its own: a step takes a few hundred nanoseconds, so reading the
+         * clock around every step would slow the ants by about a third, and
+         * timing only some steps gives an estimate too noisy to use */
+        CONSTRUCTION,
+
+        /* the tours of the ants are improved; the total over every ant,
+         * which exceeds the wall time when the ants run in parallel */
+        LOCAL_SEARCH,
+
+        /* the tours are measured and the shortest are kept */
+        EVALUATION,
+
+        /* the pheromone evaporates, or is reset */
+        EVAPORATION,
+
+        /* the tours lay down pheromone */
+        DEPOSIT,
+
+        /* the path weights are recomputed from the pheromone */
+        REFRESH
+    }
+
+    /* the thread bean, if it can tell how much each thread has allocated, or
+     * null otherwise */
+    private static final com.sun.management.ThreadMXBean ALLOCATION_BEAN
+        = getAllocationBean();
+
+    /* the time spent in each phase in the iteration in progress, and in
+     * every completed iteration, in nanoseconds */
+    private final long[] iter_phase_nanos
+        = new long[ Phase.values().length ];
+    private final long[] phase_nanos = new long[ Phase.values().length ];
+
+    /* the bytes allocated by each worker in the iteration in progress, and
+     * in every completed iteration */
+    private final long[] iter_worker_bytes;
+    private final long[] worker_bytes;
+
+    /* the figures of the iteration in progress */
+    private long iter_ant_steps = 0;
+    private long iter_candidate_fallbacks = 0;
+    private long iter_uniform_samples = 0;
+    private long iter_solver_bytes = 0;
+
+    /* the figures of every completed iteration */
+    private int iterations = 0;
+    private long ant_steps = 0;
+    private long candidate_fallbacks = 0;
+    private long uniform_samples = 0;
+    private long solver_bytes = 0;
+
+    /* the event of the iteration in progress, begun when it started */
+    private ACOIterationEvent event = null;
+
+    /**
+     * Constructs new, empty metrics.
+     *
+     * @param num_workers the number of workers of the colony of the solver
+     */
+    public SolverMetrics ( int num_workers )
+    {
+        this.iter_worker_bytes = new long[ num_workers ];
+        this.worker_bytes = new long[ num_workers ];
+    }
+
+    /**
+     * Returns the number of bytes the current thread has allocated so far.
+     *
+     * @return the number of bytes allocated by the current thread, or 0 if
+     * the JVM cannot tell
+     */
+    public static long getThreadAllocatedBytes ()
+    {
+        return ( ALLOCATION_BEAN != null )
+            ? ALLOCATION_BEAN.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    /**
+     * Starts the figures of a new iteration.
+     */
+    public void iterationStarted ()
+    {
+        this.event = new ACOIterationEvent();
+        this.event.begin();
+    }
+
+    /**
+     * Adds time spent in a phase of the iteration in progress.
+     *
+     * @param phase the phase
+     * @param nanos the time spent, in nanoseconds
+     */
+    public void addNanos ( Phase phase, long nanos )
+    {
+        this.iter_phase_nanos[ phase.ordinal() ] += nanos;
+    }
+
+    /**
+     * Adds steps taken by the ants in the iteration in progress.
+     *
+     * @param steps the number of steps
+     */
+    public void addAntSteps ( long steps )
+    {
+        this.iter_ant_steps += steps;
+    }
+
+    /**
+     * Adds the figures a worker collected in the iteration in progress.
+     *
+     * @param worker the index of the worker
+     * @param candidate_fallbacks the number of steps at which every candidate
+     * had been visited
+     * @param uniform_samples the number of steps at which the wheel chose
+     * uniformly
+     * @param local_search_nanos the time spent improving the tours
+     * @param bytes the bytes allocated while constructing the tours
+     */
+    public void addWorker ( int worker, long candidate_fallbacks,
+        long uniform_samples, long local_search_nanos, long bytes )
+    {
+        this.iter_candidate_fallbacks += candidate_fallbacks;
+        this.iter_uniform_samples += uniform_samples;
+        this.iter_phase_nanos[ Phase.LOCAL_SEARCH.ordinal() ]
+            += local_search_nanos;
+        this.iter_worker_bytes[ worker ] += bytes;
+    }
+
+    /**
+     * Adds bytes allocated by the thread running the solver in the iteration
+     * in progress.
+     *
+     * @param bytes the bytes allocated
+     */
+    public void addSolverBytes ( long bytes )
+    {
+        this.iter_solver_bytes += bytes;
+    }
+
+    /**
+     * Ends the iteration in progress: emits its event, and adds its figures
+     * to the totals.
+     *
+     * @param iteration the number of iterations completed
+     * @param iteration_best_length the length of the shortest tour of the
+     * iteration
+     * @param best_length the length of the shortest tour so far
+     */
+    public void iterationCompleted ( int iteration,
+        double iteration_best_length, double best_length )
+    {
+        /* the bytes allocated by every thread in this iteration */
+        long bytes = this.iter_solver_bytes;
+        for ( long worker : this.iter_worker_bytes )
+        {
+            bytes += worker;
+        }
+
+        /* the event is only filled in if a recording wants it */
+        ACOIterationEvent ev = this.event;
+        this.event = null;
+        if ( ev != null && ev.shouldCommit() )
+        {
+            ev.iteration = iteration;
+            ev.iteration_best_length = iteration_best_length;
+            ev.best_length = best_length;
+            ev.construction = this.getIterNanos( Phase.CONSTRUCTION );
+            ev.local_search = this.getIterNanos( Phase.LOCAL_SEARCH );
+            ev.evaluation = this.getIterNanos( Phase.EVALUATION );
+            ev.evaporation = this.getIterNanos( Phase.EVAPORATION );
+            ev.deposit = this.getIterNanos( Phase.DEPOSIT );
+            ev.refresh = this.getIterNanos( Phase.REFRESH );
+            ev.ant_steps = this.iter_ant_steps;
+            ev.candidate_fallbacks = this.iter_candidate_fallbacks;
+            ev.uniform_samples = this.iter_uniform_samples;
+            ev.allocated_bytes = bytes;
+            ev.commit();
+        }
+
+        /* add the figures of this iteration to the totals */
+        synchronized ( this )
+        {
+            for ( int p = 0; p < this.phase_nanos.length; p++ )
+            {
+                this.phase_nanos[ p ] += this.iter_phase_nanos[ p ];
+            }
+            for ( int w = 0; w < this.worker_bytes.length; w++ )
+            {
+                this.worker_bytes[ w ] += this.iter_worker_bytes[ w ];
+            }
+            this.iterations++;
+            this.ant_steps += this.iter_ant_steps;
+            this.candidate_fallbacks += this.iter_candidate_fallbacks;
+            this.uniform_samples += this.iter_uniform_samples;
+            this.solver_bytes += this.iter_solver_bytes;
+        }
+
+        /* start the next iteration from nothing */
+        Arrays.fill( this.iter_phase_nanos, 0 );
+        Arrays.fill( this.iter_worker_bytes, 0 );
+        this.iter_ant_steps = 0;
+        this.iter_candidate_fallbacks = 0;
+        this.iter_uniform_samples = 0;
+        this.iter_solver_bytes = 0;
+    }
+
+    /**
+     * Returns a copy of the totals over every completed iteration.
+     *
+     * @return the snapshot of the totals
+     */
+    public synchronized MetricsSnapshot snapshot ()
+    {
+        return new MetricsSnapshot( this.iterations, this.phase_nanos.clone(),
+            this.ant_steps, this.candidate_fallbacks, this.uniform_samples,
+            this.solver_bytes, this.worker_bytes.clone() );
+    }
+
+    /**
+     * Returns the time spent in a phase of the iteration in progress.
+     *
+     * @param phase the phase
+     *
+     * @return the time spent in the phase, in nanoseconds
+     */
+    private long getIterNanos ( Phase phase )
+    {
+        return this.iter_phase_nanos[ phase.ordinal() ];
+    }
+
+    /**
+     * Returns the thread bean, with allocation counting enabled, if it can
+     * tell how much each thread has allocated.
+     *
+     * @return the thread bean, or null if it cannot count allocations
+     */
+    private static com.sun.management.ThreadMXBean getAllocationBean ()
+    {
+        /* allocation counters are an extension of the HotSpot JVM */
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if ( !( threads instanceof com.sun.management.ThreadMXBean ) )
+        {
+            return null;
+        }
+        com.sun.management.ThreadMXBean bean
+            = ( com.sun.management.ThreadMXBean ) threads;
+        if ( !bean.isThreadAllocatedMemorySupported() )
+        {
+            return null;
+        }
+        bean.setThreadAllocatedMemoryEnabled( true );
+
+        return bean;
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Filename:    SparseChoiceInfo.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the SparseChoiceInfo class. See class header for more
+ * information.
+ */
+
+/**
+ * A SparseChoiceInfo is a ChoiceInfo that only caches the weights of the
+ * paths from each location to its candidates, in rows of k weights per
+ * location, in the order of the candidate lists; this takes O(n * k) memory
+ * instead of O(n^2). The weight of any other path is computed when it is
+ * asked for, from the distance and the pheromone on the path.
+ *
+ * As with a ChoiceMatrix, the weights are computed from the stored values of
+ * the pheromone, and the floor is applied when they are read, so refresh()
+ * only has to recompute the weights of the candidate paths that received
+ * pheromone.
+ * Refreshing from a SparsePheromones over the same candidate lists reads
+ * the pheromone of each candidate path directly instead of searching for it.
+ */
+class SparseChoiceInfo implements ChoiceInfo
+{
+    /* the number of locations */
+    private final int n;
+
+    /* the distances between the locations */
+    private final DistanceProvider dists;
+
+    /* the candidate lists whose paths have cached weights */
+    private final CandidateLists cands;
+
+    /* the number of candidates of each location */
+    private final int k;
+
+    /* the exponential weights to give the pheromone and length values */
+    private final double alpha;
+    private final double beta;
+
+    /* eta^beta for the path from each location to each of its candidates;
+     * the path from the location at index i to its candidate of the given
+     * rank is at index ( i * k + rank ) */
+    private final double[] heuristic;
+
+    /* tau^alpha * eta^beta for the path from each location to each of its
+     * candidates */
+    private final double[] choice;
+
+    /* the pheromone of the last refresh, its floor up to the same common
+     * factor as its stored values, and that floor raised to alpha */
+    private PheromoneStore pheromones;
+    private double floor = 0;
+    private double floor_weight = 0;
+
+    /**
+     * Constructs a new sparse choice info over the specified distances and
+     * candidate lists. It holds no pheromone information until refresh() is
+     * called.
+     *
+     * @param dists the distances between the locations
+     * @param cands the candidate lists of the locations
+     * @param alpha the exponential weight to give the pheromone value
+     * @param beta the exponential weight to give the length value
+     */
+    public SparseChoiceInfo ( DistanceProvider dists, CandidateLists cands,
+        double alpha, double beta )
+    {
+        this.n = dists.getSize();
+        this.dists = dists;
+        this.cands = cands;
+        this.k = cands.getNumCandidates();
+        this.alpha = alpha;
+        this.beta = beta;
+        this.heuristic = new double[ n * k ];
+        this.choice = new double[ n * k ];
+
+        /* go through each of the locations */
+        for ( int row = 0; row < n; row++ )
+        {
+            /* go through each of its candidates */
+            for ( int rank = 0; rank < k; rank++ )
+            {
+                this.heuristic[ row * k + rank ] = Math.pow( 1.0
+                    / dists.getDistance( row, cands.getCandidate( row, rank ) ),
+                    beta );
+            }
+        }
+    }
+
+    /**
+     * Recomputes the weight of every candidate path whose pheromone has
+     * changed since the last refresh, and marks the changes of the pheromone
+     * as seen.
+     *
+     * @param pheromones the pheromone along the paths between the locations
+     */
+    @Override
+    public void refresh ( PheromoneStore pheromones )
+    {
+        this.pheromones = pheromones;
+        this.floor = pheromones.getScaledFloor();
+        this.floor_weight = ( alpha == 1 ) ? this.floor
+            : Math.pow( this.floor, alpha );
+
+        /* any path may have changed */
+        if ( pheromones.isAllChanged() )
+        {
+            /* go through each of the locations */
+            for ( int row = 0; row < n; row++ )
+            {
+                /* go through each of its candidates */
+                for ( int rank = 0; rank < k; rank++ )
+                {
+                    this.update( row, rank );
+                }
+            }
+        }
+        else
+        {
+            /* go through each of the changed paths, in both directions;
+             * only the directions ending at a candidate have a weight */
+            for ( int c = 0; c < pheromones.getNumChanged(); c++ )
+            {
+                int i = pheromones.getChangedStart( c );
+                int j = pheromones.getChangedEnd( c );
+
+                int rank = this.cands.getRank( i, j );
+                if ( rank >= 0 )
+                {
+                    this.update( i, rank );
+                }
+                rank = this.cands.getRank( j, i );
+                if ( rank >= 0 )
+                {
+                    this.update( j, rank );
+                }
+            }
+        }
+
+        pheromones.clearChanges();
+    }
+
+    /**
+     * Recomputes the weight of the path from a location to one of its
+     * candidates.
+     *
+     * @param row the index of the location
+     * @param rank the rank of the candidate
+     */
+    private void update ( int row, int rank )
+    {
+        /* the pheromone on this path, up to a common factor; a sparse store
+         * over the same candidates can be read by rank */
+        double tau;
+        if ( this.pheromones instanceof SparsePheromones
+            && ( ( SparsePheromones ) this.pheromones ).getCandidateLists()
+            == this.cands )
+        {
+            tau = ( ( SparsePheromones ) this.pheromones )
+                .getScaledCandidatePheromone( row, rank );
+        }
+        else
+        {
+            tau = this.pheromones.getScaledPheromone( row,
+                this.cands.getCandidate( row, rank ) );
+        }
+
+        /* skip the pow when it would be the identity */
+        this.choice[ row * k + rank ] = this.heuristic[ row * k + rank ]
+            * ( ( alpha == 1 ) ? tau : Math.pow( tau, alpha ) );
+    }
+
+    /**
+     * Returns the weight of the path between the locations at the given
+     * indices, as of the last refresh, up to a factor common to every path.
+     * The weight of a path to a candidate is read from the cache; any other
+     * weight is computed.
+     *
+     * @param i the index of the start location
+     * @param j the index of the end location
+     *
+     * @return the weight of the path between i and j
+     */
+    @Override
+    public double getChoice ( int i, int j )
+    {
+        /* the path ends at a candidate */
+        int rank = this.cands.getRank( i, j );
+        if ( rank >= 0 )
+        {
+            return this.getCachedChoice( i, rank );
+        }
+
+        double tau = this.getTau( i, j );
+
+        return this.getHeuristic( i, j )
+            * ( ( alpha == 1 ) ? tau : Math.pow( tau, alpha ) );
+    }
+
+    /**
+     * Returns the weight of the path from a location to one of its
+     * candidates, as of the last refresh, up to a factor common to every
+     * path.
+     *
+     * @param cands the candidate lists of the locations
+     * @param i the index of the start location
+     * @param rank the rank of the candidate of i to end at
+     *
+     * @return the weight of the path from i to its candidate
+     */
+    @Override
+    public double getCandidateChoice ( CandidateLists cands, int i, int rank )
+    {
+        /* the cache is in the order of its own candidate lists */
+        return ( cands == this.cands ) ? this.getCachedChoice( i, rank )
+            : this.getChoice( i, cands.getCandidate( i, rank ) );
+    }
+
+    /**
+     * Returns the heuristic part eta^beta of the weight of the path between the
+     * locations at the given indices.
+     *
+     * @param i the index of the start location
+     * @param j the index of the end location
+     *
+     * @return the heuristic weight of the path between i and j
+     */
+    @Override
+    public double getHeuristic ( int i, int j )
+    {
+        /* the path ends at a candidate */
+        int rank = this.cands.getRank( i, j );
+        if ( rank >= 0 )
+        {
+            return this.heuristic[ i * k + rank ];
+        }
+
+        return Math.pow( 1.0 / this.dists.getDistance( i, j ), this.beta );
+    }
+
+    /**
+     * Returns the cached weight of the path from a location to one of its
+     * candidates, held up by the floor.
+     *
+     * @param i the index of the location
+     * @param rank the rank of the candidate
+     *
+     * @return the weight of the path from i to its candidate
+     */
+    private double getCachedChoice ( int i, int rank )
+    {
+        return Math.max( this.choice[ i * k + rank ],
+            this.heuristic[ i * k + rank ] * this.floor_weight );
+    }
+
+    /**
+     * Returns the pheromone on the path between the locations at the given
+     * indices, up to the common factor of the last refresh.
+     *
+     * @param i the index of the start location
+     * @param j the index of the end location
+     *
+     * @return the pheromone on the path between i and j, up to a common factor
+     */
+    private double getTau ( int i, int j )
+    {
+        return Math.max( this.pheromones.getScaledPheromone( i, j ),
+            this.floor );
+    }
+}
@@ -0,0 +1,561 @@
+/*
+ * Filename:    SparsePheromones.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the SparsePheromones class. See class header for more
+ * information.
+ */
+import java.io.DataInput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A SparsePheromones is a PheromoneStore for instances too large for a
+ * PheromoneMatrix. Ants using candidate lists almost only walk the paths from
+ * each location to its candidates, so only those paths, and the few other
+ * paths that have received pheromone, carry a value of their own:
+ *
+ * - the paths from each location to its k candidates are kept in a fixed
+ *   row of k values per location, in the order of the candidate lists;
+ * - any other path that receives pheromone is kept in a LongDoubleHashMap;
+ * - every remaining path implicitly carries a common default value, which is
+ *   set by setAll() and evaporates like every other value.
+ *
+ * This takes O(n * k) memory instead of O(n^2). The map is emptied by
+ * setAll(), and once it holds more than OTHERS_PER_LOCATION paths per
+ * location, evaporation drops the paths whose pheromone has decayed to the
+ * default (or floor), or to within PRUNE_RATIO of the mean pheromone on the
+ * candidate paths above it, where it no longer sways the ants. The map so
+ * only holds the paths outside the candidate lists that the ants have walked
+ * recently.
+ *
+ * Evaporation is lazy in the same way as in a PheromoneMatrix: every value
+ * (including the default) is stored divided by a global scale factor, and the
+ * floor is applied when values are read.
+ */
+class SparsePheromones implements PheromoneStore
+{
+    /* the scale factor below which the true values are written back, well
+     * before the stored values could overflow */
+    private static final double MIN_SCALE = 1e-100;
+
+    /* the number of paths per location the map holds before the paths
+     * that have decayed are dropped */
+    private static final int OTHERS_PER_LOCATION = 4;
+
+    /* the pheromone above the default, relative to the mean pheromone on the
+     * candidate paths, at or below which a path is dropped from the map */
+    private static final double PRUNE_RATIO = 1e-6;
+
+    /* the number of changed paths recorded per location before every path is
+     * treated as changed instead */
+    private static final int CHANGES_PER_LOCATION = 8;
+
+    /* the number of locations */
+    private final int n;
+
+    /* the candidate lists whose paths have a value of their own */
+    private final CandidateLists cands;
+
+    /* the number of candidates of each location */
+    private final int k;
+
+    /* the stored value of the path from each location to each of its
+     * candidates; the path from the location at index i to its candidate of
+     * the given rank is at index ( i * k + rank ) */
+    private final double[] cand_values;
+
+    /* the stored values of the other paths that have received pheromone,
+     * keyed by ( ( long ) i << 32 | j ) with i < j */
+    private final LongDoubleHashMap others;
+
+    /* the stored value of every path without a value of its own */
+    private double default_value;
+
+    /* the factor every stored value is multiplied by to give its pheromone */
+    private double scale = 1;
+
+    /* the least pheromone on any path, applied when a value is read */
+    private double floor = 0;
+
+    /* the ends of the paths changed since the last clearChanges(); if
+     * all_changed, every path may have changed and the record is not kept */
+    private final int[] changed_starts;
+    private final int[] changed_ends;
+    private int num_changed = 0;
+    private boolean all_changed = true;
+
+    /**
+     * Constructs a new sparse pheromone store over the locations of the
+     * specified candidate lists, with the specified initial amount of
+     * pheromone on every path.
+     *
+     * @param cands the candidate lists of the locations; the paths to the
+     * candidates are the ones kept in fixed rows
+     * @param init_pheromone the initial amount of pheromone on every path
+     */
+    public SparsePheromones ( CandidateLists cands, double init_pheromone )
+    {
+        this.n = cands.getSize();
+        this.cands = cands;
+        this.k = cands.getNumCandidates();
+        this.cand_values = new double[ n * k ];
+        this.others = new LongDoubleHashMap();
+        this.changed_starts = new int[ CHANGES_PER_LOCATION * n ];
+        this.changed_ends = new int[ CHANGES_PER_LOCATION * n ];
+
+        this.setAll( init_pheromone );
+    }
+
+    /**
+     * Returns the candidate lists whose paths have a value of their own.
+     *
+     * @return the candidate lists of this store
+     */
+    public CandidateLists getCandidateLists ()
+    {
+        return this.cands;
+    }
+
+    /**
+     * Sets the amount of pheromone on every path to the specified value, and
+     * forgets every path outside the candidate lists.
+     *
+     * @param new_pheromone the new amount of pheromone on every path
+     */
+    @Override
+    public void setAll ( double new_pheromone )
+    {
+        Arrays.fill( this.cand_values, new_pheromone );
+        this.others.clear();
+        this.default_value = new_pheromone;
+        this.scale = 1;
+        this.floor = 0;
+        this.all_changed = true;
+    }
+
+    /**
+     * Returns the number of locations in this store.
+     *
+     * @return the number of locations in this store
+     */
+    @Override
+    public int getSize ()
+    {
+        return this.n;
+    }
+
+    /**
+     * Returns the number of paths outside the candidate lists that carry a
+     * value of their own.
+     *
+     * @return the number of paths kept in the map
+     */
+    public int getNumOtherPaths ()
+    {
+        return this.others.size();
+    }
+
+    /**
+     * Returns the amount of pheromone on the path between the locations at the
+     * given indices.
+     *
+     * @param i the index of the first location
+     * @param j the index of the second location
+     *
+     * @return the amount of pheromone on the path between i and j
+     */
+    @Override
+    public double getPheromone ( int i, int j )
+    {
+        return Math.max( this.getScaledPheromone( i, j ) * this.scale,
+            this.floor );
+    }
+
+    /**
+     * Returns the stored value of the path between the locations at the given
+     * indices: its pheromone divided by the current scale factor, ignoring the
+     * floor.
+     *
+     * @param i the index of the first location
+     * @param j the index of the second location
+     *
+     * @return the stored value of the path between i and j
+     */
+    @Override
+    public double getScaledPheromone ( int i, int j )
+    {
+        /* the path is in the candidate list of either end */
+        int rank = this.cands.getRank( i, j );
+        if ( rank >= 0 )
+        {
+            return this.cand_values[ i * k + rank ];
+        }
+        rank = this.cands.getRank( j, i );
+        if ( rank >= 0 )
+        {
+            return this.cand_values[ j * k + rank ];
+        }
+
+        return this.others.get( key( i, j ), this.default_value );
+    }
+
+    /**
+     * Returns the stored value of the path from a location to one of its
+     * candidates, without searching the candidate list.
+     *
+     * @param i the index of the location
+     * @param rank the rank of the candidate
+     *
+     * @return the stored value of the path from i to its candidate
+     */
+    public double getScaledCandidatePheromone ( int i, int rank )
+    {
+        return this.cand_values[ i * k + rank ];
+    }
+
+    /**
+     * Returns the least amount of pheromone on any path, as set by the last
+     * evaporation.
+     *
+     * @return the floor on the pheromone
+     */
+    @Override
+    public double getFloor ()
+    {
+        return this.floor;
+    }
+
+    /**
+     * Returns the floor divided by the current scale factor.
+     *
+     * @return the floor on the stored values
+     */
+    @Override
+    public double getScaledFloor ()
+    {
+        return this.floor / this.scale;
+    }
+
+    /**
+     * Sets the amount of pheromone on the path between the locations at the
+     * given indices, in both directions. A path outside the candidate lists is
+     * added to the map.
+     *
+     * @param i the index of the first location
+     * @param j the index of the second location
+     * @param new_pheromone the new amount of pheromone on the path
+     */
+    @Override
+    public void setPheromone ( int i, int j, double new_pheromone )
+    {
+        /* the new stored value */
+        double value = new_pheromone / this.scale;
+
+        /* the path may be in the candidate lists of both of its ends */
+        int rank_ij = this.cands.getRank( i, j );
+        int rank_ji = this.cands.getRank( j, i );
+        if ( rank_ij >= 0 )
+        {
+            this.cand_values[ i * k + rank_ij ] = value;
+        }
+        if ( rank_ji >= 0 )
+        {
+            this.cand_values[ j * k + rank_ji ] = value;
+        }
+        if ( rank_ij < 0 && rank_ji < 0 )
+        {
+            this.others.put( key( i, j ), value );
+        }
+
+        this.markChanged( i, j );
+    }
+
+    /**
+     * Evaporates the pheromone on every path after one time interval at the
+     * specified rate, without letting the pheromone on any path fall below a
+     * minimum. This takes constant time, unless the minimum is lower than the
+     * last one or the scale factor nears underflow.
+     *
+     * @param evap_rate the proportion of pheromone that evaporates
+     * @param min the minimum amount of pheromone on a path
+     */
+    @Override
+    public void evaporate ( double evap_rate, double min )
+    {
+        /* paths held up by the old floor would fall below it from here on,
+         * so their true values must be written first */
+        if ( min < this.floor )
+        {
+            this.rescale();
+        }
+
+        /* every path decays by the same factor */
+        this.scale *= 1 - evap_rate;
+        this.floor = min;
+
+        /* write the true values back before the stored values grow too
+         * large */
+        if ( this.scale < MIN_SCALE )
+        {
+            this.rescale();
+        }
+
+        /* keep the map from growing with every path ever walked */
+        if ( this.others.size() > OTHERS_PER_LOCATION * this.n )
+        {
+            this.prune();
+        }
+    }
+
+    /**
+     * Returns whether every path may have changed since clearChanges() was
+     * last called, in which case getNumChanged() and the changed paths are
+     * not meaningful.
+     *
+     * @return may every path have changed?
+     */
+    @Override
+    public boolean isAllChanged ()
+    {
+        return this.all_changed;
+    }
+
+    /**
+     * Returns the number of paths recorded as changed since clearChanges()
+     * was last called. A path may be recorded more than once, so this is at
+     * least the number of distinct changed paths, but may be more; this
+     * store records a path each time it changes.
+     *
+     * @return the number of changed paths
+     */
+    @Override
+    public int getNumChanged ()
+    {
+        return this.num_changed;
+    }
+
+    /**
+     * Returns the location at one end of a path recorded as changed since
+     * clearChanges() was last called.
+     *
+     * @param k the index of the changed path, from 0 to getNumChanged() - 1
+     *
+     * @return the index of the location at one end of the path
+     */
+    @Override
+    public int getChangedStart ( int k )
+    {
+        return this.changed_starts[ k ];
+    }
+
+    /**
+     * Returns the location at the other end of a path recorded as changed
+     * since clearChanges() was last called.
+     *
+     * @param k the index of the changed path, from 0 to getNumChanged() - 1
+     *
+     * @return the index of the location at the other end of the path
+     */
+    @Override
+    public int getChangedEnd ( int k )
+    {
+        return this.changed_ends[ k ];
+    }
+
+    /**
+     * Forgets every recorded change.
+     */
+    @Override
+    public void clearChanges ()
+    {
+        this.num_changed = 0;
+        this.all_changed = false;
+    }
+
+    /**
+     * Copies the pheromone on every path, exactly, for readState() to
+     * restore: the number of locations and candidates, the scale factor,
+     * floor and default value, the values of the candidate paths, and the
+     * paths in the map with their values.
+     *
+     * @return the copy of the pheromone
+     */
+    @Override
+    public StateCopy copyState ()
+    {
+        final int size = this.n;
+        final int num_cands = this.k;
+        final double scale = this.scale;
+        final double floor = this.floor;
+        final double default_value = this.default_value;
+        final double[] cand_values = this.cand_values.clone();
+
+        /* go through each of the slots of the map with a path */
+        final long[] paths = new long[ this.others.size() ];
+        final double[] path_values = new double[ paths.length ];
+        int p = 0;
+        for ( int slot = 0; slot < this.others.getCapacity(); slot++ )
+        {
+            if ( this.others.getKeyAt( slot ) >= 0 )
+            {
+                paths[ p ] = this.others.getKeyAt( slot );
+                path_values[ p ] = this.others.getValueAt( slot );
+                p++;
+            }
+        }
+
+        return out -> {
+            out.writeInt( size );
+            out.writeInt( num_cands );
+            out.writeDouble( scale );
+            out.writeDouble( floor );
+            out.writeDouble( default_value );
+            out.writeDoubles( cand_values, 0, cand_values.length );
+
+            out.writeInt( paths.length );
+            for ( int q = 0; q < paths.length; q++ )
+            {
+                out.writeLong( paths[ q ] );
+                out.writeDouble( path_values[ q ] );
+            }
+        };
+    }
+
+    /**
+     * Replaces the pheromone on every path with the pheromone written by
+     * copyState() of a sparse store over the same candidate lists, and
+     * marks every path as changed.
+     *
+     * @param in where to read the pheromone from
+     *
+     * @throws IOException if the pheromone cannot be read, or was written
+     * over different numbers of locations or candidates
+     */
+    @Override
+    public void readState ( DataInput in ) throws IOException
+    {
+        int size = in.readInt();
+        int num_cands = in.readInt();
+        if ( size != this.n || num_cands != this.k )
+        {
+            throw new IOException( "pheromone of " + size + " locations with "
+                + num_cands + " candidates cannot be read into a store of "
+                + this.n + " locations with " + this.k );
+        }
+
+        this.scale = in.readDouble();
+        this.floor = in.readDouble();
+        this.default_value = in.readDouble();
+
+        for ( int i = 0; i < this.cand_values.length; i++ )
+        {
+            this.cand_values[ i ] = in.readDouble();
+        }
+
+        this.others.clear();
+        int num_others = in.readInt();
+        for ( int p = 0; p < num_others; p++ )
+        {
+            long path = in.readLong();
+            this.others.put( path, in.readDouble() );
+        }
+
+        this.all_changed = true;
+    }
+
+    /**
+     * Records that a path has changed.
+     *
+     * @param i the index of the first location
+     * @param j the index of the second location
+     */
+    private void markChanged ( int i, int j )
+    {
+        if ( this.all_changed )
+        {
+            return;
+        }
+
+        /* too many paths have changed to be worth recording one by one */
+        if ( this.num_changed == this.changed_starts.length )
+        {
+            this.all_changed = true;
+            return;
+        }
+
+        this.changed_starts[ this.num_changed ] = i;
+        this.changed_ends[ this.num_changed ] = j;
+        this.num_changed++;
+    }
+
+    /**
+     * Drops the paths of the map whose pheromone is no more than PRUNE_RATIO
+     * of the mean pheromone on the candidate paths above the default, so that
+     * they carry the default again. The weights of the paths outside the
+     * candidate lists are not cached, so no path is marked as changed.
+     */
+    private void prune ()
+    {
+        /* the mean pheromone on the candidate paths */
+        double total = 0;
+        for ( double value : this.cand_values )
+        {
+            total += Math.max( value * this.scale, this.floor );
+        }
+        double mean = total / Math.max( 1, this.cand_values.length );
+
+        /* the pheromone of a path without a value of its own */
+        double base = Math.max( this.default_value * this.scale, this.floor );
+
+        /* the greatest stored value to drop */
+        this.others.removeAtMost( ( base + PRUNE_RATIO * mean ) / this.scale );
+    }
+
+    /**
+     * Writes the true pheromone on every path back, with the floor applied,
+     * and resets the scale factor to 1.
+     */
+    private void rescale ()
+    {
+        for ( int i = 0; i < this.cand_values.length; i++ )
+        {
+            this.cand_values[ i ] = Math.max( this.cand_values[ i ]
+                * this.scale, this.floor );
+        }
+
+        /* go through each of the slots of the map with a path */
+        for ( int slot = 0; slot < this.others.getCapacity(); slot++ )
+        {
+            if ( this.others.getKeyAt( slot ) >= 0 )
+            {
+                this.others.setValueAt( slot, Math.max(
+                    this.others.getValueAt( slot ) * this.scale,
+                    this.floor ) );
+            }
+        }
+
+        this.default_value = Math.max( this.default_value * this.scale,
+            this.floor );
+
+        this.scale = 1;
+        this.floor = 0;
+        this.all_changed = true;
+    }
+
+    /**
+     * Returns the key of the path between the locations at the given indices
+     * in the map.
+     *
+     * @param i the index of the first location
+     * @param j the index of the second location
+     *
+     * @return the key of the path, the same in both directions
+     */
+    private static long key ( int i, int j )
+    {
+        return ( i < j ) ? ( ( long ) i << 32 ) | j : ( ( long ) j << 32 ) | i;
+    }
+}
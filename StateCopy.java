@@ -0,0 +1,28 @@
+/*
+ * Filename:    StateCopy.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the StateCopy interface. See interface header for more
+ * information.
+ */
+import java.io.IOException;
+
+/**
+ * A StateCopy is a copy of the state of a solver, or of a part of it, taken
+ * between iterations for a checkpoint. Taking the copy is all the solver
+ * waits for: the copy is written afterwards, from any thread, while the
+ * solver goes on changing its own state.
+ */
+interface StateCopy
+{
+    /**
+     * Writes the copied state.
+     *
+     * @param out where to write the state
+     *
+     * @throws IOException if the state cannot be written
+     */
+    void write ( ChannelOutput out ) throws IOException;
+}
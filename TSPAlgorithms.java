@@ -10,18 +10,20 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import org.apache.commons.math3.distribution.EnumeratedIntegerDistribution;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * This class is a utility class that contains various methods that can be used
  * to find solutions to the Traveling Salesman Problem (TSP); See method
  * headers for more information.
+ *
+ * Each solver works on a CoordinateSet and returns a Tour through its
+ * locations; the methods taking and returning arrays of Location objects are
+ * adapters over these, which measure distances with the exact Euclidean
+ * metric.
  */
 public final class TSPAlgorithms
 {
-    /* is debug mode on? */
-    public static final boolean DEBUG = false;
-
     /**
      * This method uses the greedy algorithm to find an (often unoptimal) 
      * solution the TSP. That is, it seeks a shortest-lenth Hamiltonian circuit
@@ -41,33 +43,90 @@ public final class TSPAlgorithms
      */
     public static Location[] sol_greedy ( Location[] locs )
     {
-        /* minimum tour length so far */
-        double min_length = Double.MAX_VALUE;
-        
-        /* minimum length tour so far */
-        Location[] min_length_tour = null;
-
-        /* iterate through every location */
-        for ( int locs_i = 0; locs_i < locs.length; locs_i++ )
+        return sol_greedy( locs, null, locs.length, 0 );
+    }
+
+    /**
+     * This method uses the greedy algorithm to find a solution the TSP, as
+     * described in sol_greedy( Location[] ), trying only some of the
+     * locations as starting locations and, if a pool is given, trying them
+     * in parallel in that pool. A tour is abandoned as soon as its partial
+     * length plus the distance back to its starting location reaches the
+     * length of the minimum-length tour found so far, since it can then no
+     * longer be shorter.
+     *
+     * @param locs the locations to use to find a solution
+     * @param pool the pool to try the starting locations in, or null to try
+     * them one after another on the calling thread
+     * @param num_starts the number of starting locations to try; if this is
+     * less than the number of locations, the starting locations are sampled
+     * at random without replacement, and otherwise every location is tried
+     * @param seed the seed used to sample the starting locations
+     *
+     * @return an array representing the minimum-length Hamiltonian tour
+     * through the graph, as determined using the greedy algorithm
+     */
+    public static Location[] sol_greedy ( Location[] locs, ForkJoinPool pool,
+        int num_starts, long seed )
+    {
+        return get_tour_from_inds( locs, sol_greedy(
+            new ArrayCoordinateSet( locs ), pool, num_starts, seed )
+            .getOrder() );
+    }
+
+    /**
+     * This method uses the greedy algorithm to find a solution the TSP, as
+     * described in sol_greedy( Location[], ForkJoinPool, int, long ), through
+     * a set of locations given by their coordinates.
+     *
+     * @param coords the locations to use to find a solution
+     * @param pool the pool to try the starting locations in, or null to try
+     * them one after another on the calling thread
+     * @param num_starts the number of starting locations to try
+     * @param seed the seed used to sample the starting locations
+     *
+     * @return the minimum-length Hamiltonian tour through the graph, as
+     * determined using the greedy algorithm
+     */
+    public static Tour sol_greedy ( CoordinateSet coords, ForkJoinPool pool,
+        int num_starts, long seed )
+    {
+        /* the number of locations */
+        int n = coords.getSize();
+
+        /* there is no tour to find */
+        if ( n == 0 )
         {
-            /* get at greedy tour starting at this location */
-            Location[] this_tour = get_greedy_start( locs, locs_i );
-            /* get the length of this tour */
-            double this_tour_length = get_tour_length( this_tour );
+            return new Tour( coords );
+        }
 
-            /* this tour's length is less than the minimum length so far */
-            if ( this_tour_length < min_length )
-            {
-                /* reset the minimum length */
-                min_length = this_tour_length;
+        /* the indices of the starting locations, in order */
+        int[] starts = new int[ n ];
+        for ( int i = 0; i < starts.length; i++ )
+        {
+            starts[ i ] = i;
+        }
+
+        /* only some of the starting locations are tried */
+        if ( num_starts < n )
+        {
+            /* the generator used to sample the starting locations */
+            FastRandom rand = new FastRandom( seed );
 
-                /* reset the minimum length tour */
-                min_length_tour = this_tour;
+            /* move a random sample of the starts to the front */
+            for ( int i = 0; i < num_starts; i++ )
+            {
+                int j = i + rand.nextInt( starts.length - i );
+                int tmp = starts[ i ];
+                starts[ i ] = starts[ j ];
+                starts[ j ] = tmp;
             }
+            starts = Arrays.copyOf( starts, Math.max( 1, num_starts ) );
         }
 
         /* return the minimum length greedy tour */
-        return min_length_tour;
+        return new Tour( coords,
+            new MultiStartGreedy( coords, starts ).solve( pool ) );
     }
 
     /** 
@@ -89,65 +148,71 @@ public final class TSPAlgorithms
      */
     public static Location[] get_greedy_start( Location[] locs, int start_ind )
     {
-        /* has the location at this index been visited? */
-        boolean[] loc_visited = new boolean[ locs.length ];
+        return get_tour_from_inds( locs, get_greedy_start(
+            new ArrayCoordinateSet( locs ), start_ind ).getOrder() );
+    }
 
-        /* the number of locations visited */
-        int locs_visited = 0;
+    /** 
+     * This method uses the greedy algorithm to find a solution the TSP,
+     * starting at a specified location, as described in get_greedy_start(
+     * Location[], int ), through a set of locations given by their
+     * coordinates.
+     *
+     * @param coords the locations to use to find a solution
+     * @param start_ind the index of the locations at which to start the greedy
+     * algorithm
+     *
+     * @return the greedy tour starting at the location with index start_ind
+     */
+    public static Tour get_greedy_start( CoordinateSet coords, int start_ind )
+    {
+        return get_greedy_start( coords, start_ind, new KDTree( coords ) );
+    }
 
+    /** 
+     * This method uses the greedy algorithm to find a solution the TSP,
+     * starting at a specified location, as described in get_greedy_start(
+     * Location[], int ). The nearest unvisited location at each step is found
+     * with a given spatial index, so the whole tour takes roughly O(n log n)
+     * time rather than O(n^2).
+     *
+     * @param coords the locations to use to find a solution
+     * @param start_ind the index of the locations at which to start the greedy
+     * algorithm
+     * @param tree a spatial index of coords containing every location; each
+     * location is removed from it as it is visited, so it is empty when this
+     * method returns
+     *
+     * @return the greedy tour starting at the location with index start_ind
+     */
+    public static Tour get_greedy_start( CoordinateSet coords, int start_ind,
+        KDTree tree )
+    {
         /* initialize the current location and the greedy tour with the
          * location at start_ind */
-        Location current_loc = locs[ start_ind ];
-        Location[] greedy_tour = new Location[ locs.length ];
-        int greedy_tour_ind = 0;
-        greedy_tour[ greedy_tour_ind ] = locs[ start_ind ];
-        greedy_tour_ind++;
+        int current_loc_ind = start_ind;
+        int[] greedy_tour = new int[ coords.getSize() ];
+        greedy_tour[ 0 ] = start_ind;
 
         /* remove this location from the remaining locations */
-        loc_visited[ start_ind ] = true;
-        locs_visited++;
+        tree.remove( start_ind );
 
         /* continue until there are no remaining locations */
-        while ( locs_visited != locs.length )
+        for ( int greedy_tour_ind = 1; greedy_tour_ind < greedy_tour.length;
+            greedy_tour_ind++ )
         {
-            /* minimum distance to a location so far */
-            double min_dist = Double.MAX_VALUE;
-            Location min_dist_loc = null;
-            int min_dist_loc_ind = -1;
+            /* the nearest remaining location is the new current location */
+            current_loc_ind = tree.nearest( current_loc_ind );
 
-            /* go through loc_visited */
-            for ( int i = 0; i < loc_visited.length; i++ )
-            {
-                /* this location has not been visited */
-                if ( !loc_visited[ i ] )
-                {
-                    /* get the distance to this location */
-                    double this_dist = get_distance_between( current_loc, 
-                        locs[ i ] );
-
-                    /* this distance is less than the minimum distance so 
-                     * far */
-                    if ( this_dist < min_dist )
-                    {
-                        /* this is the new minimum distance location */
-                        min_dist = this_dist;
-                        min_dist_loc = locs[ i ];
-                        min_dist_loc_ind = i;
-                    }
-                }
-            }
             /* add this location to the greedy tour */
-            greedy_tour[ greedy_tour_ind ] = min_dist_loc;
-            greedy_tour_ind++;
+            greedy_tour[ greedy_tour_ind ] = current_loc_ind;
+
             /* remove this location from the remaining locations */
-            loc_visited[ min_dist_loc_ind ] = true;
-            locs_visited++;
-            /* this is the new current loc */
-            current_loc = min_dist_loc;
+            tree.remove( current_loc_ind );
         }
 
         /* return the greedy tour */
-        return greedy_tour;
+        return new Tour( coords, greedy_tour );
     }
 
     /**
@@ -175,11 +240,6 @@ public final class TSPAlgorithms
         return -1;
     }
 
-    /* the number of times the simple ACO algorithm has to produce the same
-     * tour for a given ant in a row to declare that the algorithm has
-     * stagnated */
-    private static final int STAGNATION_THRESHHOLD = 10;
-
     /**
      * This method uses a basic version of the Ant Colony Optimization (also
      * known as Ant System, "AS") algorithm to find a solution the TSP. That
@@ -193,7 +253,8 @@ public final class TSPAlgorithms
      * after which another ant is sent out to repeat the process. This is
      * continued until the ants reach a stagnating state - that is, when
      * subsequent ants all construct the same circuit a specified number of
-     * times.
+     * times - or a maximum number of iterations is reached. A different
+     * termination policy can be given through ACOOptions.
      *
      * @param locs the locations to use to find a solution
      *
@@ -202,324 +263,62 @@ public final class TSPAlgorithms
      */
     public static Location[] sol_ACO_AS ( Location[] locs )
     {
-        /* the number of locations */
-        int n = locs.length;
-
-        /* the length of a tour constructed by the nearest neighbor solution */
-        double C_nn = get_tour_length( sol_greedy( locs ) );
-
-        /* the minimum tour distance so far */
-        double min_tour_dist = C_nn;
-
-        /* the number of ants to send out in one iteration */
-        int m = n;
-
-        /* get all of the paths involving locs */
-        Path[][] paths = get_all_paths( locs );
-
-        /* go through each of the rows in paths */
-        for ( int row = 0; row < paths.length; row++ )
-        {
-            /* go through each of the columns in paths */
-            for ( int col = 0; col < paths.length; col++ )
-            {
-                /* the row is less than to the column, so this will not
-                 * be entered twice for the same path */
-                if ( row < col )
-                {
-                    /* initialize the pheromone along this path */
-                    paths[ row ][ col ].setPheromone( 
-                        m / C_nn );
-                }
-            }
-        }
-
-        /* has this ant visited this location already? */
-        boolean[][] ant_visited_loc = new boolean[ m ][ n ];
-
-        /* the indices of the locations in the tour this ant has constructed */
-        int[][] ant_tour_inds = new int[ m ][ n ];
-
-        /* solution tour inds */
-        /* initialize first ant's tour to pass compilation */
-        int[] sol_tour_inds = new int[ locs.length ];
-
-        /* the weight to give pheromone */
-        double alpha = 1;
-        /* the weight to give length */
-        double beta = 4;
-
-        /* TODO remove TODO */
-        int num_iterations = 1000;
-
-        /* has a stagnating state been reached? */
-        boolean stagnated = false;
-
-        /* to store the indices of the end locations of each path */
-        int[] locs_inds = new int[ locs.length ];
-
-        /* set locs_inds */
-        for ( int i = 0; i < locs_inds.length; i++ )
-        {
-            locs_inds[ i ] = i;
-        }
-
-        /* to store the probabilities of each path to other
-         * locations from the given location */
-        double[] probs = new double[ locs.length ];
-
-        /* continue sending ants until stagnating state is reached */
-        while ( !stagnated )
-        {
-            /* reset ant arrays */
-
-            /* reset - has this ant visited this location already? */
-            for ( int i = 0; i < ant_visited_loc.length; i++ )
-            {
-                for ( int j = 0; j < ant_visited_loc[ i ].length; j++ )
-                {
-                    ant_visited_loc[ i ][ j ] = false;
-                }
-            }
-
-            /* reset - the indices of the locations in the tour this ant has
-             * construced */
-            for ( int i = 0; i < ant_tour_inds.length; i++ )
-            {
-                for ( int j = 0; j < ant_tour_inds[ i ].length; j++ )
-                {
-                    ant_tour_inds[ i ][ j ] = -1;
-                }
-            }
-
-            /* go through each of the ants in an iteration */
-            for ( int ant = 0; ant < m; ant++ )
-            {
-                /* the index of the tour the ant is currently on */
-                int tour_ind = 0;
-
-                /* the index of the starting location of this ant */ 
-                int start_loc_ind = ( int ) ( Math.random() * locs.length );
-
-                /* the current location of the ant */
-                int curr_loc_ind = start_loc_ind;
-
-                /* add the start location to the tour */
-                ant_tour_inds[ ant ][ tour_ind ] = start_loc_ind;
-                /* go to the next index */
-                tour_ind++;
-
-                /* the start location has been visited */
-                ant_visited_loc[ ant ][ start_loc_ind ] = true;
-
-                /* the number of unvisited paths */
-                int num_unvisited = n - 1;
-
-                /* continue until all locations have been visited */
-                while( num_unvisited > 0 )
-                {
-                    /* the total value of the remaining path weights */
-                    double total_weight = 0;
-
-                    /* the number of NaNs found */
-                    int num_NaNs = 0;
-     
-                    /* go through each of the locations */
-                    for ( int locs_i = 0; locs_i < locs.length; locs_i++ )
-                    {
-                        /* the ant has not already visited this location */
-                        if ( !ant_visited_loc[ ant ][ locs_i ] )
-                        {
-                            /* add the weight of this path to the total */
-                            total_weight
-                                += paths[ curr_loc_ind ][ locs_i ].getWeight( 
-                                alpha, beta );
-                        }
-                    }
-
-                    /* go through each of the locations */
-                    for ( int locs_i = 0; locs_i < locs.length; locs_i++ )
-                    {
-                        /* the ant has not already visited this location */
-                        if ( !ant_visited_loc[ ant ][ locs_i ] )
-                        {
-                            /* set the probability of the ant choosing this
-                             * path */
-                            probs[ locs_i ] =
-                                paths[ curr_loc_ind ][ locs_i ].getWeight( 
-                                alpha, beta ) / total_weight;
-
-                            /* this probability is very, very small */
-                            if ( Double.isNaN( probs[ locs_i ] ) )
-                            {
-                                /* there is one more NaN */
-                                num_NaNs++;
-                            }
-                        }
-                        /* the ant has already visited this location */
-                        else
-                        {
-                            /* set the probability of the ant choosing this
-                             * path to 0, because the ant has already been
-                             * here */
-                            probs[ locs_i ] = 0;
-                        }
-                    }
-
-                    /* the weight is so small that it is essentially 0 */
-                    if ( total_weight == 0.0 )
-                    {
-                        /* go through each of the locations */
-                        for ( int locs_i = 0; locs_i < locs.length; locs_i++ )
-                        {
-                            /* the ant has not already visited this location */
-                            if ( !ant_visited_loc[ ant ][ locs_i ] )
-                            {
-                                /* set the probability of the ant choosing this
-                                 * path to the same for every possible end
-                                 * location */
-                                probs[ locs_i ] = 1.0 / ( double ) num_NaNs;
-                            }
-                        }
-                    }
-
-                    EnumeratedIntegerDistribution path_dist = null;
-     
-                    /* this may not work */
-                    try
-                    {
-                        /* create a new enumerated random distribution using
-                         * the paths and the path probabilites to determine the
-                         * path the ant takes next */
-                        path_dist = 
-                            new EnumeratedIntegerDistribution( 
-                            locs_inds, probs );
-                    }
-                    catch ( Exception e )
-                    {
-                        e.printStackTrace();
-                        System.out.println( Arrays.toString( probs ) );
-                    }
-
-                
-                    /* choose a location to move to from the distribution */
-                    int chosen_loc_ind = path_dist.sample();
-
-                    /* the current location of the ant */
-                    curr_loc_ind = chosen_loc_ind;
-
-                    /* add the chosen location to the tour */
-                    ant_tour_inds[ ant ][ tour_ind ] = curr_loc_ind;
-
-                    /* go to the next index in the tour */
-                    tour_ind++;
-
-                    /* the chosedn location has been visited */
-                    ant_visited_loc[ ant ][ curr_loc_ind ] = true;
-
-                    /* one more location has been visited */
-                    num_unvisited--;
-                }
-            }
-
-            /* go through each of the rows in paths */
-            for ( int row = 0; row < paths.length; row++ )
-            {
-                /* go through each of the columns in paths that are greater
-                 * than the row */
-                for ( int col = row + 1; col < paths[ row ].length; col++ )
-                {
-                    /* evaporate the pheromone along this path */
-                    paths[ row ][ col ].evaporatePheromone();
-                }
-            }
-
-            /* go through all ants  */
-            for ( int ant = 0; ant < m; ant++ )
-            {
-                /* the length of this ant's tour */
-                double this_ant_tour_length = get_tour_length( 
-                    get_tour_from_inds( locs, ant_tour_inds[ ant ] ) );
-
-                /* go through all paths in this ant's tour */
-                for ( Path path : 
-                    get_all_paths_in_tour( paths, ant_tour_inds[ ant ] ) )
-                {
-                    /* add pheromone to this path */
-                    path.addPheromone( 1 / this_ant_tour_length );
-                }
-
-                /* this distance is less than the minimum so far */
-                if ( this_ant_tour_length < min_tour_dist )
-                {
-                    /* reset the minimum and the solution */
-                    min_tour_dist = this_ant_tour_length;
-                    sol_tour_inds = Arrays.copyOf( 
-                        ant_tour_inds[ ant ], ant_tour_inds.length );
-                }
-            }
-
-            /* TODO replace with stagnation check */
-            if ( num_iterations <= 0 )
-            {
-                stagnated = true;
-            }
-
-            if ( DEBUG && stagnated )
-            {
-                System.out.println( "Ant Tours Constructed:" );
-                for ( int i = 0; i < m; i++ )
-                {
-                    System.out.print( "Ant " + i + ": " );
-                    int j = 0;
-                    for ( j = 0; j < ant_tour_inds[ i ].length - 1; j++ )
-                    {
-                        System.out.print( ant_tour_inds[ i ][ j ] + ", " );
-                    }
-                    System.out.print( ant_tour_inds[ i ][ j ] );
-                    System.out.print( " (" + get_tour_length( 
-                        get_tour_from_inds( locs, ant_tour_inds[ i ] ) ) + ")" );
-                    System.out.println();
-                }
-
-                System.out.println( "Pheromone Values (x1000):" );
+        return sol_ACO_AS( locs, new ACOOptions() );
+    }
 
-                System.out.print( "  " );
-                /* go through each of the columns in paths */
-                for ( int col = 0; col < paths[ 0 ].length; col++ )
-                {
-                    System.out.print( col + "    " );
-                }
-                System.out.println();
-                /* go through each of the rows in paths */
-                for ( int row = 0; row < paths.length; row++ )
-                {
-                    int col = 0;
-                    System.out.print( row + " " );
-                    /* go through each of the columns in paths */
-                    for ( col = 0; col < paths[ row ].length; col++ )
-                    {
-                        /* there is a path defined here */
-                        if ( row != col )
-                        {
-                            System.out.printf( "%.2f ", 
-                                ( paths[ row ][ col ].getPheromone() * 1000 ) );
-                        }
-                        else 
-                        {
-                            System.out.print( "0.00 " );
-                        }
-                    }
-                    System.out.println();
-                }
-            }
+    /**
+     * This method uses a basic version of the Ant Colony Optimization (Ant
+     * System, "AS") algorithm to find a solution the TSP, as described in
+     * sol_ACO_AS( Location[] ), with the specified options. In particular, if
+     * the options give a pool, the ants of each iteration construct their
+     * tours in parallel in that pool.
+     *
+     * @param locs the locations to use to find a solution
+     * @param options the options of this run
+     *
+     * @return an array representing the minimum-length Hamiltonian tour
+     * through the graph, as determined using the simple ACO algorithm
+     */
+    public static Location[] sol_ACO_AS ( Location[] locs, ACOOptions options )
+    {
+        return get_tour_from_inds( locs,
+            sol_ACO_AS( new ArrayCoordinateSet( locs ), options ).getOrder() );
+    }
 
-            num_iterations--;
-            /**/
-        }
+    /**
+     * This method uses the Ant System to find a solution the TSP, as
+     * described in sol_ACO_AS( Location[] ), through a set of locations given
+     * by their coordinates, with the specified options.
+     *
+     * @param coords the locations to use to find a solution
+     * @param options the options of this run
+     *
+     * @return the minimum-length Hamiltonian tour through the graph, as
+     * determined using the simple ACO algorithm
+     */
+    public static Tour sol_ACO_AS ( CoordinateSet coords, ACOOptions options )
+    {
+        return new AntSystem( coords, options ).solve();
+    }
 
-        /* return the ant's tour with minimum distance */
-        return get_tour_from_inds( locs, sol_tour_inds );
+    /**
+     * This method starts the Ant System in the background on a set of
+     * locations, as in sol_ACO_AS( CoordinateSet, ACOOptions ), and returns a
+     * handle through which the shortest tour so far can be read at any moment
+     * and the run can be cancelled; see SolveHandle for more information.
+     *
+     * @param coords the locations to use to find a solution
+     * @param options the options of this run
+     * @param deadline_millis the time after which the handle gives the
+     * shortest tour found so far, in milliseconds, or 0 for no deadline
+     *
+     * @return the handle of the run
+     */
+    public static SolveHandle sol_ACO_AS_async ( CoordinateSet coords,
+        ACOOptions options, long deadline_millis )
+    {
+        return SolveHandle.start( coords,
+            () -> new AntSystem( coords, options ), deadline_millis, null );
     }
 
     /**
@@ -528,18 +327,115 @@ public final class TSPAlgorithms
      * differs from the basic implementation in that the amount of pheromone on
      * an edge is limited by minimum and maximum values, and the initial amount
      * of pheromone on each path is determined by the length of the solution as
-     * determined by the greedy algorithm.
+     * determined by the greedy algorithm. Only one ant lays down pheromone
+     * after each iteration, and the pheromone is reset when the ants stop
+     * finding shorter tours. See MaxMinAntSystem for more information.
      *
      * @param locs the locations to use to find a solution
      *
      * @return an array representing the minimum-length Hamiltonian tour
-     * through the graph, as determined using the simple ACO algorithm
+     * through the graph, as determined using the min-max ACO algorithm
      */
     public static Location[] sol_ACO_MMAS ( Location[] locs )
     {
-        /* TODO */
-        return null;
-        /**/
+        return sol_ACO_MMAS( locs, new ACOOptions() );
+    }
+
+    /**
+     * This method uses the min-max version of the Ant Colony Optimization
+     * algorithm to find a solution the TSP, as described in sol_ACO_MMAS(
+     * Location[] ), with the specified options.
+     *
+     * @param locs the locations to use to find a solution
+     * @param options the options of this run
+     *
+     * @return an array representing the minimum-length Hamiltonian tour
+     * through the graph, as determined using the min-max ACO algorithm
+     */
+    public static Location[] sol_ACO_MMAS ( Location[] locs, 
+        ACOOptions options )
+    {
+        return get_tour_from_inds( locs,
+            sol_ACO_MMAS( new ArrayCoordinateSet( locs ), options )
+            .getOrder() );
+    }
+
+    /**
+     * This method uses the MAX-MIN Ant System to find a solution the TSP, as
+     * described in sol_ACO_MMAS( Location[] ), through a set of locations
+     * given by their coordinates, with the specified options.
+     *
+     * @param coords the locations to use to find a solution
+     * @param options the options of this run
+     *
+     * @return the minimum-length Hamiltonian tour through the graph, as
+     * determined using the min-max ACO algorithm
+     */
+    public static Tour sol_ACO_MMAS ( CoordinateSet coords,
+        ACOOptions options )
+    {
+        return new MaxMinAntSystem( coords, options ).solve();
+    }
+
+    /**
+     * This method starts the MAX-MIN Ant System in the background on a set of
+     * locations, as in sol_ACO_MMAS( CoordinateSet, ACOOptions ), and returns
+     * a handle through which the shortest tour so far can be read at any
+     * moment and the run can be cancelled; see SolveHandle for more
+     * information.
+     *
+     * @param coords the locations to use to find a solution
+     * @param options the options of this run
+     * @param deadline_millis the time after which the handle gives the
+     * shortest tour found so far, in milliseconds, or 0 for no deadline
+     *
+     * @return the handle of the run
+     */
+    public static SolveHandle sol_ACO_MMAS_async ( CoordinateSet coords,
+        ACOOptions options, long deadline_millis )
+    {
+        return SolveHandle.start( coords,
+            () -> new MaxMinAntSystem( coords, options ), deadline_millis,
+            null );
+    }
+
+    /* the number of candidates of each location used by improve_tour */
+    private static final int LOCAL_SEARCH_NUM_CANDIDATES = 10;
+
+    /**
+     * Improves a given tour with 2-opt and Or-opt moves until neither can
+     * shorten it any further; see LocalSearch for more information.
+     *
+     * @param tour the tour to improve
+     *
+     * @return an array representing the improved tour, which is never longer
+     * than the given tour
+     */
+    public static Location[] improve_tour ( Location[] tour )
+    {
+        /* the locations, and the tour through them as indices into itself */
+        CoordinateSet coords = new ArrayCoordinateSet( tour );
+        Tour improved = new Tour( coords );
+
+        improve_tour( coords, improved );
+
+        return get_tour_from_inds( tour, improved.getOrder() );
+    }
+
+    /**
+     * Improves a given tour through a set of locations given by their
+     * coordinates, in place, as described in improve_tour( Location[] ).
+     *
+     * @param coords the locations
+     * @param tour the tour to improve
+     *
+     * @return the amount by which the tour was shortened
+     */
+    public static double improve_tour ( CoordinateSet coords, Tour tour )
+    {
+        /* the distances between the locations are computed on demand */
+        return new LocalSearch( coords, new CandidateLists( coords,
+            LOCAL_SEARCH_NUM_CANDIDATES ) ).improve( tour );
     }
 
     /**
@@ -556,8 +452,9 @@ public final class TSPAlgorithms
         double x_dis = loc1.getX() - loc2.getX();
         double y_dis = loc1.getY() - loc2.getY();
 
-        /* return the distance between loc1 and loc2 */
-        return Math.sqrt( Math.pow( x_dis, 2 ) + Math.pow( y_dis, 2 ) );
+        /* return the distance between loc1 and loc2; Math.pow is far slower
+         * than a multiplication for squaring */
+        return Math.sqrt( x_dis * x_dis + y_dis * y_dis );
     }
 
     /**
@@ -654,7 +551,10 @@ public final class TSPAlgorithms
 
     /**
      * Returns a 2D array of paths that represent the set of all paths between
-     * all of the locations in a given set of locations.
+     * all of the locations in a given set of locations. The ACO solvers keep
+     * their distances and pheromone in a DistanceProvider and a
+     * PheromoneStore instead; this is only a view for callers that need Path
+     * objects.
      *
      * @param locs the locs to use to construct the paths
      */
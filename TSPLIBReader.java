@@ -0,0 +1,454 @@
+/*
+ * Filename:    TSPLIBReader.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the TSPLIBReader class. See class header for more
+ * information.
+ */
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A TSPLIBReader loads symmetric TSP instances from files in the TSPLIB
+ * format, with their locations given in a NODE_COORD_SECTION and their edge
+ * weight type one of EUC_2D, CEIL_2D, ATT or GEO.
+ *
+ * The file is streamed through a fixed-size buffer, and the coordinates are
+ * parsed straight from its bytes into the arrays of the instance, so that
+ * loading allocates nothing per location beyond the coordinates themselves.
+ * Only the few lines of the header are turned into Strings.
+ */
+final class TSPLIBReader
+{
+    /* the number of bytes read from the file at a time */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /* the most significant digits of a number that are parsed exactly; a
+     * long holds any number of this many digits */
+    private static final int MAX_MANTISSA_DIGITS = 18;
+
+    /* the largest mantissa that a double holds exactly */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    /* the powers of ten that a double holds exactly */
+    private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4,
+        1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+        1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+    /* the file being read */
+    private final FileChannel channel;
+
+    /* the buffer the file is read into, and the array behind it */
+    private final ByteBuffer buffer;
+    private final byte[] bytes;
+
+    /* the position of the next unread byte in the buffer, and the number of
+     * bytes in it */
+    private int pos = 0;
+    private int limit = 0;
+
+    /* the number of the line being read, for error messages */
+    private int line = 1;
+
+    /* the significant digits of the number being read past the first
+     * MAX_MANTISSA_DIGITS, which are only needed to round it exactly */
+    private final StringBuilder dropped = new StringBuilder();
+
+    /**
+     * Constructs a new reader of the specified file.
+     *
+     * @param channel the file to read, positioned at its start
+     */
+    private TSPLIBReader ( FileChannel channel )
+    {
+        this.channel = channel;
+        this.bytes = new byte[ BUFFER_SIZE ];
+        this.buffer = ByteBuffer.wrap( this.bytes );
+    }
+
+    /**
+     * Loads the instance in a given TSPLIB file.
+     *
+     * @param filename the name of the file
+     *
+     * @return the locations of the instance, with the metric of its edge
+     * weight type
+     *
+     * @throws IOException if the file cannot be read, is malformed, or holds
+     * a kind of instance that is not supported
+     */
+    public static ArrayCoordinateSet read ( String filename )
+        throws IOException
+    {
+        try ( FileChannel channel = FileChannel.open( Paths.get( filename ),
+            StandardOpenOption.READ ) )
+        {
+            return new TSPLIBReader( channel ).readInstance();
+        }
+    }
+
+    /**
+     * Reads the header of the file, then its locations.
+     *
+     * @return the locations of the instance
+     *
+     * @throws IOException if the file cannot be read or is malformed
+     */
+    private ArrayCoordinateSet readInstance () throws IOException
+    {
+        /* the number of locations and their metric, from the header */
+        int n = -1;
+        Metric metric = null;
+
+        /* go through each line of the header, until the locations */
+        boolean in_header = true;
+        while ( in_header )
+        {
+            String header_line = this.readLine();
+            if ( header_line == null )
+            {
+                throw this.error( "no NODE_COORD_SECTION" );
+            }
+
+            /* each line is a keyword, optionally followed by ':' and a
+             * value */
+            int colon = header_line.indexOf( ':' );
+            String keyword = ( ( colon >= 0 )
+                ? header_line.substring( 0, colon ) : header_line ).trim();
+            String value = ( colon >= 0 )
+                ? header_line.substring( colon + 1 ).trim() : "";
+
+            switch ( keyword )
+            {
+                case "":
+                    break;
+                case "TYPE":
+                    if ( !value.equals( "TSP" ) )
+                    {
+                        throw this.error( "unsupported TYPE: " + value );
+                    }
+                    break;
+                case "DIMENSION":
+                    try
+                    {
+                        n = Integer.parseInt( value );
+                    }
+                    catch ( NumberFormatException e )
+                    {
+                        throw this.error( "bad DIMENSION: " + value );
+                    }
+                    break;
+                case "EDGE_WEIGHT_TYPE":
+                    metric = this.parseMetric( value );
+                    break;
+                case "NODE_COORD_TYPE":
+                    if ( !value.equals( "TWOD_COORDS" ) )
+                    {
+                        throw this.error( "unsupported NODE_COORD_TYPE: "
+                            + value );
+                    }
+                    break;
+                case "NODE_COORD_SECTION":
+                    in_header = false;
+                    break;
+                default:
+                    /* any other section needs data this reader cannot use;
+                     * other keywords, such as NAME and COMMENT, are
+                     * ignored */
+                    if ( keyword.endsWith( "_SECTION" )
+                        || keyword.equals( "EOF" ) )
+                    {
+                        throw this.error( "unsupported section: " + keyword );
+                    }
+            }
+        }
+
+        if ( n < 0 )
+        {
+            throw this.error( "no DIMENSION before NODE_COORD_SECTION" );
+        }
+        if ( metric == null )
+        {
+            throw this.error( "no EDGE_WEIGHT_TYPE before "
+                + "NODE_COORD_SECTION" );
+        }
+
+        /* the coordinates of each location, and whether each has been read */
+        double[] xs = new double[ n ];
+        double[] ys = new double[ n ];
+        boolean[] seen = new boolean[ n ];
+
+        /* each location is its number (from 1) followed by its coordinates */
+        for ( int k = 0; k < n; k++ )
+        {
+            double id = this.readNumber();
+            int i = ( int ) id - 1;
+            if ( i != id - 1 || i < 0 || i >= n || seen[ i ] )
+            {
+                throw this.error( "bad or repeated node number: " + id );
+            }
+            seen[ i ] = true;
+
+            xs[ i ] = this.readNumber();
+            ys[ i ] = this.readNumber();
+        }
+
+        return new ArrayCoordinateSet( xs, ys, metric );
+    }
+
+    /**
+     * Returns the metric of an edge weight type.
+     *
+     * @param type the edge weight type
+     *
+     * @return the metric of the type
+     *
+     * @throws IOException if the type is not supported
+     */
+    private Metric parseMetric ( String type ) throws IOException
+    {
+        switch ( type )
+        {
+            case "EUC_2D":
+                return Metric.EUC_2D;
+            case "CEIL_2D":
+                return Metric.CEIL_2D;
+            case "ATT":
+                return Metric.ATT;
+            case "GEO":
+                return Metric.GEO;
+            default:
+                throw this.error( "unsupported EDGE_WEIGHT_TYPE: " + type );
+        }
+    }
+
+    /**
+     * Reads the rest of the current line.
+     *
+     * @return the rest of the line, without its line break, or null if the
+     * file has ended
+     *
+     * @throws IOException if the file cannot be read
+     */
+    private String readLine () throws IOException
+    {
+        if ( this.peek() < 0 )
+        {
+            return null;
+        }
+
+        StringBuilder sb = new StringBuilder();
+        for ( int c = this.peek(); c >= 0 && c != '\n'; c = this.peek() )
+        {
+            if ( c != '\r' )
+            {
+                sb.append( ( char ) c );
+            }
+            this.pos++;
+        }
+
+        /* step over the line break */
+        if ( this.peek() == '\n' )
+        {
+            this.pos++;
+            this.line++;
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Reads the next number, skipping any whitespace before it.
+     *
+     * @return the number
+     *
+     * @throws IOException if the file cannot be read or the next word is not
+     * a number
+     */
+    private double readNumber () throws IOException
+    {
+        /* skip whitespace */
+        int c = this.peek();
+        while ( c == ' ' || c == '\t' || c == '\r' || c == '\n' )
+        {
+            if ( c == '\n' )
+            {
+                this.line++;
+            }
+            this.pos++;
+            c = this.peek();
+        }
+
+        /* the sign */
+        boolean negative = ( c == '-' );
+        if ( c == '-' || c == '+' )
+        {
+            this.pos++;
+            c = this.peek();
+        }
+
+        /* the number is read as mantissa * 10^exp; digits past the first
+         * MAX_MANTISSA_DIGITS significant ones only scale it, and are kept
+         * aside in case they decide its rounding */
+        long mantissa = 0;
+        int num_digits = 0;
+        int exp = 0;
+        boolean any_digits = false;
+        this.dropped.setLength( 0 );
+
+        /* the integer part */
+        while ( c >= '0' && c <= '9' )
+        {
+            if ( num_digits < MAX_MANTISSA_DIGITS )
+            {
+                mantissa = mantissa * 10 + ( c - '0' );
+                num_digits += ( mantissa != 0 ) ? 1 : 0;
+            }
+            else
+            {
+                this.dropped.append( ( char ) c );
+                exp++;
+            }
+            any_digits = true;
+            this.pos++;
+            c = this.peek();
+        }
+
+        /* the fractional part */
+        if ( c == '.' )
+        {
+            this.pos++;
+            c = this.peek();
+            while ( c >= '0' && c <= '9' )
+            {
+                if ( num_digits < MAX_MANTISSA_DIGITS )
+                {
+                    mantissa = mantissa * 10 + ( c - '0' );
+                    num_digits += ( mantissa != 0 ) ? 1 : 0;
+                    exp--;
+                }
+                else
+                {
+                    this.dropped.append( ( char ) c );
+                }
+                any_digits = true;
+                this.pos++;
+                c = this.peek();
+            }
+        }
+
+        if ( !any_digits )
+        {
+            throw this.error( "expected a number" );
+        }
+
+        /* the exponent */
+        if ( c == 'e' || c == 'E' )
+        {
+            this.pos++;
+            c = this.peek();
+
+            boolean exp_negative = ( c == '-' );
+            if ( c == '-' || c == '+' )
+            {
+                this.pos++;
+                c = this.peek();
+            }
+
+            int exp_value = 0;
+            boolean any_exp_digits = false;
+            while ( c >= '0' && c <= '9' )
+            {
+                /* an exponent this large overflows or underflows anyway */
+                if ( exp_value < 100000 )
+                {
+                    exp_value = exp_value * 10 + ( c - '0' );
+                }
+                any_exp_digits = true;
+                this.pos++;
+                c = this.peek();
+            }
+
+            if ( !any_exp_digits )
+            {
+                throw this.error( "expected an exponent" );
+            }
+            exp += exp_negative ? -exp_value : exp_value;
+        }
+
+        /* the number must end at whitespace or at the end of the file */
+        if ( c >= 0 && c != ' ' && c != '\t' && c != '\r' && c != '\n' )
+        {
+            throw this.error( "unexpected character '" + ( char ) c
+                + "' in a number" );
+        }
+
+        double value;
+
+        /* both the mantissa and the power of ten are exact as doubles, and
+         * no digit was dropped, so a single multiplication or division rounds
+         * correctly */
+        if ( mantissa < MAX_EXACT_MANTISSA && exp >= -22 && exp <= 22
+            && this.dropped.length() == 0 )
+        {
+            value = ( exp >= 0 ) ? mantissa * POWERS_OF_TEN[ exp ]
+                : mantissa / POWERS_OF_TEN[ -exp ];
+        }
+        /* otherwise leave the rounding of every digit to the library; this
+         * is rare */
+        else
+        {
+            value = Double.parseDouble( mantissa + this.dropped.toString()
+                + "E" + ( exp - this.dropped.length() ) );
+        }
+
+        return negative ? -value : value;
+    }
+
+    /**
+     * Returns the next byte of the file without reading past it, refilling
+     * the buffer if it is empty.
+     *
+     * @return the next byte, or -1 if the file has ended
+     *
+     * @throws IOException if the file cannot be read
+     */
+    private int peek () throws IOException
+    {
+        if ( this.pos == this.limit )
+        {
+            this.buffer.clear();
+
+            /* a file channel reads at least one byte unless it has ended */
+            int read = this.channel.read( this.buffer );
+
+            this.pos = 0;
+            this.limit = Math.max( 0, read );
+
+            if ( this.limit == 0 )
+            {
+                return -1;
+            }
+        }
+
+        return this.bytes[ this.pos ] & 0xff;
+    }
+
+    /**
+     * Returns an exception describing a problem with the file at the current
+     * line.
+     *
+     * @param message the problem
+     *
+     * @return the exception
+     */
+    private IOException error ( String message )
+    {
+        return new IOException( "TSPLIB line " + this.line + ": " + message );
+    }
+}
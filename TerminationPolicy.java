@@ -0,0 +1,188 @@
+/*
+ * Filename:    TerminationPolicy.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the TerminationPolicy interface. See interface header for
+ * more information.
+ */
+
+/**
+ * A TerminationPolicy decides when an Ant Colony Optimization solver stops. It
+ * is asked once after every iteration, and the solver stops as soon as it
+ * answers true. The static methods of this interface create the available
+ * policies, which can be combined with any().
+ *
+ * A policy may keep state across the iterations of a run; start() is called at
+ * the beginning of every run to reset it. A policy that keeps state must not
+ * be used by two runs at the same time.
+ */
+interface TerminationPolicy
+{
+    /**
+     * Resets this policy at the beginning of a run.
+     *
+     * @param solver the solver that is starting
+     */
+    default void start ( ACOSolver solver )
+    {
+    }
+
+    /**
+     * Returns whether the solver should stop after the iteration it has just
+     * completed.
+     *
+     * @param solver the solver
+     *
+     * @return should the solver stop?
+     */
+    boolean shouldTerminate ( ACOSolver solver );
+
+    /**
+     * Returns a policy that stops the solver after a given number of
+     * iterations.
+     *
+     * @param max_iterations the number of iterations to run
+     *
+     * @return the policy
+     */
+    static TerminationPolicy iterations ( final int max_iterations )
+    {
+        return solver -> solver.getIteration() >= max_iterations;
+    }
+
+    /**
+     * Returns a policy that stops the solver once a given amount of time has
+     * passed since the run started.
+     *
+     * @param budget_nanos the time budget, in nanoseconds
+     *
+     * @return the policy
+     */
+    static TerminationPolicy timeBudget ( final long budget_nanos )
+    {
+        return solver -> solver.getElapsedNanos() >= budget_nanos;
+    }
+
+    /**
+     * Returns a policy that stops the solver once the shortest tour so far has
+     * not improved for a given number of iterations.
+     *
+     * @param window the number of iterations without improvement to allow
+     *
+     * @return the policy
+     */
+    static TerminationPolicy noImprovement ( final int window )
+    {
+        return solver -> solver.getIterationsSinceImprovement() >= window;
+    }
+
+    /**
+     * Returns a policy that stops the solver once every ant has constructed
+     * the same tour in each of a given number of iterations in a row. Tours
+     * are compared by a hash of their set of paths, which does not depend on
+     * where the tour starts or in which direction it goes. A single ant
+     * always agrees with itself, so a colony of fewer than two ants never
+     * stagnates.
+     *
+     * @param threshold the number of stagnating iterations in a row
+     *
+     * @return the policy
+     */
+    static TerminationPolicy stagnation ( final int threshold )
+    {
+        return new TerminationPolicy()
+        {
+            /* the number of stagnating iterations in a row so far */
+            private int num_stagnated = 0;
+
+            @Override
+            public void start ( ACOSolver solver )
+            {
+                this.num_stagnated = 0;
+            }
+
+            @Override
+            public boolean shouldTerminate ( ACOSolver solver )
+            {
+                /* the colony of the solver */
+                AntColony colony = solver.getColony();
+                if ( colony.getNumAnts() < 2 )
+                {
+                    return false;
+                }
+
+                /* the hash of the first ant's tour */
+                long first_hash = colony.getTourHash( 0 );
+
+                /* did every ant construct the same tour? */
+                boolean same = true;
+                for ( int ant = 1; same && ant < colony.getNumAnts(); ant++ )
+                {
+                    same = ( colony.getTourHash( ant ) == first_hash );
+                }
+
+                this.num_stagnated = same ? this.num_stagnated + 1 : 0;
+
+                return this.num_stagnated >= threshold;
+            }
+        };
+    }
+
+    /**
+     * Returns a policy that stops the solver once the average lambda-branching
+     * factor of the pheromone falls to a given value. The lambda-branching
+     * factor of a location is the number of paths leaving it whose pheromone
+     * is at least tau_min + lambda * ( tau_max - tau_min ), where tau_min and
+     * tau_max are the least and greatest pheromone on those paths. Only the
+     * paths to candidates are considered when the solver uses candidate lists.
+     * A factor close to 2 means the ants all follow the same tour.
+     *
+     * @param lambda the proportion of the pheromone range to count above
+     * @param min_branching the average branching factor to stop at
+     *
+     * @return the policy
+     */
+    static TerminationPolicy branchingFactor ( final double lambda,
+        final double min_branching )
+    {
+        return solver -> solver.getBranchingFactor( lambda ) <= min_branching;
+    }
+
+    /**
+     * Returns a policy that stops the solver as soon as any of the given
+     * policies would.
+     *
+     * @param policies the policies to combine
+     *
+     * @return the policy
+     */
+    static TerminationPolicy any ( final TerminationPolicy... policies )
+    {
+        return new TerminationPolicy()
+        {
+            @Override
+            public void start ( ACOSolver solver )
+            {
+                for ( TerminationPolicy policy : policies )
+                {
+                    policy.start( solver );
+                }
+            }
+
+            @Override
+            public boolean shouldTerminate ( ACOSolver solver )
+            {
+                /* ask every policy, so that each sees every iteration */
+                boolean terminate = false;
+                for ( TerminationPolicy policy : policies )
+                {
+                    terminate |= policy.shouldTerminate( solver );
+                }
+
+                return terminate;
+            }
+        };
+    }
+}
@@ -7,9 +7,12 @@
  * This file contains the Tester class. See class header for more information.
  */
 
+import java.io.IOException;
+
 /**
  * This class contains a main method that can be used to test the various TSP
- * algorithms found in the class TSPAlgorithms.
+ * algorithms found in the class TSPAlgorithms, on random locations or on the
+ * locations of a TSPLIB or binary (.bin) instance.
  */
 class Tester
 {
@@ -24,10 +27,26 @@ class Tester
      * Main method, used to test the various TSP algorithms found in the class 
      * TSPAlgorithms.
      *
-     * @param args Strings input by user prior to running program
+     * @param args Strings input by user prior to running program; if given,
+     * the first is the name of a TSPLIB or binary (.bin) instance file to load
+     * the locations from
+     *
+     * @throws IOException if the instance file cannot be loaded
      */ 
-    public static void main( String[] args )
+    public static void main( String[] args ) throws IOException
     {
+        /* solve the instance of a file instead, if one is given, through the
+         * methods that keep its metric; the Location[] methods measure every
+         * distance as Euclidean */
+        if ( args.length > 0 )
+        {
+            CoordinateSet coords = args[ 0 ].endsWith( ".bin" )
+                ? new MappedCoordinateSet( args[ 0 ] )
+                : TSPLIBReader.read( args[ 0 ] );
+            testInstance( coords );
+            return;
+        }
+
         /* random locations */
         Location[] rand_locs = new Location[ NUM_RAND_LOCS ];
 
@@ -99,5 +118,64 @@ class Tester
         }
         System.out.println( "\nTour Length: " 
             + TSPAlgorithms.get_tour_length( ACO_basic_tour ) );
+
+        /* get the min-max ACO tour through the random locs */
+        Location[] ACO_MMAS_tour = TSPAlgorithms.sol_ACO_MMAS( rand_locs );
+
+        System.out.println( "\nACO MIN-MAX ANT SYSTEM (MMAS) SOLUTION: \n" );
+        /* go through each location in the min-max ACO tour */
+        for ( int ACO_MMAS_tour_ind = 0; 
+            ACO_MMAS_tour_ind < ACO_MMAS_tour.length; ACO_MMAS_tour_ind++ )
+        {
+            /* print out this location */
+            System.out.println( "Location " + ACO_MMAS_tour_ind + ": ( " 
+                    + ACO_MMAS_tour[ ACO_MMAS_tour_ind ].getX() 
+                    + ", " 
+                    + ACO_MMAS_tour[ ACO_MMAS_tour_ind ].getY() 
+                    +  " )" );
+        }
+        System.out.println( "\nTour Length: " 
+            + TSPAlgorithms.get_tour_length( ACO_MMAS_tour ) );
+    }
+
+    /**
+     * Tests the greedy and ACO solvers on the locations of an instance file,
+     * under the metric of the instance, and prints each of the tours.
+     *
+     * @param coords the locations of the instance
+     */
+    private static void testInstance ( CoordinateSet coords )
+    {
+        printTour( "GREEDY SOLUTION", coords, TSPAlgorithms.sol_greedy(
+            coords, null, coords.getSize(), 0 ) );
+        printTour( "ACO ANT SYSTEM (AS) SOLUTION", coords,
+            TSPAlgorithms.sol_ACO_AS( coords, new ACOOptions() ) );
+        printTour( "ACO MIN-MAX ANT SYSTEM (MMAS) SOLUTION", coords,
+            TSPAlgorithms.sol_ACO_MMAS( coords, new ACOOptions() ) );
+    }
+
+    /**
+     * Prints the locations of a tour, in order, and its length.
+     *
+     * @param title the name of the solution
+     * @param coords the locations
+     * @param tour the tour through the locations
+     */
+    private static void printTour ( String title, CoordinateSet coords,
+        Tour tour )
+    {
+        System.out.println( "\n" + title + ": \n" );
+        /* go through each location in the tour */
+        for ( int tour_i = 0; tour_i < tour.getSize(); tour_i++ )
+        {
+            /* print out this location */
+            int loc = tour.getLocation( tour_i );
+            System.out.println( "Location " + tour_i + ": ( "
+                    + coords.getX( loc )
+                    + ", "
+                    + coords.getY( loc )
+                    +  " )" );
+        }
+        System.out.println( "\nTour Length: " + tour.getLength() );
     }
 }
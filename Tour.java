@@ -0,0 +1,417 @@
+/*
+ * Filename:    Tour.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the Tour class. See class header for more information.
+ */
+
+/**
+ * A Tour is a Hamiltonian cycle through a set of locations, stored as the
+ * indices of its locations in order. It caches its length, and can keep the
+ * position of every location in it, so that the neighbours of a location can
+ * be found in constant time and the change in length of a 2-opt or Or-opt move
+ * can be found from the few paths it changes rather than by walking the whole
+ * tour; making a move keeps the cached length up to date.
+ *
+ * The position index is only built once it is first needed, so tours that
+ * are only constructed and measured never pay for it.
+ */
+class Tour
+{
+    /* the number of locations in the tour */
+    private final int n;
+
+    /* the distances between the locations */
+    private final DistanceProvider dists;
+
+    /* the index of the location at each position in the tour */
+    private final int[] order;
+
+    /* the position in the tour of the location at each index, or null if it
+     * has not been needed yet */
+    private int[] pos;
+
+    /* is pos up to date with order? */
+    private boolean pos_valid = false;
+
+    /* the length of the tour, if length_valid */
+    private double length;
+    private boolean length_valid = false;
+
+    /**
+     * Constructs a new tour that visits the locations in the order of their
+     * indices.
+     *
+     * @param dists the distances between the locations
+     */
+    public Tour ( DistanceProvider dists )
+    {
+        this.n = dists.getSize();
+        this.dists = dists;
+        this.order = new int[ n ];
+        for ( int i = 0; i < n; i++ )
+        {
+            this.order[ i ] = i;
+        }
+    }
+
+    /**
+     * Constructs a new tour that visits the locations in the specified order.
+     * The array is used as it is, not copied.
+     *
+     * @param dists the distances between the locations
+     * @param order the indices of the locations in the order they are visited
+     */
+    public Tour ( DistanceProvider dists, int[] order )
+    {
+        if ( order.length != dists.getSize() )
+        {
+            throw new IllegalArgumentException( "a tour of " + order.length
+                + " locations through " + dists.getSize() + " locations" );
+        }
+
+        this.n = order.length;
+        this.dists = dists;
+        this.order = order;
+    }
+
+    /**
+     * Returns the number of locations in this tour.
+     *
+     * @return the number of locations in this tour
+     */
+    public int getSize ()
+    {
+        return this.n;
+    }
+
+    /**
+     * Returns the array holding the indices of the locations in this tour, in
+     * order. The array may be written to directly, for example while the tour
+     * is constructed, as long as rebuild() is called afterwards.
+     *
+     * @return the indices of the locations in this tour
+     */
+    public int[] getOrder ()
+    {
+        return this.order;
+    }
+
+    /**
+     * Returns a copy of the indices of the locations in this tour, in order.
+     *
+     * @return the indices of the locations in this tour
+     */
+    public int[] toArray ()
+    {
+        return this.order.clone();
+    }
+
+    /**
+     * Forgets the cached length and position index, after the array returned
+     * by getOrder() has been written to.
+     */
+    public void rebuild ()
+    {
+        this.pos_valid = false;
+        this.length_valid = false;
+    }
+
+    /**
+     * Makes this tour visit the same locations in the same order as another
+     * tour through the same locations.
+     *
+     * @param other the tour to copy
+     */
+    public void copyFrom ( Tour other )
+    {
+        System.arraycopy( other.order, 0, this.order, 0, n );
+        this.pos_valid = false;
+        this.length = other.length;
+        this.length_valid = other.length_valid;
+    }
+
+    /**
+     * Returns the length of this tour, including the path from the last
+     * location back to the first. The length is computed once and then kept
+     * up to date by the moves made on this tour.
+     *
+     * @return the length of this tour
+     */
+    public double getLength ()
+    {
+        if ( !this.length_valid )
+        {
+            /* the total length of the tour */
+            double total = 0.0;
+
+            /* go through each location except the last one */
+            for ( int tour_i = 0; tour_i < n - 1; tour_i++ )
+            {
+                total += this.dists.getDistance( this.order[ tour_i ],
+                    this.order[ tour_i + 1 ] );
+            }
+            /* close the cycle */
+            if ( n > 0 )
+            {
+                total += this.dists.getDistance( this.order[ n - 1 ],
+                    this.order[ 0 ] );
+            }
+
+            this.length = total;
+            this.length_valid = true;
+        }
+
+        return this.length;
+    }
+
+    /**
+     * Returns the location at a given position in this tour.
+     *
+     * @param tour_i the position
+     *
+     * @return the index of the location at the position
+     */
+    public int getLocation ( int tour_i )
+    {
+        return this.order[ tour_i ];
+    }
+
+    /**
+     * Returns the position of a location in this tour.
+     *
+     * @param x the index of the location
+     *
+     * @return the position of the location
+     */
+    public int getPosition ( int x )
+    {
+        this.ensurePositions();
+
+        return this.pos[ x ];
+    }
+
+    /**
+     * Returns the location after a given location in this tour.
+     *
+     * @param x the index of the location
+     *
+     * @return the index of the next location
+     */
+    public int next ( int x )
+    {
+        return this.order[ ( this.getPosition( x ) + 1 ) % n ];
+    }
+
+    /**
+     * Returns the location before a given location in this tour.
+     *
+     * @param x the index of the location
+     *
+     * @return the index of the previous location
+     */
+    public int prev ( int x )
+    {
+        return this.order[ ( this.getPosition( x ) - 1 + n ) % n ];
+    }
+
+    /**
+     * Returns the change in length of the 2-opt move twoOptMove( a, c ),
+     * without making it.
+     *
+     * @param a the first location
+     * @param c the second location
+     *
+     * @return the change in length; negative if the move shortens the tour
+     */
+    public double getTwoOptDelta ( int a, int c )
+    {
+        int b = this.next( a );
+        int d = this.next( c );
+
+        return this.dists.getDistance( a, c ) + this.dists.getDistance( b, d )
+            - this.dists.getDistance( a, b ) - this.dists.getDistance( c, d );
+    }
+
+    /**
+     * Makes a 2-opt move: the paths from a and c to the locations after them,
+     * b and d, are replaced by the paths (a, c) and (b, d), which reverses the
+     * part of the tour from b to c.
+     *
+     * @param a the first location
+     * @param c the second location; must not be a or next to it
+     */
+    public void twoOptMove ( int a, int c )
+    {
+        if ( this.length_valid )
+        {
+            this.length += this.getTwoOptDelta( a, c );
+        }
+
+        this.reverse( this.getPosition( this.next( a ) ),
+            this.getPosition( c ) );
+    }
+
+    /**
+     * Returns the change in length of the Or-opt move orOptMove( s1, len, e,
+     * reversed ), without making it.
+     *
+     * @param s1 the first location of the run to move
+     * @param len the number of locations in the run
+     * @param e the location the run is to follow; must not be in the run or
+     * just before it
+     * @param reversed is the run to be put back in reverse order?
+     *
+     * @return the change in length; negative if the move shortens the tour
+     */
+    public double getOrOptDelta ( int s1, int len, int e, boolean reversed )
+    {
+        /* the last location of the run, the locations around it, and the
+         * location after e */
+        int s2 = this.order[ ( this.getPosition( s1 ) + len - 1 ) % n ];
+        int p = this.prev( s1 );
+        int q = this.next( s2 );
+        int f = this.next( e );
+
+        /* taking the run out joins p to q; putting it in splits (e, f) */
+        return this.dists.getDistance( p, q ) - this.dists.getDistance( p, s1 )
+            - this.dists.getDistance( s2, q ) - this.dists.getDistance( e, f )
+            + ( reversed
+            ? this.dists.getDistance( e, s2 ) + this.dists.getDistance( s1, f )
+            : this.dists.getDistance( e, s1 )
+            + this.dists.getDistance( s2, f ) );
+    }
+
+    /**
+     * Makes an Or-opt move: the run of locations starting at s1 is taken out
+     * of the tour and put back right after e, in its original or reverse
+     * order. This is done by rotating whichever of the two parts of the tour
+     * between the run and e is shorter, so it takes time proportional to that
+     * part rather than to the whole tour.
+     *
+     * @param s1 the first location of the run to move
+     * @param len the number of locations in the run
+     * @param e the location the run is to follow; must not be in the run or
+     * just before it
+     * @param reversed is the run to be put back in reverse order?
+     */
+    public void orOptMove ( int s1, int len, int e, boolean reversed )
+    {
+        if ( this.length_valid )
+        {
+            this.length += this.getOrOptDelta( s1, len, e, reversed );
+        }
+
+        /* the positions of the run and of e */
+        int start = this.getPosition( s1 );
+        int end = ( start + len - 1 ) % n;
+        int e_pos = this.getPosition( e );
+
+        /* the number of locations from just after e up to the run, and from
+         * just after the run up to e */
+        int before_len = ( start - e_pos - 1 + n ) % n;
+        int after_len = n - len - before_len;
+
+        if ( before_len <= after_len )
+        {
+            /* rotate [after e .. end of run] so that the run comes first */
+            int lo = ( e_pos + 1 ) % n;
+            this.reverseExact( lo, end );
+            if ( !reversed )
+            {
+                this.reverseExact( lo, ( lo + len - 1 ) % n );
+            }
+            if ( before_len > 0 )
+            {
+                this.reverseExact( ( lo + len ) % n, end );
+            }
+        }
+        else
+        {
+            /* rotate [start of run .. e] so that the run comes last */
+            this.reverseExact( start, e_pos );
+            this.reverseExact( start, ( start + after_len - 1 ) % n );
+            if ( !reversed )
+            {
+                this.reverseExact( ( start + after_len ) % n, e_pos );
+            }
+        }
+    }
+
+    /**
+     * Reverses the part of the tour from position i to position j, going
+     * forwards and wrapping around at the end. The shorter of this part and
+     * the rest of the tour is the one actually reversed; either gives the same
+     * cycle.
+     *
+     * @param i the first position of the part to reverse
+     * @param j the last position of the part to reverse
+     */
+    private void reverse ( int i, int j )
+    {
+        /* the number of locations in the part */
+        int len = ( ( j - i + n ) % n ) + 1;
+
+        /* reverse the rest of the tour instead */
+        if ( 2 * len > n )
+        {
+            this.reverseExact( ( j + 1 ) % n, ( i - 1 + n ) % n );
+        }
+        else
+        {
+            this.reverseExact( i, j );
+        }
+    }
+
+    /**
+     * Reverses exactly the part of the tour from position i to position j,
+     * going forwards and wrapping around at the end.
+     *
+     * @param i the first position of the part to reverse
+     * @param j the last position of the part to reverse
+     */
+    private void reverseExact ( int i, int j )
+    {
+        this.ensurePositions();
+
+        /* the number of locations in the part */
+        int len = ( ( j - i + n ) % n ) + 1;
+
+        /* swap the ends of the part inwards */
+        for ( int k = 0; k < len / 2; k++ )
+        {
+            int ii = ( i + k ) % n;
+            int jj = ( j - k + n ) % n;
+
+            int tmp = this.order[ ii ];
+            this.order[ ii ] = this.order[ jj ];
+            this.order[ jj ] = tmp;
+
+            this.pos[ this.order[ ii ] ] = ii;
+            this.pos[ this.order[ jj ] ] = jj;
+        }
+    }
+
+    /**
+     * Builds the position index, if it is not up to date.
+     */
+    private void ensurePositions ()
+    {
+        if ( this.pos_valid )
+        {
+            return;
+        }
+
+        if ( this.pos == null )
+        {
+            this.pos = new int[ n ];
+        }
+        for ( int tour_i = 0; tour_i < n; tour_i++ )
+        {
+            this.pos[ this.order[ tour_i ] ] = tour_i;
+        }
+        this.pos_valid = true;
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Filename:    TSPKernelBenchmark.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the TSPKernelBenchmark class. See class header for more
+ * information.
+ */
+package bench;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * This class contains the JMH benchmarks of the core kernels of TSPAlgorithms
+ * on seeded random instances of 100, 1,000 and 10,000 locations, so that a
+ * performance change can be measured before and after. Run them with
+ * "gradle jmh"; see build.gradle for passing options to JMH.
+ *
+ * JMH does not allow benchmarks in the default package, and a class in a
+ * named package cannot refer to the classes of the default package, where
+ * the solvers are. Each kernel is therefore set up by Benchmarks.setUp(),
+ * which is found by reflection once per trial, and run through the
+ * DoubleSupplier it returns; the call through the interface is the only cost
+ * added to each operation.
+ *
+ * Every kernel has a state of its own, so that a trial only sets up the
+ * kernel it measures. The heap is raised for the forks, since the pheromone
+ * matrices of 10,000 locations take 800MB each.
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( value = 1, jvmArgsAppend = "-Xmx3g" )
+public class TSPKernelBenchmark
+{
+    /**
+     * A KernelState is one kernel of Benchmarks, set up on the instance of
+     * the size given by the parameter. Each subclass names its kernel.
+     */
+    @State( Scope.Benchmark )
+    public abstract static class KernelState
+    {
+        /* the number of locations of the instance */
+        @Param( { "100", "1000", "10000" } )
+        public int n;
+
+        /* one run of the kernel */
+        public DoubleSupplier op;
+
+        /**
+         * Returns the name of the kernel in Benchmarks.
+         *
+         * @return the name of the kernel
+         */
+        protected abstract String getKernel ();
+
+        /**
+         * Sets up the kernel on the instance.
+         *
+         * @throws ReflectiveOperationException if Benchmarks.setUp() cannot
+         * be called
+         */
+        @Setup
+        public void setUp () throws ReflectiveOperationException
+        {
+            Method set_up = Class.forName( "Benchmarks" ).getDeclaredMethod(
+                "setUp", String.class, int.class );
+            set_up.setAccessible( true );
+            this.op = ( DoubleSupplier ) set_up.invoke( null,
+                this.getKernel(), this.n );
+        }
+    }
+
+    @State( Scope.Benchmark )
+    public static class DistanceState extends KernelState
+    {
+        @Override
+        protected String getKernel ()
+        {
+            return "get_distance_between";
+        }
+    }
+
+    @State( Scope.Benchmark )
+    public static class TourLengthState extends KernelState
+    {
+        @Override
+        protected String getKernel ()
+        {
+            return "get_tour_length";
+        }
+    }
+
+    @State( Scope.Benchmark )
+    public static class GreedyStartState extends KernelState
+    {
+        @Override
+        protected String getKernel ()
+        {
+            return "get_greedy_start";
+        }
+    }
+
+    @State( Scope.Benchmark )
+    public static class GreedyState extends KernelState
+    {
+        @Override
+        protected String getKernel ()
+        {
+            return "sol_greedy";
+        }
+    }
+
+    @State( Scope.Benchmark )
+    public static class ACOIterationState extends KernelState
+    {
+        @Override
+        protected String getKernel ()
+        {
+            return "sol_ACO_AS_iteration";
+        }
+    }
+
+    @State( Scope.Benchmark )
+    public static class EvaporateState extends KernelState
+    {
+        @Override
+        protected String getKernel ()
+        {
+            return "pheromone_evaporate";
+        }
+    }
+
+    @State( Scope.Benchmark )
+    public static class DepositState extends KernelState
+    {
+        @Override
+        protected String getKernel ()
+        {
+            return "pheromone_deposit";
+        }
+    }
+
+    /**
+     * Measures the distance between two locations.
+     *
+     * @param state the kernel
+     * @param bh receives the result
+     */
+    @Benchmark
+    public void get_distance_between ( DistanceState state, Blackhole bh )
+    {
+        bh.consume( state.op.getAsDouble() );
+    }
+
+    /**
+     * Measures the length of a tour through every location.
+     *
+     * @param state the kernel
+     * @param bh receives the result
+     */
+    @Benchmark
+    public void get_tour_length ( TourLengthState state, Blackhole bh )
+    {
+        bh.consume( state.op.getAsDouble() );
+    }
+
+    /**
+     * Measures a nearest neighbor tour from one start.
+     *
+     * @param state the kernel
+     * @param bh receives the result
+     */
+    @Benchmark
+    public void get_greedy_start ( GreedyStartState state, Blackhole bh )
+    {
+        bh.consume( state.op.getAsDouble() );
+    }
+
+    /**
+     * Measures the greedy solver.
+     *
+     * @param state the kernel
+     * @param bh receives the result
+     */
+    @Benchmark
+    public void sol_greedy ( GreedyState state, Blackhole bh )
+    {
+        bh.consume( state.op.getAsDouble() );
+    }
+
+    /**
+     * Measures one iteration of the Ant System solver.
+     *
+     * @param state the kernel
+     * @param bh receives the result
+     */
+    @Benchmark
+    public void sol_ACO_AS_iteration ( ACOIterationState state, Blackhole bh )
+    {
+        bh.consume( state.op.getAsDouble() );
+    }
+
+    /**
+     * Measures the evaporation of a pheromone matrix.
+     *
+     * @param state the kernel
+     * @param bh receives the result
+     */
+    @Benchmark
+    public void pheromone_evaporate ( EvaporateState state, Blackhole bh )
+    {
+        bh.consume( state.op.getAsDouble() );
+    }
+
+    /**
+     * Measures the deposit of a tour on a pheromone matrix.
+     *
+     * @param state the kernel
+     * @param bh receives the result
+     */
+    @Benchmark
+    public void pheromone_deposit ( DepositState state, Blackhole bh )
+    {
+        bh.consume( state.op.getAsDouble() );
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Filename:    CheckpointerTest.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the CheckpointerTest class. See class header for more
+ * information.
+ */
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests Checkpointer: a run stopped halfway and resumed from its last
+ * checkpoint, by a solver constructed with a different seed, must end with
+ * exactly the tour of the same run left uninterrupted, for both solvers and
+ * both kinds of pheromone storage.
+ */
+class CheckpointerTest
+{
+    /* the number of locations of the instance */
+    private static final int N = 80;
+
+    /* the number of iterations of a whole run, and between checkpoints; the
+     * first half of a run takes one checkpoint, at its end, so that none is
+     * skipped */
+    private static final int ITERATIONS = 60;
+    private static final int INTERVAL = ITERATIONS / 2;
+
+    /* the seed of the runs */
+    private static final long SEED = 3;
+
+    /* the directory of the checkpoint files */
+    @TempDir
+    Path dir;
+
+    @Test
+    void resumedAntSystemMatchesUninterruptedRun () throws IOException
+    {
+        this.assertResumeMatches( false, ACOOptions.PheromoneStorage.DENSE );
+        this.assertResumeMatches( false, ACOOptions.PheromoneStorage.SPARSE );
+    }
+
+    @Test
+    void resumedMaxMinAntSystemMatchesUninterruptedRun () throws IOException
+    {
+        this.assertResumeMatches( true, ACOOptions.PheromoneStorage.DENSE );
+        this.assertResumeMatches( true, ACOOptions.PheromoneStorage.SPARSE );
+    }
+
+    @Test
+    void checkpointOfAnotherSolverIsRejected () throws IOException
+    {
+        CoordinateSet coords = instance();
+        String filename = this.dir.resolve( "other.ckpt" ).toString();
+
+        Checkpointer checkpointer = new Checkpointer( filename, INTERVAL );
+        ACOOptions options = options( ACOOptions.PheromoneStorage.DENSE,
+            INTERVAL, SEED );
+        options.addListener( checkpointer );
+        new MaxMinAntSystem( coords, options ).solve();
+        checkpointer.close();
+
+        assertThrows( IOException.class, () -> Checkpointer.restore(
+            new AntSystem( coords, options( ACOOptions.PheromoneStorage.DENSE,
+            ITERATIONS, SEED ) ), filename ) );
+    }
+
+    /**
+     * Runs a solver uninterrupted, then again in two halves with a
+     * checkpoint in between, and checks that both end with the same tour.
+     *
+     * @param mmas run MMAS rather than AS?
+     * @param storage how the pheromone is stored
+     *
+     * @throws IOException if the checkpoint cannot be written or read
+     */
+    private void assertResumeMatches ( boolean mmas,
+        ACOOptions.PheromoneStorage storage ) throws IOException
+    {
+        CoordinateSet coords = instance();
+        String filename = this.dir.resolve( storage + ( mmas ? ".mmas"
+            : ".as" ) ).toString();
+
+        /* the whole run */
+        Tour full = solver( mmas, coords, options( storage, ITERATIONS,
+            SEED ) ).solve();
+
+        /* the first half, checkpointed */
+        Checkpointer checkpointer = new Checkpointer( filename, INTERVAL );
+        ACOOptions first = options( storage, ITERATIONS / 2, SEED );
+        first.addListener( checkpointer );
+        solver( mmas, coords, first ).solve();
+        checkpointer.close();
+        assertNull( checkpointer.getLastError() );
+        assertEquals( 1, checkpointer.getNumWritten() );
+
+        /* the second half, from the checkpoint; the seed is restored too */
+        ACOSolver second = solver( mmas, coords, options( storage,
+            ITERATIONS, SEED + 1 ) );
+        Checkpointer.restore( second, filename );
+        assertEquals( ITERATIONS / 2, second.getIteration() );
+        Tour resumed = second.solve();
+
+        assertEquals( ITERATIONS, second.getIteration() );
+        assertEquals( full.getLength(), resumed.getLength() );
+        assertArrayEquals( full.toArray(), resumed.toArray() );
+    }
+
+    /**
+     * Returns the instance every run solves.
+     *
+     * @return the instance
+     */
+    private static CoordinateSet instance ()
+    {
+        return new ArrayCoordinateSet( InstanceGenerator.uniform( N, 7, 500,
+            500 ) );
+    }
+
+    /**
+     * Returns the options of a run.
+     *
+     * @param storage how the pheromone is stored
+     * @param iterations the number of iterations of the run
+     * @param seed the seed of the run
+     *
+     * @return the options
+     */
+    private static ACOOptions options ( ACOOptions.PheromoneStorage storage,
+        int iterations, long seed )
+    {
+        ACOOptions options = new ACOOptions();
+        options.setSeed( seed );
+        options.setPheromoneStorage( storage );
+        options.setTermination( TerminationPolicy.iterations( iterations ) );
+
+        return options;
+    }
+
+    /**
+     * Constructs a solver.
+     *
+     * @param mmas construct MMAS rather than AS?
+     * @param coords the locations
+     * @param options the options of the run
+     *
+     * @return the solver
+     */
+    private static ACOSolver solver ( boolean mmas, CoordinateSet coords,
+        ACOOptions options )
+    {
+        return mmas ? new MaxMinAntSystem( coords, options )
+            : new AntSystem( coords, options );
+    }
+}
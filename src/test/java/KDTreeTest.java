@@ -0,0 +1,156 @@
+/*
+ * Filename:    KDTreeTest.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the KDTreeTest class. See class header for more
+ * information.
+ */
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests KDTree against a linear scan of the distances of the metric: the
+ * nearest remaining location must be as near as the nearest found by the
+ * scan while locations are removed, after the tree is reset, in a copy of
+ * the tree, and for GEO locations.
+ */
+class KDTreeTest
+{
+    /* the number of locations of the instances */
+    private static final int N = 300;
+
+    @Test
+    void nearestMatchesScanWhileRemoving ()
+    {
+        CoordinateSet coords = new ArrayCoordinateSet(
+            InstanceGenerator.clustered( N, 1, 500, 500 ) );
+        assertRemovalOrder( coords, new KDTree( coords ), 7 );
+    }
+
+    @Test
+    void resetPutsEveryLocationBack ()
+    {
+        CoordinateSet coords = new ArrayCoordinateSet(
+            InstanceGenerator.uniform( N, 2, 500, 500 ) );
+        KDTree tree = new KDTree( coords );
+
+        assertRemovalOrder( coords, tree, 3 );
+        assertEquals( 0, tree.getSize() );
+        assertEquals( -1, tree.nearest( 0 ) );
+
+        tree.reset();
+        assertEquals( N, tree.getSize() );
+        assertRemovalOrder( coords, tree, 5 );
+    }
+
+    @Test
+    void copyKeepsItsOwnRemovals ()
+    {
+        CoordinateSet coords = new ArrayCoordinateSet(
+            InstanceGenerator.uniform( N, 4, 500, 500 ) );
+        KDTree tree = new KDTree( coords );
+        KDTree copy = new KDTree( tree );
+
+        assertRemovalOrder( coords, copy, 9 );
+        assertEquals( N, tree.getSize() );
+        assertRemovalOrder( coords, tree, 11 );
+    }
+
+    @Test
+    void geoNearestMatchesScan ()
+    {
+        /* latitudes and longitudes over the whole globe, in DDD.MM form */
+        FastRandom rand = new FastRandom( 6 );
+        double[] xs = new double[ N ];
+        double[] ys = new double[ N ];
+        for ( int i = 0; i < N; i++ )
+        {
+            xs[ i ] = rand.nextInt( 179 ) - 89 + rand.nextInt( 60 ) / 100.0;
+            ys[ i ] = rand.nextInt( 359 ) - 179 + rand.nextInt( 60 ) / 100.0;
+        }
+        CoordinateSet coords = new ArrayCoordinateSet( xs, ys, Metric.GEO );
+
+        assertRemovalOrder( coords, new KDTree( coords ), 13 );
+    }
+
+    @Test
+    void kNearestMatchesScan ()
+    {
+        CoordinateSet coords = new ArrayCoordinateSet(
+            InstanceGenerator.clustered( N, 8, 500, 500 ) );
+        KDTree tree = new KDTree( coords );
+        int k = 10;
+        int[] found = new int[ k ];
+
+        /* go through each of the locations */
+        for ( int i = 0; i < N; i++ )
+        {
+            assertEquals( k, tree.nearest( i, k, found ) );
+
+            /* the k-th nearest by the tree is the k-th nearest by a scan */
+            double[] dists = new double[ N - 1 ];
+            for ( int j = 0, d = 0; j < N; j++ )
+            {
+                if ( j != i )
+                {
+                    dists[ d++ ] = coords.getDistance( i, j );
+                }
+            }
+            Arrays.sort( dists );
+            for ( int r = 0; r < k; r++ )
+            {
+                assertEquals( dists[ r ], coords.getDistance( i,
+                    found[ r ] ) );
+            }
+        }
+    }
+
+    /**
+     * Removes every location from a tree, starting at a random one and
+     * moving each time to the nearest remaining one, and checks each against
+     * a scan of the remaining locations.
+     *
+     * @param coords the locations of the tree
+     * @param tree the tree, holding every location
+     * @param seed the seed of the first location
+     */
+    private static void assertRemovalOrder ( CoordinateSet coords,
+        KDTree tree, long seed )
+    {
+        int n = coords.getSize();
+        boolean[] removed = new boolean[ n ];
+        int current = new FastRandom( seed ).nextInt( n );
+        tree.remove( current );
+        removed[ current ] = true;
+
+        /* go through each of the remaining locations */
+        for ( int left = n - 1; left > 0; left-- )
+        {
+            assertEquals( left, tree.getSize() );
+            int next = tree.nearest( current );
+
+            /* the nearest remaining location by a scan */
+            double best = Double.POSITIVE_INFINITY;
+            for ( int j = 0; j < n; j++ )
+            {
+                if ( !removed[ j ] )
+                {
+                    best = Math.min( best, coords.getDistance( current, j ) );
+                }
+            }
+
+            assertFalse( removed[ next ] );
+            assertEquals( best, coords.getDistance( current, next ) );
+
+            tree.remove( next );
+            removed[ next ] = true;
+            current = next;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Filename:    LocalSearchTest.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the LocalSearchTest class. See class header for more
+ * information.
+ */
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests LocalSearch: an improved tour must still visit every location once,
+ * be no longer than before, and be shorter by exactly the gain reported.
+ */
+class LocalSearchTest
+{
+    /* the greatest rounding error allowed in a length */
+    private static final double EPSILON = 1e-6;
+
+    @Test
+    void improveKeepsAPermutation ()
+    {
+        /* go through instances of several sizes, down to the smallest a
+         * search improves */
+        for ( int n : new int[] { 5, 6, 12, 100, 400 } )
+        {
+            CoordinateSet coords = new ArrayCoordinateSet(
+                InstanceGenerator.clustered( n, n, 500, 500 ) );
+            LocalSearch search = new LocalSearch( coords,
+                new CandidateLists( coords, 8 ) );
+
+            /* start from a random order */
+            int[] order = new int[ n ];
+            FastRandom rand = new FastRandom( n );
+            for ( int i = 0; i < n; i++ )
+            {
+                int j = rand.nextInt( i + 1 );
+                order[ i ] = order[ j ];
+                order[ j ] = i;
+            }
+            Tour tour = new Tour( coords, order );
+
+            double before = tour.getLength();
+            double gain = search.improve( tour );
+
+            TourTest.assertPermutation( tour );
+            double measured = TourTest.measure( coords, tour );
+            assertTrue( gain >= 0 );
+            assertEquals( before - gain, measured, EPSILON );
+            assertEquals( measured, tour.getLength(), EPSILON );
+        }
+    }
+
+    @Test
+    void improvingALocalOptimumGainsNothing ()
+    {
+        CoordinateSet coords = new ArrayCoordinateSet(
+            InstanceGenerator.uniform( 200, 9, 500, 500 ) );
+        LocalSearch search = new LocalSearch( coords,
+            new CandidateLists( coords, 8 ) );
+        Tour tour = TSPAlgorithms.get_greedy_start( coords, 0 );
+
+        search.improve( tour );
+        int[] optimum = tour.toArray();
+
+        assertEquals( 0, search.improve( tour ), EPSILON );
+        TourTest.assertPermutation( tour );
+        assertEquals( TourTest.measure( coords, new Tour( coords, optimum ) ),
+            tour.getLength(), EPSILON );
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Filename:    LongDoubleHashMapTest.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the LongDoubleHashMapTest class. See class header for
+ * more information.
+ */
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests LongDoubleHashMap against a HashMap holding the same entries,
+ * through puts, overwrites and removeAtMost().
+ */
+class LongDoubleHashMapTest
+{
+    /* the value get() returns for a missing key in these tests */
+    private static final double MISSING = -1;
+
+    @Test
+    void removeAtMostRemovesExactlyTheSmallValues ()
+    {
+        LongDoubleHashMap map = new LongDoubleHashMap();
+        Map<Long, Double> expected = new HashMap<Long, Double>();
+        FastRandom rand = new FastRandom( 1 );
+
+        /* go through a few rounds of puts and removals */
+        for ( int round = 0; round < 5; round++ )
+        {
+            for ( int k = 0; k < 5000; k++ )
+            {
+                long key = rand.nextInt( 20000 ) * 1000003L;
+                double value = rand.nextDouble();
+                map.put( key, value );
+                expected.put( key, value );
+            }
+            assertSame( expected, map );
+
+            /* remove the entries at or below a threshold */
+            double max_value = 0.1 * ( round + 3 );
+            int num_small = 0;
+            for ( double value : expected.values() )
+            {
+                num_small += ( value <= max_value ) ? 1 : 0;
+            }
+            expected.values().removeIf( value -> value <= max_value );
+
+            assertEquals( num_small, map.removeAtMost( max_value ) );
+            assertSame( expected, map );
+        }
+    }
+
+    @Test
+    void removeAtMostShrinksTheSlots ()
+    {
+        LongDoubleHashMap map = new LongDoubleHashMap();
+        for ( long key = 0; key < 10000; key++ )
+        {
+            map.put( key, ( key < 10 ) ? 1 : 0 );
+        }
+        int capacity = map.getCapacity();
+
+        assertEquals( 9990, map.removeAtMost( 0 ) );
+        assertEquals( 10, map.size() );
+        assertTrue( map.getCapacity() < capacity );
+        for ( long key = 0; key < 10000; key++ )
+        {
+            assertEquals( ( key < 10 ) ? 1 : MISSING, map.get( key,
+                MISSING ) );
+        }
+
+        /* nothing to remove leaves the map as it is */
+        assertEquals( 0, map.removeAtMost( 0 ) );
+        assertEquals( 10, map.size() );
+    }
+
+    /**
+     * Checks that a map holds exactly the expected entries, both through
+     * get() and through its slots.
+     *
+     * @param expected the expected entries
+     * @param map the map
+     */
+    private static void assertSame ( Map<Long, Double> expected,
+        LongDoubleHashMap map )
+    {
+        assertEquals( expected.size(), map.size() );
+        for ( Map.Entry<Long, Double> entry : expected.entrySet() )
+        {
+            assertEquals( entry.getValue(), map.get( entry.getKey(),
+                MISSING ) );
+        }
+
+        /* every key in a slot is expected, with its value */
+        int num_keys = 0;
+        for ( int slot = 0; slot < map.getCapacity(); slot++ )
+        {
+            long key = map.getKeyAt( slot );
+            if ( expected.containsKey( key ) )
+            {
+                assertEquals( expected.get( key ), map.getValueAt( slot ) );
+                num_keys++;
+            }
+        }
+        assertEquals( expected.size(), num_keys );
+    }
+}
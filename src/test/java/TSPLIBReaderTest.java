@@ -0,0 +1,143 @@
+/*
+ * Filename:    TSPLIBReaderTest.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the TSPLIBReaderTest class. See class header for more
+ * information.
+ */
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests TSPLIBReader: every coordinate it reads must be exactly the double
+ * that Double.parseDouble() gives for the same text, and malformed files
+ * must be rejected.
+ */
+class TSPLIBReaderTest
+{
+    /* the directory of the files written by the tests */
+    @TempDir
+    Path dir;
+
+    @Test
+    void numbersMatchParseDouble () throws IOException
+    {
+        /* numbers in the forms TSPLIB files use, and the edge cases of the
+         * fast path */
+        List<String> words = new ArrayList<String>();
+        for ( String word : new String[] { "0", "-0", "+7", "1", "0.1", "0.3",
+            "565.0", "-123.456", "6.734e+03", "1.5E-3", "2e22", "2e23",
+            "9007199254740993", "123456789012345678", "0.000000000000000001",
+            "1234567890.12345678", "52024459559760388.08485314", "4.9e-324",
+            "1.7976931348623157e308", "00012.5000", ".5", "5." } )
+        {
+            words.add( word );
+        }
+
+        /* random numbers, printed with every number of decimals and in
+         * shortest form, and random strings of more digits than the fast
+         * path keeps */
+        FastRandom rand = new FastRandom( 11 );
+        for ( int k = 0; k < 4000; k++ )
+        {
+            double value = ( rand.nextDouble() - 0.5 )
+                * Math.pow( 10, rand.nextInt( 12 ) );
+            words.add( String.format( Locale.ROOT, "%." + rand.nextInt( 17 )
+                + "f", value ) );
+            words.add( Double.toString( value ) );
+
+            StringBuilder digits = new StringBuilder();
+            int num_digits = 19 + rand.nextInt( 8 );
+            for ( int d = 0; d < num_digits; d++ )
+            {
+                digits.append( ( char ) ( '0' + rand.nextInt( 10 ) ) );
+            }
+            digits.insert( 1 + rand.nextInt( num_digits - 1 ), '.' );
+            words.add( digits.toString() );
+        }
+
+        /* two coordinates per location */
+        int n = words.size() / 2;
+        StringBuilder text = new StringBuilder();
+        text.append( "NAME : numbers\nTYPE : TSP\nDIMENSION : " ).append( n )
+            .append( "\nEDGE_WEIGHT_TYPE : EUC_2D\nNODE_COORD_SECTION\n" );
+        for ( int i = 0; i < n; i++ )
+        {
+            text.append( i + 1 ).append( ' ' ).append( words.get( 2 * i ) )
+                .append( ' ' ).append( words.get( 2 * i + 1 ) ).append( '\n' );
+        }
+        text.append( "EOF\n" );
+
+        CoordinateSet coords = TSPLIBReader.read( this.write( text ) );
+
+        assertEquals( n, coords.getSize() );
+        assertEquals( Metric.EUC_2D, coords.getMetric() );
+        for ( int i = 0; i < n; i++ )
+        {
+            assertExact( words.get( 2 * i ), coords.getX( i ) );
+            assertExact( words.get( 2 * i + 1 ), coords.getY( i ) );
+        }
+    }
+
+    @Test
+    void malformedFilesAreRejected ()
+    {
+        /* a number with a stray character, a repeated node, a missing
+         * header, and an unsupported section */
+        for ( String text : new String[] {
+            "TYPE : TSP\nDIMENSION : 1\nEDGE_WEIGHT_TYPE : EUC_2D\n"
+                + "NODE_COORD_SECTION\n1 2x 3\n",
+            "TYPE : TSP\nDIMENSION : 2\nEDGE_WEIGHT_TYPE : EUC_2D\n"
+                + "NODE_COORD_SECTION\n1 2 3\n1 4 5\n",
+            "TYPE : TSP\nEDGE_WEIGHT_TYPE : EUC_2D\nNODE_COORD_SECTION\n",
+            "TYPE : TSP\nDIMENSION : 1\nEDGE_WEIGHT_TYPE : EXPLICIT\n"
+                + "EDGE_WEIGHT_SECTION\n0\n" } )
+        {
+            assertThrows( IOException.class,
+                () -> TSPLIBReader.read( this.write( text ) ) );
+        }
+    }
+
+    /**
+     * Checks that a number was read exactly as Double.parseDouble() reads it.
+     *
+     * @param word the text of the number
+     * @param value the number read
+     */
+    private static void assertExact ( String word, double value )
+    {
+        assertEquals( Double.doubleToLongBits( Double.parseDouble( word ) ),
+            Double.doubleToLongBits( value ), word );
+    }
+
+    /**
+     * Writes text to a new file in the temporary directory.
+     *
+     * @param text the text
+     *
+     * @return the name of the file
+     *
+     * @throws IOException if the file cannot be written
+     */
+    private String write ( CharSequence text ) throws IOException
+    {
+        Path file = Files.createTempFile( this.dir, "instance", ".tsp" );
+        Files.write( file, text.toString().getBytes(
+            StandardCharsets.US_ASCII ) );
+
+        return file.toString();
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Filename:    TourTest.java
+ * Author:      Rish Vaishnav
+ * Date:        10/16/2026
+ *
+ * Description:
+ * This file contains the TourTest class. See class header for more
+ * information.
+ */
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the moves of Tour: the change in length each move reports, and the
+ * length it keeps cached, must match the length of the tour measured again
+ * from scratch after the move, and the tour must still visit every location
+ * once.
+ */
+class TourTest
+{
+    /* the number of locations of the instances */
+    private static final int N = 60;
+
+    /* the number of random moves made on each tour */
+    private static final int NUM_MOVES = 2000;
+
+    /* the greatest rounding error allowed in a length */
+    private static final double EPSILON = 1e-7;
+
+    @Test
+    void twoOptDeltaMatchesRecomputedLength ()
+    {
+        CoordinateSet coords = new ArrayCoordinateSet(
+            InstanceGenerator.uniform( N, 1, 500, 500 ) );
+        Tour tour = new Tour( coords );
+        FastRandom rand = new FastRandom( 2 );
+
+        /* go through each of the moves */
+        for ( int move = 0; move < NUM_MOVES; move++ )
+        {
+            /* c must be neither a nor the location after it */
+            int a = rand.nextInt( N );
+            int c = rand.nextInt( N );
+            if ( c == a || c == tour.next( a ) )
+            {
+                continue;
+            }
+
+            double before = tour.getLength();
+            double delta = tour.getTwoOptDelta( a, c );
+            tour.twoOptMove( a, c );
+
+            double measured = measure( coords, tour );
+            assertEquals( before + delta, measured, EPSILON );
+            assertEquals( measured, tour.getLength(), EPSILON );
+            assertPermutation( tour );
+        }
+    }
+
+    @Test
+    void orOptDeltaMatchesRecomputedLength ()
+    {
+        CoordinateSet coords = new ArrayCoordinateSet(
+            InstanceGenerator.clustered( N, 3, 500, 500 ) );
+        Tour tour = new Tour( coords );
+        FastRandom rand = new FastRandom( 4 );
+
+        /* go through each of the moves */
+        for ( int move = 0; move < NUM_MOVES; move++ )
+        {
+            int s1 = rand.nextInt( N );
+            int len = 1 + rand.nextInt( 3 );
+            int e = rand.nextInt( N );
+            boolean reversed = rand.nextInt( 2 ) == 0;
+
+            /* e must be neither in the run nor just before it */
+            if ( e == tour.prev( s1 ) || inRun( tour, e, s1, len ) )
+            {
+                continue;
+            }
+
+            double before = tour.getLength();
+            double delta = tour.getOrOptDelta( s1, len, e, reversed );
+
+            /* the run, in the order it is to be put back in */
+            int[] run = new int[ len ];
+            for ( int k = 0, x = s1; k < len; k++, x = tour.next( x ) )
+            {
+                run[ reversed ? len - 1 - k : k ] = x;
+            }
+
+            tour.orOptMove( s1, len, e, reversed );
+
+            double measured = measure( coords, tour );
+            assertEquals( before + delta, measured, EPSILON );
+            assertEquals( measured, tour.getLength(), EPSILON );
+            assertPermutation( tour );
+
+            /* the run now follows e */
+            for ( int k = 0, x = tour.next( e ); k < len; k++,
+                x = tour.next( x ) )
+            {
+                assertEquals( run[ k ], x );
+            }
+        }
+    }
+
+    @Test
+    void positionsFollowTheOrderAfterMoves ()
+    {
+        CoordinateSet coords = new ArrayCoordinateSet(
+            InstanceGenerator.uniform( N, 5, 500, 500 ) );
+        Tour tour = new Tour( coords );
+        tour.twoOptMove( 0, N / 2 );
+        tour.orOptMove( 10, 3, 40, true );
+
+        /* go through each of the positions */
+        for ( int tour_i = 0; tour_i < N; tour_i++ )
+        {
+            int x = tour.getLocation( tour_i );
+            assertEquals( tour_i, tour.getPosition( x ) );
+            assertEquals( tour.getLocation( ( tour_i + 1 ) % N ),
+                tour.next( x ) );
+            assertEquals( tour.getLocation( ( tour_i - 1 + N ) % N ),
+                tour.prev( x ) );
+        }
+    }
+
+    /**
+     * Returns the length of a tour, measured from scratch.
+     *
+     * @param coords the locations
+     * @param tour the tour
+     *
+     * @return the length of the tour
+     */
+    static double measure ( CoordinateSet coords, Tour tour )
+    {
+        return new Tour( coords, tour.toArray() ).getLength();
+    }
+
+    /**
+     * Checks that a tour visits every location exactly once.
+     *
+     * @param tour the tour
+     */
+    static void assertPermutation ( Tour tour )
+    {
+        int[] sorted = tour.toArray();
+        Arrays.sort( sorted );
+        for ( int i = 0; i < sorted.length; i++ )
+        {
+            assertEquals( i, sorted[ i ] );
+        }
+    }
+
+    /**
+     * Returns whether a location is in the run of a given length starting at
+     * another.
+     *
+     * @param tour the tour
+     * @param x the location
+     * @param s1 the first location of the run
+     * @param len the number of locations in the run
+     *
+     * @return is x in the run?
+     */
+    private static boolean inRun ( Tour tour, int x, int s1, int len )
+    {
+        for ( int k = 0, y = s1; k < len; k++, y = tour.next( y ) )
+        {
+            if ( y == x )
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}